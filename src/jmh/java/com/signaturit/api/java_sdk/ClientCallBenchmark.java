@@ -0,0 +1,120 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of {@link Client} calls against a local server answering at
+ * once: request encoding, dispatch over a pooled connection and reading the
+ * body, for a GET, a listing with query parameters, a multipart POST and a form
+ * encoded PATCH.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientCallBenchmark {
+
+    @Param({"1", "100"})
+    public int recipients;
+
+    private MockWebServer server;
+    private Client client;
+
+    private HashMap<String, Object> query;
+    private ArrayList<HashMap<String, Object>> recipientList;
+    private HashMap<String, Object> patch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(200).setBody("{\"id\":\"foo\"}");
+            }
+        });
+        server.start();
+
+        client = new Client("token");
+
+        Field field = Client.class.getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+
+        query = new HashMap<String, Object>();
+        query.put("crm_id", "CUSTOM_ID");
+
+        recipientList = new ArrayList<HashMap<String, Object>>();
+
+        for (int i = 0; i < recipients; ++i) {
+            HashMap<String, Object> recipient = new HashMap<String, Object>();
+            recipient.put("name", "Recipient " + i);
+            recipient.put("email", "recipient" + i + "@example.com");
+
+            recipientList.add(recipient);
+        }
+
+        patch = new HashMap<String, Object>();
+        patch.put("name", "Team");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Benchmark
+    public String getSignature() throws IOException {
+        return body(client.getSignature("6f6c974e-2910-11e4-b3d4-0aa7697eb409"));
+    }
+
+    @Benchmark
+    public String getSignaturesWithParameters() throws IOException {
+        return body(client.getSignatures(100, 0, query));
+    }
+
+    @Benchmark
+    public String createSignature() throws IOException {
+        return body(client.createSignature(new ArrayList<File>(), recipientList, new HashMap<String, Object>()));
+    }
+
+    @Benchmark
+    public String updateBranding() throws IOException {
+        return body(client.updateBranding("brandingId", patch));
+    }
+
+    private static String body(Response response) throws IOException {
+        try {
+            return response.body().string();
+        } finally {
+            response.close();
+        }
+    }
+}
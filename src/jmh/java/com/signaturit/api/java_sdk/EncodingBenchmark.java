@@ -0,0 +1,178 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.FormBody;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of encoding request parameters: the URL and query string of listings, the
+ * multipart body of a signature request and the form body of a PATCH, built part
+ * by part or streamed by {@link FormEncoder}, for recipient lists from 1 to 10k
+ * entries. A campaign send, with constant options and a document, is encoded in
+ * full or around the segments a {@link PreparedRequest} encodes once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodingBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int recipients;
+
+    private HashMap<String, Object> query;
+    private ArrayList<HashMap<String, Object>> recipientList;
+    private HashMap<String, Object> body;
+
+    private HashMap<String, Object> campaign;
+    private byte[] document;
+
+    private String boundary;
+    private ByteString head;
+    private ByteString tail;
+
+    private final Buffer sink = new Buffer();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] ids = new String[recipients];
+
+        recipientList = new ArrayList<HashMap<String, Object>>();
+
+        for (int i = 0; i < recipients; ++i) {
+            ids[i] = "6f6c974e-2910-11e4-b3d4-0aa7697eb409-" + i;
+
+            HashMap<String, Object> recipient = new HashMap<String, Object>();
+            recipient.put("name", "Recipient " + i);
+            recipient.put("email", "recipient" + i + "@example.com");
+            recipient.put("phone", "34" + (600000000 + i));
+
+            recipientList.add(recipient);
+        }
+
+        body = new HashMap<String, Object>();
+        body.put("recipients", recipientList);
+
+        HashMap<String, Object> options = new LinkedHashMap<String, Object>();
+        options.put("branding_id", "6472aad7-2910-11e4-b3d4-0aa7697eb409");
+        options.put("templates", new String[]{"contract_template"});
+        options.put("callback_url", "https://example.com/signaturit/callback");
+        options.put("delivery_type", "email");
+        options.put("subject", "Please sign the contract");
+        options.put("body", "Please review and sign the attached contract.");
+
+        campaign = new LinkedHashMap<String, Object>(options);
+        campaign.put("recipients", recipientList);
+
+        document = new byte[64 * 1024];
+
+        boundary = UUID.randomUUID().toString();
+        head = FormEncoder.parts(options, null, boundary);
+        tail = FormEncoder.parts(null, documents(), boundary);
+
+        query = new LinkedHashMap<String, Object>();
+        query.put("crm_id", "CUSTOM_ID");
+        query.put("status", "completed");
+        query.put("ids", ids);
+    }
+
+    @Benchmark
+    public String putGetParamsToUrl() {
+        return RequestHelper.putGetParamsToUrl("signatures.json?limit=100&offset=0", query);
+    }
+
+    @Benchmark
+    public String expandRoute() {
+        return Routes.SIGNATURES_PAGE.expand(Client.SANDBOX_BASE_URL + Client.API_VERSION, query, 100, 0);
+    }
+
+    @Benchmark
+    public MultipartBody parseParameters() {
+        MultipartBody.Builder builder = new MultipartBody.Builder().setType(MultipartBody.FORM);
+
+        RequestHelper.parseParameters(builder, recipientList, "recipients");
+
+        return builder.build();
+    }
+
+    @Benchmark
+    public FormBody parseParametersPatch() {
+        FormBody.Builder builder = new FormBody.Builder();
+
+        RequestHelper.parseParametersPatch(builder, recipientList, "recipients");
+
+        return builder.build();
+    }
+
+    @Benchmark
+    public long writeMultipartParts() throws IOException {
+        return write(parseParameters());
+    }
+
+    @Benchmark
+    public long writeMultipartStreamed() throws IOException {
+        return write(FormEncoder.multipart(body, null));
+    }
+
+    @Benchmark
+    public long writeFormFields() throws IOException {
+        return write(parseParametersPatch());
+    }
+
+    @Benchmark
+    public long writeFormStreamed() throws IOException {
+        return write(FormEncoder.form(body));
+    }
+
+    @Benchmark
+    public long writeCampaign() throws IOException {
+        return write(FormEncoder.multipart(campaign, documents(), boundary));
+    }
+
+    @Benchmark
+    public long writePreparedCampaign() throws IOException {
+        return write(FormEncoder.multipart(head, body, tail, boundary));
+    }
+
+    private List<UploadSource> documents() {
+        List<UploadSource> documents = new ArrayList<UploadSource>();
+        documents.add(UploadSource.of("contract.pdf", ByteBuffer.wrap(document)));
+
+        return documents;
+    }
+
+    /**
+     * Counts the body the way the transport does before writing it.
+     */
+    private long write(RequestBody requestBody) throws IOException {
+        sink.clear();
+        requestBody.writeTo(sink);
+
+        return requestBody.contentLength() + sink.size();
+    }
+}
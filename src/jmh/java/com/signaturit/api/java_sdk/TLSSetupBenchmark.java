@@ -0,0 +1,43 @@
+package com.signaturit.api.java_sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the TLS materials a request needs before it can open a socket:
+ * building them for every call, as the SDK used to do, against reusing the
+ * process wide instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TLSSetupBenchmark {
+
+    @Benchmark
+    public void uncachedMaterials(Blackhole blackhole) {
+        TLSSocketFactory socketFactory = RequestHelper.newSocketFactory(TlsPolicy.COMPATIBILITY);
+
+        blackhole.consume(socketFactory);
+        blackhole.consume(socketFactory.getCipherList());
+        blackhole.consume(RequestHelper.newTrustManager());
+    }
+
+    @Benchmark
+    public void cachedMaterials(Blackhole blackhole) {
+        blackhole.consume(RequestHelper.socketFactory(TlsPolicy.COMPATIBILITY));
+        blackhole.consume(RequestHelper.trustManager());
+    }
+}
@@ -0,0 +1,122 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of blocking {@link Client} calls fanned out on platform threads
+ * against one virtual thread per call, with a stand-in server adding latency.
+ * The virtual variant needs JDK 21 or newer and fails its setup otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ThreadingBenchmark {
+
+    private static final int CALLS = 500;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"20"})
+    public int latencyMillis;
+
+    @Param({"32"})
+    public int platformThreads;
+
+    private MockWebServer server;
+    private Client client;
+    private List<Callable<Integer>> operations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("virtual".equals(threads) && !VirtualThreads.isSupported()) {
+            throw new IllegalStateException("virtual threads require JDK 21 or newer");
+        }
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .setBody("{\"id\":\"foo\"}")
+                        .setHeadersDelay(latencyMillis, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+
+        client = new Client("token", false, new ClientOptions().setMaxIdleConnections(CALLS));
+
+        Field field = Client.class.getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+
+        operations = new ArrayList<Callable<Integer>>();
+
+        for (int i = 0; i < CALLS; ++i) {
+            final String signatureId = "id" + i;
+
+            operations.add(new Callable<Integer>() {
+                @Override
+                public Integer call() throws IOException {
+                    Response response = client.getSignature(signatureId);
+
+                    response.close();
+
+                    return response.code();
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public int fanOut() throws Exception {
+        List<Future<Integer>> futures = "virtual".equals(threads)
+                ? VirtualThreads.invokeAll(operations)
+                : VirtualThreads.invokeAll(operations, platformThreads);
+
+        int ok = 0;
+
+        for (Future<Integer> future : futures) {
+            ok += future.get() == 200 ? 1 : 0;
+        }
+
+        return ok;
+    }
+}
@@ -0,0 +1,794 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link Client}. Every method enqueues its call on the
+ * transport dispatcher and returns immediately, so a handful of threads can keep
+ * many requests in flight. Cancelling a returned future cancels its HTTP call.
+ * Futures complete on a dispatcher thread, chain blocking work with the
+ * {@code *Async} stages of {@link CompletableFuture} and your own executor.
+ */
+public class AsyncClient implements Closeable {
+
+    /**
+     * access token that provides access to the API methods
+     */
+    private final String accessToken;
+
+    /**
+     * URL
+     */
+    private String url;
+
+    /**
+     * transport shared by every call made through this client
+     */
+    private final OkHttpClient httpClient;
+
+    /**
+     * whether closing this client releases the transport, false for a view of a {@link Client}
+     */
+    private final boolean ownsTransport;
+
+    /**
+     * @param accessToken the token that grant access and identify the user
+     * @param production  define if use production or sandbox end-point.
+     * @param options     connection pool, dispatcher and timeout sizing
+     */
+    public AsyncClient(String accessToken, boolean production, ClientOptions options) {
+        this.accessToken = "Bearer " + accessToken;
+
+        this.url = production ? Client.PROD_BASE_URL : Client.SANDBOX_BASE_URL;
+        this.url += Client.API_VERSION;
+
+        this.httpClient = RequestHelper.newClient(options);
+        this.ownsTransport = true;
+    }
+
+    /**
+     * @param accessToken the token that grant access and identify the user
+     * @param production  define if use production or sandbox end-point.
+     */
+    public AsyncClient(String accessToken, boolean production) {
+        this(accessToken, production, new ClientOptions());
+    }
+
+    /**
+     * @param accessToken the token that grant access and identify the user
+     */
+    public AsyncClient(String accessToken) {
+        this(accessToken, false);
+    }
+
+    /**
+     * @param accessToken the already prefixed authorization header value
+     * @param url         API URL including the version
+     * @param httpClient  transport to share, left open when this client is closed
+     */
+    AsyncClient(String accessToken, String url, OkHttpClient httpClient) {
+        this.accessToken = accessToken;
+        this.url = url;
+        this.httpClient = httpClient;
+        this.ownsTransport = false;
+    }
+
+    public CompletableFuture<Response> countSignatures() {
+        String route = "signatures/count.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> countSignatures(Map<String, Object> parameters) {
+        String endpoint = Routes.SIGNATURES_COUNT.expand(this.url, parameters);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSignature(String signatureId) {
+        String endpoint = Routes.SIGNATURE.expand(this.url, signatureId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSignatures() {
+        String route = "signatures.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSignatures(int limit) {
+        String endpoint = Routes.SIGNATURES_LIMIT.expand(this.url, limit);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSignatures(int limit, int offset) {
+        String endpoint = Routes.SIGNATURES_PAGE.expand(this.url, limit, offset);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSignatures(Map<String, Object> parameters) {
+        String endpoint = Routes.SIGNATURES.expand(this.url, parameters);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSignatures(int limit, int offset, Map<String, Object> parameters) {
+        String endpoint = Routes.SIGNATURES_PAGE.expand(this.url, parameters, limit, offset);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> downloadAuditTrail(String signatureId, String documentId) {
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<DownloadResult> downloadAuditTrail(String signatureId, String documentId, Path target) {
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadAuditTrail(String signatureId, String documentId, OutputStream target) {
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadAuditTrail(String signatureId, String documentId, WritableByteChannel target) {
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<Response> downloadSignedDocument(String signatureId, String documentId) {
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<DownloadResult> downloadSignedDocument(String signatureId, String documentId, Path target) {
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadSignedDocument(String signatureId, String documentId, OutputStream target) {
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadSignedDocument(String signatureId, String documentId, WritableByteChannel target) {
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<Response> createSignature(
+            ArrayList<File> files,
+            ArrayList<HashMap<String, Object>> recipients
+    ) {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+
+        return this.createSignature(files, recipients, parameters);
+    }
+
+    public CompletableFuture<Response> createSignature(
+            ArrayList<File> files,
+            ArrayList<HashMap<String, Object>> recipients,
+            Map<String, Object> parameters
+    ) {
+        String route = "signatures.json";
+
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public CompletableFuture<Response> createSignatureFromSources(
+            List<UploadSource> documents,
+            ArrayList<HashMap<String, Object>> recipients,
+            Map<String, Object> parameters
+    ) {
+        String route = "signatures.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestUploadAsync(this.httpClient, this.url + route, this.accessToken, parameters, documents);
+    }
+
+    public CompletableFuture<Response> cancelSignature(String signatureId) {
+        String endpoint = Routes.SIGNATURE_CANCEL.expand(this.url, signatureId);
+
+        return RequestHelper.requestPatchAsync(this.httpClient, endpoint, this.accessToken, null);
+    }
+
+    public CompletableFuture<Response> sendSignatureReminder(String signatureId) {
+        String endpoint = Routes.SIGNATURE_REMINDER.expand(this.url, signatureId);
+
+        return RequestHelper.requestPostAsync(this.httpClient, endpoint, this.accessToken, null, null);
+    }
+
+    public CompletableFuture<Response> getBranding(String brandingId) {
+        String endpoint = Routes.BRANDING.expand(this.url, brandingId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getBrandings() {
+        String route = "brandings.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> createBranding(HashMap<String, Object> parameters) {
+        String route = "brandings.json";
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, null);
+    }
+
+    public CompletableFuture<Response> updateBranding(String brandingId, HashMap<String, Object> parameters) {
+        String endpoint = Routes.BRANDING.expand(this.url, brandingId);
+
+        return RequestHelper.requestPatchAsync(this.httpClient, endpoint, this.accessToken, parameters);
+    }
+
+    public CompletableFuture<Response> getTemplates() {
+        String route = "templates.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getEmails() {
+        String route = "emails.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getEmails(int limit) {
+        String endpoint = Routes.EMAILS_LIMIT.expand(this.url, limit);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getEmails(int limit, int offset) {
+        String endpoint = Routes.EMAILS_PAGE.expand(this.url, limit, offset);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getEmails(Map<String, Object> parameters) {
+        String endpoint = Routes.EMAILS.expand(this.url, parameters);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getEmails(int limit, int offset, Map<String, Object> parameters) {
+        String endpoint = Routes.EMAILS_PAGE.expand(this.url, parameters, limit, offset);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> countEmails() {
+        String route = "emails/count.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> countEmails(Map<String, Object> parameters) {
+        String endpoint = Routes.EMAILS_COUNT.expand(this.url, parameters);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getEmail(String emailId) {
+        String endpoint = Routes.EMAIL.expand(this.url, emailId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> createEmail(
+            ArrayList<File> files,
+            ArrayList<HashMap<String, Object>> recipients
+    ) {
+        String route = "emails.json";
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public CompletableFuture<Response> createEmail(
+            ArrayList<File> files,
+            ArrayList<HashMap<String, Object>> recipients,
+            String subject,
+            String body
+    ) {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+
+        return this.createEmail(files, recipients, subject, body, parameters);
+    }
+
+    public CompletableFuture<Response> createEmail(
+            ArrayList<File> files,
+            ArrayList<HashMap<String, Object>> recipients,
+            HashMap<String, Object> parameters
+    ) {
+        String route = "emails.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public CompletableFuture<Response> createEmail(
+            ArrayList<File> files,
+            ArrayList<HashMap<String, Object>> recipients,
+            String subject,
+            String body,
+            HashMap<String, Object> parameters
+    ) {
+        String route = "emails.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+        parameters.put("subject", subject);
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public CompletableFuture<Response> createEmailFromSources(
+            List<UploadSource> documents,
+            ArrayList<HashMap<String, Object>> recipients,
+            String subject,
+            String body,
+            HashMap<String, Object> parameters
+    ) {
+        String route = "emails.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+        parameters.put("subject", subject);
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestUploadAsync(this.httpClient, this.url + route, this.accessToken, parameters, documents);
+    }
+
+    public CompletableFuture<Response> downloadEmailAuditTrail(String emailId, String certificateId) {
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<DownloadResult> downloadEmailAuditTrail(String emailId, String certificateId, Path target) {
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadEmailAuditTrail(String emailId, String certificateId, OutputStream target) {
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadEmailAuditTrail(String emailId, String certificateId, WritableByteChannel target) {
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<Response> getContacts() {
+        String route = "contacts.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getContact(String contactId) {
+        String endpoint = Routes.CONTACT.expand(this.url, contactId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> updateContact(String contactId, String email, String name) {
+        String endpoint = Routes.CONTACT.expand(this.url, contactId);
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+
+        if (email != null) {
+            parameters.put("email", email);
+        }
+
+        if (name != null) {
+            parameters.put("name", name);
+        }
+
+        return RequestHelper.requestPatchAsync(this.httpClient, endpoint, this.accessToken, parameters);
+    }
+
+    public CompletableFuture<Response> deleteContact(String contactId) {
+        String endpoint = Routes.CONTACT.expand(this.url, contactId);
+
+        return RequestHelper.requestDeleteAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> createContact(String email, String name) {
+        String route = "contacts.json";
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+
+        parameters.put("email", email);
+        parameters.put("name", name);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, null);
+    }
+
+    public CompletableFuture<Response> getPackages() {
+        String route = "packages.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getPackage(String packageId) {
+        String endpoint = Routes.PACKAGE.expand(this.url, packageId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> downloadPackageAuditTrail(String packageId) {
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<DownloadResult> downloadPackageAuditTrail(String packageId, Path target) {
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadPackageAuditTrail(String packageId, OutputStream target) {
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadPackageAuditTrail(String packageId, WritableByteChannel target) {
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<Response> getTeam() {
+        String route = "team.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getUsers() {
+        String route = "team/users.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getUser(String userId) {
+        String endpoint = Routes.USER.expand(this.url, userId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> removeUser(String userId) {
+        String endpoint = Routes.USER.expand(this.url, userId);
+
+        return RequestHelper.requestDeleteAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSeats() {
+        String route = "team/seats.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> removeSeat(String seatId) {
+        String endpoint = Routes.SEAT.expand(this.url, seatId);
+
+        return RequestHelper.requestDeleteAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> inviteUser(String email, String role) {
+        String route = "team/users.json";
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("email", email);
+        parameters.put("role", role);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, null);
+    }
+
+    public CompletableFuture<Response> changeUseRole(String userId, String role) {
+        String endpoint = Routes.USER.expand(this.url, userId);
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("role", role);
+
+        return RequestHelper.requestPatchAsync(this.httpClient, endpoint, this.accessToken, parameters);
+    }
+
+    public CompletableFuture<Response> getGroups() {
+        String route = "team/groups.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getGroup(String groupId) {
+        String endpoint = Routes.GROUP.expand(this.url, groupId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> deleteGroup(String groupId) {
+        String endpoint = Routes.GROUP.expand(this.url, groupId);
+
+        return RequestHelper.requestDeleteAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> createGroup(String name) {
+        String route = "team/groups.json";
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("name", name);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, null);
+    }
+
+    public CompletableFuture<Response> updateGroup(String groupId, String name) {
+        String endpoint = Routes.GROUP.expand(this.url, groupId);
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("name", name);
+
+        return RequestHelper.requestPatchAsync(this.httpClient, endpoint, this.accessToken, parameters);
+    }
+
+    public CompletableFuture<Response> addMemberToGroup(String groupId, String userId) {
+        String endpoint = Routes.GROUP_MEMBER.expand(this.url, groupId, userId);
+
+        return RequestHelper.requestPostAsync(this.httpClient, endpoint, this.accessToken, null, null);
+    }
+
+    public CompletableFuture<Response> removeMemberFromGroup(String groupId, String userId) {
+        String endpoint = Routes.GROUP_MEMBER.expand(this.url, groupId, userId);
+
+        return RequestHelper.requestDeleteAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> addManagerToGroup(String groupId, String userId) {
+        String endpoint = Routes.GROUP_MANAGER.expand(this.url, groupId, userId);
+
+        return RequestHelper.requestPostAsync(this.httpClient, endpoint, this.accessToken, null, null);
+    }
+
+    public CompletableFuture<Response> removeManagerFromGroup(String groupId, String userId) {
+        String endpoint = Routes.GROUP_MANAGER.expand(this.url, groupId, userId);
+
+        return RequestHelper.requestDeleteAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSubscriptions() {
+        String route = "subscriptions.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSubscription(String subscriptionId) {
+        String endpoint = Routes.SUBSCRIPTION.expand(this.url, subscriptionId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> createSubscription(String url, String[] events) {
+        String route = "subscriptions.json";
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("url", url);
+        parameters.put("events", events);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, null);
+    }
+
+    public CompletableFuture<Response> updateSubscription(String subscriptionId, String url, String[] events) {
+        String endpoint = Routes.SUBSCRIPTION.expand(this.url, subscriptionId);
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+
+        if (url != null) {
+            parameters.put("url", url);
+        }
+
+        if (events != null) {
+            parameters.put("events", events);
+        }
+
+        return RequestHelper.requestPatchAsync(this.httpClient, endpoint, this.accessToken, parameters);
+    }
+
+    public CompletableFuture<Response> deleteSubscription(String subscriptionId) {
+        String endpoint = Routes.SUBSCRIPTION.expand(this.url, subscriptionId);
+
+        return RequestHelper.requestDeleteAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSMS() {
+        String route = "sms.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSMS(int limit, int offset, Map<String, Object> parameters) {
+        String endpoint = Routes.SMS_PAGE.expand(this.url, parameters, limit, offset);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> getSingleSMS(String smsId) {
+        String endpoint = Routes.SMS_MESSAGE.expand(this.url, smsId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> countSMS() {
+        String route = "sms/count.json";
+
+        return RequestHelper.requestGetAsync(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public CompletableFuture<Response> countSMS(Map<String, Object> parameters) {
+        String endpoint = Routes.SMS_COUNT.expand(this.url, parameters);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<Response> createSMS(
+            ArrayList<File> files,
+            ArrayList<HashMap<String, Object>> recipients,
+            String body,
+            HashMap<String, Object> parameters
+    ) {
+        String route = "sms.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestPostAsync(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public CompletableFuture<Response> createSMSFromSources(
+            List<UploadSource> documents,
+            ArrayList<HashMap<String, Object>> recipients,
+            String body,
+            HashMap<String, Object> parameters
+    ) {
+        String route = "sms.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestUploadAsync(this.httpClient, this.url + route, this.accessToken, parameters, documents);
+    }
+
+    public CompletableFuture<Response> downloadSmsAuditTrail(String smsId, String certificateId) {
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestGetAsync(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public CompletableFuture<DownloadResult> downloadSmsAuditTrail(String smsId, String certificateId, Path target) {
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadSmsAuditTrail(String smsId, String certificateId, OutputStream target) {
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public CompletableFuture<DownloadResult> downloadSmsAuditTrail(String smsId, String certificateId, WritableByteChannel target) {
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestDownloadAsync(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    /**
+     * @return counters of the HTTP cache, null when {@link ClientOptions#setCache(java.io.File, long)} was not set
+     */
+    public CacheStats getCacheStats() {
+        return CacheStats.of(this.httpClient);
+    }
+
+    /**
+     * @return queue and wait metrics of the rate limiter, null when no rate limit was set in {@link ClientOptions}
+     */
+    public RateLimiter getRateLimiter() {
+        return RateLimiter.of(this.httpClient);
+    }
+
+    /**
+     * @return retry counters per route, null when no retry policy was set in {@link ClientOptions}
+     */
+    public RetryStats getRetryStats() {
+        return RetryStats.of(this.httpClient);
+    }
+
+    /**
+     * @return hedging counters, null when no hedging policy was set in {@link ClientOptions}
+     */
+    public HedgingStats getHedgingStats() {
+        return HedgingStats.of(this.httpClient);
+    }
+
+    /**
+     * @return circuit breaker of the endpoint families, null when no policy was set in {@link ClientOptions}
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return CircuitBreaker.of(this.httpClient);
+    }
+
+    /**
+     * Evicts the idle pooled connections, stops the dispatcher threads and closes
+     * the HTTP cache. The client must not be used once closed.
+     * <p>
+     * Closing a view returned by {@link Client#async()} does nothing, its transport
+     * is released by closing the {@link Client}.
+     */
+    @Override
+    public void close() {
+        if (!this.ownsTransport) {
+            return;
+        }
+
+        RequestHelper.closeClient(this.httpClient);
+    }
+}
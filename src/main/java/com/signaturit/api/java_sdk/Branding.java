@@ -0,0 +1,103 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Branding applied to requests: colours shown to signers and recipients.
+ */
+public final class Branding {
+
+    static final JsonDecoder<Branding> DECODER = new JsonDecoder<Branding>() {
+        @Override
+        public Branding decode(JsonReader reader) throws IOException {
+            Branding branding = new Branding();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        branding.id = Models.string(reader);
+                        break;
+                    case "created_at":
+                        branding.createdAt = Models.string(reader);
+                        break;
+                    case "layout_color":
+                        branding.layoutColor = Models.string(reader);
+                        break;
+                    case "text_color":
+                        branding.textColor = Models.string(reader);
+                        break;
+                    case "signature_color":
+                        branding.signatureColor = Models.string(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return branding;
+        }
+    };
+
+    private String id;
+
+    private String createdAt;
+
+    private String layoutColor;
+
+    private String textColor;
+
+    private String signatureColor;
+
+    private Branding() {
+    }
+
+    /**
+     * @param response response of {@link Client#getBranding(String)}, closed once decoded
+     * @return the decoded branding
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static Branding fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getBrandings()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<Branding> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getLayoutColor() {
+        return layoutColor;
+    }
+
+    public String getTextColor() {
+        return textColor;
+    }
+
+    public String getSignatureColor() {
+        return signatureColor;
+    }
+
+    @Override
+    public String toString() {
+        return "Branding{id=" + id + "}";
+    }
+}
@@ -0,0 +1,98 @@
+package com.signaturit.api.java_sdk;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of one item of a {@link BulkDownloader} batch.
+ */
+public final class BulkDownloadResult {
+
+    public enum Kind {
+        SIGNED_DOCUMENT("signed"),
+        AUDIT_TRAIL("audit_trail"),
+        EMAIL_AUDIT_TRAIL("audit_trail"),
+        SMS_AUDIT_TRAIL("audit_trail"),
+        PACKAGE_AUDIT_TRAIL("audit_trail");
+
+        private final String suffix;
+
+        Kind(String suffix) {
+            this.suffix = suffix;
+        }
+
+        String fileName(String parentId, String documentId) {
+            return documentId == null
+                    ? parentId + "_" + suffix + ".pdf"
+                    : parentId + "_" + documentId + "_" + suffix + ".pdf";
+        }
+    }
+
+    private final Kind kind;
+    private final String parentId;
+    private final String documentId;
+    private final Path target;
+    private final DownloadResult result;
+    private final Exception error;
+
+    BulkDownloadResult(Kind kind, String parentId, String documentId, Path target, DownloadResult result, Exception error) {
+        this.kind = kind;
+        this.parentId = parentId;
+        this.documentId = documentId;
+        this.target = target;
+        this.result = result;
+        this.error = error;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return signature, email, SMS or package ID
+     */
+    public String getParentId() {
+        return parentId;
+    }
+
+    /**
+     * @return document or certificate ID, null for package audit trails and for
+     * signatures whose documents could not be listed
+     */
+    public String getDocumentId() {
+        return documentId;
+    }
+
+    /**
+     * @return file written, null when the item failed before a target was chosen
+     */
+    public Path getTarget() {
+        return target;
+    }
+
+    /**
+     * @return bytes and duration of the transfer, null when the item failed
+     */
+    public DownloadResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return the failure, null when the item succeeded
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkDownloadResult{kind=" + kind
+                + ", parentId=" + parentId
+                + ", documentId=" + documentId
+                + ", " + (isSuccessful() ? result : "error=" + error)
+                + "}";
+    }
+}
@@ -0,0 +1,227 @@
+package com.signaturit.api.java_sdk;
+
+import com.signaturit.api.java_sdk.BulkDownloadResult.Kind;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Downloads signed documents and audit trails in parallel, streaming each file
+ * into a target directory.
+ * <p>
+ * At most {@code parallelism} downloads run at once. A failing item never fails
+ * the batch: every method returns one {@link BulkDownloadResult} per item, in the
+ * order of the input. Size the connection pool of the client, see
+ * {@link ClientOptions#setMaxIdleConnections(int)}, to at least the parallelism so
+ * that connections are reused between items.
+ */
+public class BulkDownloader {
+
+    private final Client client;
+    private final Path directory;
+    private final int parallelism;
+
+    /**
+     * @param client      client used for every download
+     * @param directory   existing directory the files are written to
+     * @param parallelism maximum number of concurrent downloads
+     */
+    public BulkDownloader(Client client, Path directory, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism < 1: " + parallelism);
+        }
+
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Not a directory: " + directory);
+        }
+
+        this.client = client;
+        this.directory = directory;
+        this.parallelism = parallelism;
+    }
+
+    public List<BulkDownloadResult> downloadSignedDocuments(List<DocumentRef> documents) throws InterruptedException {
+        return run(tasks(Kind.SIGNED_DOCUMENT, documents));
+    }
+
+    public List<BulkDownloadResult> downloadAuditTrails(List<DocumentRef> documents) throws InterruptedException {
+        return run(tasks(Kind.AUDIT_TRAIL, documents));
+    }
+
+    /**
+     * Downloads the signed document and the audit trail of every document of the
+     * signatures. The documents of each signature are listed first; a signature
+     * that cannot be listed yields a single failed result without document ID.
+     *
+     * @param signatureIds signatures to archive
+     * @return two results per document, signed document first
+     */
+    public List<BulkDownloadResult> downloadSignatures(List<String> signatureIds) throws InterruptedException {
+        List<Callable<BulkDownloadResult>> listings = new ArrayList<Callable<BulkDownloadResult>>();
+        final List<List<String>> documentIds = new ArrayList<List<String>>();
+
+        for (final String signatureId : signatureIds) {
+            final int index = documentIds.size();
+
+            documentIds.add(Collections.<String>emptyList());
+
+            listings.add(new Callable<BulkDownloadResult>() {
+                @Override
+                public BulkDownloadResult call() {
+                    try {
+                        List<String> ids = listDocumentIds(signatureId);
+
+                        synchronized (documentIds) {
+                            documentIds.set(index, ids);
+                        }
+
+                        return null;
+                    } catch (Exception e) {
+                        return new BulkDownloadResult(Kind.SIGNED_DOCUMENT, signatureId, null, null, null, e);
+                    }
+                }
+            });
+        }
+
+        List<BulkDownloadResult> failedListings = run(listings);
+        List<Callable<BulkDownloadResult>> downloads = new ArrayList<Callable<BulkDownloadResult>>();
+
+        for (int i = 0; i < signatureIds.size(); ++i) {
+            if (failedListings.get(i) != null) {
+                downloads.add(completed(failedListings.get(i)));
+
+                continue;
+            }
+
+            for (String documentId : documentIds.get(i)) {
+                downloads.add(task(Kind.SIGNED_DOCUMENT, signatureIds.get(i), documentId));
+                downloads.add(task(Kind.AUDIT_TRAIL, signatureIds.get(i), documentId));
+            }
+        }
+
+        return run(downloads);
+    }
+
+    public List<BulkDownloadResult> downloadEmailAuditTrails(List<DocumentRef> certificates) throws InterruptedException {
+        return run(tasks(Kind.EMAIL_AUDIT_TRAIL, certificates));
+    }
+
+    public List<BulkDownloadResult> downloadSmsAuditTrails(List<DocumentRef> certificates) throws InterruptedException {
+        return run(tasks(Kind.SMS_AUDIT_TRAIL, certificates));
+    }
+
+    public List<BulkDownloadResult> downloadPackageAuditTrails(List<String> packageIds) throws InterruptedException {
+        List<Callable<BulkDownloadResult>> tasks = new ArrayList<Callable<BulkDownloadResult>>();
+
+        for (String packageId : packageIds) {
+            tasks.add(task(Kind.PACKAGE_AUDIT_TRAIL, packageId, null));
+        }
+
+        return run(tasks);
+    }
+
+    private List<Callable<BulkDownloadResult>> tasks(Kind kind, List<DocumentRef> documents) {
+        List<Callable<BulkDownloadResult>> tasks = new ArrayList<Callable<BulkDownloadResult>>();
+
+        for (DocumentRef document : documents) {
+            tasks.add(task(kind, document.getParentId(), document.getDocumentId()));
+        }
+
+        return tasks;
+    }
+
+    private Callable<BulkDownloadResult> task(final Kind kind, final String parentId, final String documentId) {
+        return new Callable<BulkDownloadResult>() {
+            @Override
+            public BulkDownloadResult call() {
+                Path target = null;
+
+                try {
+                    target = resolve(kind.fileName(parentId, documentId));
+
+                    return new BulkDownloadResult(kind, parentId, documentId, target, download(kind, parentId, documentId, target), null);
+                } catch (Exception e) {
+                    return new BulkDownloadResult(kind, parentId, documentId, target, null, e);
+                }
+            }
+        };
+    }
+
+    private DownloadResult download(Kind kind, String parentId, String documentId, Path target) throws IOException {
+        switch (kind) {
+            case SIGNED_DOCUMENT:
+                return client.downloadSignedDocument(parentId, documentId, target);
+            case AUDIT_TRAIL:
+                return client.downloadAuditTrail(parentId, documentId, target);
+            case EMAIL_AUDIT_TRAIL:
+                return client.downloadEmailAuditTrail(parentId, documentId, target);
+            case SMS_AUDIT_TRAIL:
+                return client.downloadSmsAuditTrail(parentId, documentId, target);
+            default:
+                return client.downloadPackageAuditTrail(parentId, target);
+        }
+    }
+
+    private Path resolve(String fileName) {
+        Path target = directory.resolve(fileName).normalize();
+
+        if (!directory.normalize().equals(target.getParent()) || fileName.indexOf('/') >= 0 || fileName.indexOf('\\') >= 0) {
+            throw new IllegalArgumentException("Invalid ID in file name " + fileName);
+        }
+
+        return target;
+    }
+
+    private List<String> listDocumentIds(String signatureId) throws IOException {
+        List<String> ids = new ArrayList<String>();
+
+        for (Document document : Signature.fromResponse(client.getSignature(signatureId)).getDocuments()) {
+            ids.add(document.getId());
+        }
+
+        return ids;
+    }
+
+    private List<BulkDownloadResult> run(List<Callable<BulkDownloadResult>> tasks) throws InterruptedException {
+        List<BulkDownloadResult> results = new ArrayList<BulkDownloadResult>(tasks.size());
+
+        if (tasks.isEmpty()) {
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()));
+
+        try {
+            for (Future<BulkDownloadResult> future : executor.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    // tasks report their own failures
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    private static Callable<BulkDownloadResult> completed(final BulkDownloadResult result) {
+        return new Callable<BulkDownloadResult>() {
+            @Override
+            public BulkDownloadResult call() {
+                return result;
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the HTTP cache enabled with {@link ClientOptions#setCache(java.io.File, long)}.
+ * Only GET requests are counted, the other methods are never cached.
+ */
+public final class CacheStats {
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong revalidationCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    CacheStats() {
+    }
+
+    /**
+     * @return GET requests made through the cache
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return responses served from the cache without contacting the API
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return conditional requests the API answered with 304 Not Modified, served from the cache
+     */
+    public long getRevalidationCount() {
+        return revalidationCount.get();
+    }
+
+    /**
+     * @return responses downloaded from the API, because nothing was cached or the cached copy changed
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{requests=" + getRequestCount()
+                + ", hits=" + getHitCount()
+                + ", revalidations=" + getRevalidationCount()
+                + ", misses=" + getMissCount()
+                + "}";
+    }
+
+    /**
+     * @return application interceptor classifying every GET response
+     */
+    Interceptor interceptor() {
+        return new StatsInterceptor(this);
+    }
+
+    /**
+     * @param client transport built by {@link RequestHelper#newClient(ClientOptions)}
+     * @return the counters of its cache, or null when it has none
+     */
+    static CacheStats of(OkHttpClient client) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (interceptor instanceof StatsInterceptor) {
+                return ((StatsInterceptor) interceptor).stats;
+            }
+        }
+
+        return null;
+    }
+
+    private void record(Response response) {
+        Response cacheResponse = response.cacheResponse();
+        Response networkResponse = response.networkResponse();
+
+        requestCount.incrementAndGet();
+
+        if (cacheResponse != null && networkResponse == null) {
+            hitCount.incrementAndGet();
+        } else if (cacheResponse != null && networkResponse.code() == 304) {
+            revalidationCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+    }
+
+    private static class StatsInterceptor implements Interceptor {
+
+        private final CacheStats stats;
+
+        StatsInterceptor(CacheStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Response response = chain.proceed(chain.request());
+
+            if (chain.request().method().equals("GET")) {
+                stats.record(response);
+            }
+
+            return response;
+        }
+    }
+}
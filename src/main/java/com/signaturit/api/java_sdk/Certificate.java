@@ -0,0 +1,115 @@
+package com.signaturit.api.java_sdk;
+
+import java.io.IOException;
+
+/**
+ * Certificate of a certified email or SMS, one per recipient.
+ */
+public final class Certificate {
+
+    static final JsonDecoder<Certificate> DECODER = new JsonDecoder<Certificate>() {
+        @Override
+        public Certificate decode(JsonReader reader) throws IOException {
+            Certificate certificate = new Certificate();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        certificate.id = Models.string(reader);
+                        break;
+                    case "created_at":
+                        certificate.createdAt = Models.string(reader);
+                        break;
+                    case "email":
+                        certificate.email = Models.string(reader);
+                        break;
+                    case "name":
+                        certificate.name = Models.string(reader);
+                        break;
+                    case "phone":
+                        certificate.phone = Models.string(reader);
+                        break;
+                    case "status":
+                        certificate.status = Models.string(reader);
+                        break;
+                    case "file":
+                        certificate.file = Models.object(reader, FileInfo.DECODER);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return certificate;
+        }
+    };
+
+    private String id;
+
+    private String createdAt;
+
+    private String email;
+
+    private String name;
+
+    private String phone;
+
+    private String status;
+
+    private FileInfo file;
+
+    private Certificate() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return recipient email, null for SMS
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * @return recipient name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return recipient phone, null for emails
+     */
+    public String getPhone() {
+        return phone;
+    }
+
+    /**
+     * @return delivery status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @return attached file, null when not sent
+     */
+    public FileInfo getFile() {
+        return file;
+    }
+
+    @Override
+    public String toString() {
+        return "Certificate{id=" + id + "}";
+    }
+}
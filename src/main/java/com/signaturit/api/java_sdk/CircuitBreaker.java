@@ -0,0 +1,288 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker keyed by {@link EndpointFamily}, enabled with
+ * {@link ClientOptions#setCircuitBreakerPolicy(CircuitBreakerPolicy)}.
+ * <p>
+ * While the circuit of a family is closed its calls go through and their outcome
+ * is recorded. When the failure or slow-call rate reaches the threshold of the
+ * policy the circuit opens, and calls to the family fail at once with a
+ * {@link CircuitBreakerOpenException} instead of waiting for a degraded API.
+ * After the open duration the circuit is half-open: a few trial calls are let
+ * through, and it closes once they all succeed or opens again at the first failed
+ * or slow one. Cancelled calls are not recorded.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Notified of every change of state, on the thread of the call that caused it.
+     */
+    public interface Listener {
+        void onStateChange(EndpointFamily family, State from, State to);
+    }
+
+    private final CircuitBreakerPolicy policy;
+
+    private final Map<EndpointFamily, Circuit> circuits = new EnumMap<EndpointFamily, Circuit>(EndpointFamily.class);
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    CircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+
+        for (EndpointFamily family : EndpointFamily.values()) {
+            this.circuits.put(family, new Circuit(family));
+        }
+    }
+
+    /**
+     * @param family endpoints of the circuit
+     * @return the state of the circuit, which stays open past its open duration until the next call
+     */
+    public State getState(EndpointFamily family) {
+        Circuit circuit = circuits.get(family);
+
+        synchronized (circuit) {
+            return circuit.state;
+        }
+    }
+
+    /**
+     * @return calls failed fast because their circuit was open
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("CircuitBreaker{");
+
+        for (EndpointFamily family : EndpointFamily.values()) {
+            builder.append(family).append('=').append(getState(family)).append(", ");
+        }
+
+        return builder.append("rejected=").append(getRejectedCount()).append('}').toString();
+    }
+
+    /**
+     * @return application interceptor failing fast the calls to open circuits
+     */
+    Interceptor interceptor() {
+        return new BreakerInterceptor(this);
+    }
+
+    /**
+     * @param client transport built by {@link RequestHelper#newClient(ClientOptions)}
+     * @return its circuit breaker, or null when it has none
+     */
+    static CircuitBreaker of(OkHttpClient client) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (interceptor instanceof BreakerInterceptor) {
+                return ((BreakerInterceptor) interceptor).breaker;
+            }
+        }
+
+        return null;
+    }
+
+    private void publish(EndpointFamily family, State from, State to) {
+        if (from == to) {
+            return;
+        }
+
+        for (Listener listener : listeners) {
+            listener.onStateChange(family, from, to);
+        }
+    }
+
+    private class Circuit {
+
+        private final EndpointFamily family;
+
+        private State state = State.CLOSED;
+
+        /**
+         * Outcomes of the last calls, as {@code FAILED | SLOW} bits, in a ring
+         */
+        private final byte[] outcomes = new byte[policy.getWindowSize()];
+        private int outcomeCount = 0;
+
+        private long openedAt;
+        private int trialsStarted;
+        private int trialsSucceeded;
+
+        Circuit(EndpointFamily family) {
+            this.family = family;
+        }
+
+        /**
+         * @return false when the call must fail fast
+         */
+        boolean tryAcquire() {
+            State from;
+            State to;
+
+            synchronized (this) {
+                from = state;
+
+                if (state == State.OPEN) {
+                    if (System.nanoTime() - openedAt < TimeUnit.MILLISECONDS.toNanos(policy.getOpenDurationMillis())) {
+                        return false;
+                    }
+
+                    state = State.HALF_OPEN;
+                    trialsStarted = 0;
+                    trialsSucceeded = 0;
+                }
+
+                if (state == State.HALF_OPEN) {
+                    if (trialsStarted == policy.getHalfOpenCalls()) {
+                        return false;
+                    }
+
+                    trialsStarted++;
+                }
+
+                to = state;
+            }
+
+            publish(family, from, to);
+
+            return true;
+        }
+
+        /**
+         * Gives back the trial slot of a call that was cancelled.
+         */
+        synchronized void release() {
+            if (state == State.HALF_OPEN && trialsStarted > 0) {
+                trialsStarted--;
+            }
+        }
+
+        void record(boolean failed, boolean slow) {
+            State from;
+            State to;
+
+            synchronized (this) {
+                from = state;
+
+                if (state == State.CLOSED) {
+                    outcomes[outcomeCount % outcomes.length] = (byte) ((failed ? 1 : 0) | (slow ? 2 : 0));
+                    outcomeCount++;
+
+                    if (outcomeCount >= policy.getMinimumCalls() && tripped()) {
+                        open();
+                    }
+                } else if (state == State.HALF_OPEN) {
+                    if (failed || slow) {
+                        open();
+                    } else if (++trialsSucceeded == policy.getHalfOpenCalls()) {
+                        state = State.CLOSED;
+                        outcomeCount = 0;
+                    }
+                }
+
+                to = state;
+            }
+
+            publish(family, from, to);
+        }
+
+        private boolean tripped() {
+            int calls = Math.min(outcomeCount, outcomes.length);
+            int failures = 0;
+            int slowCalls = 0;
+
+            for (int i = 0; i < calls; ++i) {
+                failures += outcomes[i] & 1;
+                slowCalls += (outcomes[i] >> 1) & 1;
+            }
+
+            return failures >= policy.getFailureRateThreshold() * calls
+                    || slowCalls >= policy.getSlowCallRateThreshold() * calls;
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    private static class BreakerInterceptor implements Interceptor {
+
+        private final CircuitBreaker breaker;
+
+        BreakerInterceptor(CircuitBreaker breaker) {
+            this.breaker = breaker;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            EndpointFamily family = EndpointFamily.of(chain.request().url().encodedPath());
+            Circuit circuit = breaker.circuits.get(family);
+
+            if (!circuit.tryAcquire()) {
+                breaker.rejectedCount.incrementAndGet();
+
+                throw new CircuitBreakerOpenException(family);
+            }
+
+            long start = System.nanoTime();
+            Response response;
+
+            try {
+                response = chain.proceed(chain.request());
+            } catch (IOException e) {
+                if (chain.call().isCanceled()) {
+                    circuit.release();
+                } else {
+                    circuit.record(true, slow(start));
+                }
+
+                throw e;
+            } catch (RuntimeException e) {
+                circuit.release();
+
+                throw e;
+            }
+
+            circuit.record(response.code() >= 500, slow(start));
+
+            return response;
+        }
+
+        private boolean slow(long start) {
+            return System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(breaker.policy.getSlowCallDurationMillis());
+        }
+    }
+}
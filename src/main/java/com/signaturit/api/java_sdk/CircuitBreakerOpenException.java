@@ -0,0 +1,23 @@
+package com.signaturit.api.java_sdk;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request while the circuit of its endpoint family is open.
+ */
+public class CircuitBreakerOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final EndpointFamily family;
+
+    CircuitBreakerOpenException(EndpointFamily family) {
+        super("Circuit breaker open for " + family + " endpoints");
+
+        this.family = family;
+    }
+
+    public EndpointFamily getFamily() {
+        return family;
+    }
+}
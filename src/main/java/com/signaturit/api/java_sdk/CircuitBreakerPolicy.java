@@ -0,0 +1,163 @@
+package com.signaturit.api.java_sdk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thresholds of the {@link CircuitBreaker}, set with
+ * {@link ClientOptions#setCircuitBreakerPolicy(CircuitBreakerPolicy)}.
+ * <p>
+ * The outcome of the last {@code windowSize} calls of each endpoint family is
+ * kept. Once at least {@code minimumCalls} are known, the circuit of the family
+ * opens when the share of failed calls, I/O errors and 5xx responses, or the share
+ * of calls slower than {@code slowCallDuration} reaches its threshold.
+ */
+public class CircuitBreakerPolicy {
+
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.8;
+
+    public static final long DEFAULT_SLOW_CALL_DURATION_MILLIS = 10000;
+
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+
+    public static final long DEFAULT_OPEN_DURATION_MILLIS = 30000;
+
+    public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+    private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+    private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+
+    private long slowCallDurationMillis = DEFAULT_SLOW_CALL_DURATION_MILLIS;
+
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+
+    private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+
+    private long openDurationMillis = DEFAULT_OPEN_DURATION_MILLIS;
+
+    private int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+
+    /**
+     * @param threshold share of failed calls, between 0 and 1, opening the circuit
+     * @return this policy
+     */
+    public CircuitBreakerPolicy setFailureRateThreshold(double threshold) {
+        this.failureRateThreshold = checkRate(threshold);
+
+        return this;
+    }
+
+    /**
+     * @param threshold share of slow calls, between 0 and 1, opening the circuit
+     * @return this policy
+     */
+    public CircuitBreakerPolicy setSlowCallRateThreshold(double threshold) {
+        this.slowCallRateThreshold = checkRate(threshold);
+
+        return this;
+    }
+
+    /**
+     * @param duration time after which a call is slow
+     * @param unit     unit of the time
+     * @return this policy
+     */
+    public CircuitBreakerPolicy setSlowCallDuration(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("duration <= 0: " + duration);
+        }
+
+        this.slowCallDurationMillis = unit.toMillis(duration);
+
+        return this;
+    }
+
+    /**
+     * @param windowSize   number of recent calls the rates are computed from
+     * @param minimumCalls calls needed before the circuit can open
+     * @return this policy
+     */
+    public CircuitBreakerPolicy setWindow(int windowSize, int minimumCalls) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize < 1: " + windowSize);
+        }
+
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls not in [1, windowSize]: " + minimumCalls);
+        }
+
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+
+        return this;
+    }
+
+    /**
+     * @param duration time calls fail fast before trial calls are let through
+     * @param unit     unit of the time
+     * @return this policy
+     */
+    public CircuitBreakerPolicy setOpenDuration(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("duration < 0: " + duration);
+        }
+
+        this.openDurationMillis = unit.toMillis(duration);
+
+        return this;
+    }
+
+    /**
+     * @param halfOpenCalls trial calls that must succeed to close the circuit again
+     * @return this policy
+     */
+    public CircuitBreakerPolicy setHalfOpenCalls(int halfOpenCalls) {
+        if (halfOpenCalls < 1) {
+            throw new IllegalArgumentException("halfOpenCalls < 1: " + halfOpenCalls);
+        }
+
+        this.halfOpenCalls = halfOpenCalls;
+
+        return this;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public long getSlowCallDurationMillis() {
+        return slowCallDurationMillis;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public long getOpenDurationMillis() {
+        return openDurationMillis;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    private static double checkRate(double rate) {
+        if (!(rate > 0 && rate <= 1)) {
+            throw new IllegalArgumentException("rate not in (0, 1]: " + rate);
+        }
+
+        return rate;
+    }
+}
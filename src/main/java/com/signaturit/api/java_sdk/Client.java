@@ -1,15 +1,22 @@
 package com.signaturit.api.java_sdk;
 
+import okhttp3.OkHttpClient;
 import okhttp3.Response;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.OutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-public class Client {
+public class Client implements Closeable {
 
     /**
      * Signaturit's production API URL
@@ -36,15 +43,37 @@ public class Client {
      */
     private String url;
 
+    /**
+     * transport shared by every call made through this client
+     */
+    private final OkHttpClient httpClient;
+
+    /**
+     * in-process cache of decoded reference data, null when disabled
+     */
+    private final ReferenceDataCache referenceDataCache;
+
     /**
      * @param accessToken the token that grant access and identify the user
      * @param production  define if use production or sandbox end-point.
+     * @param options     connection pool, dispatcher and timeout sizing
      */
-    public Client(String accessToken, boolean production) {
+    public Client(String accessToken, boolean production, ClientOptions options) {
         this.accessToken = "Bearer " + accessToken;
 
         this.url = production ? Client.PROD_BASE_URL : Client.SANDBOX_BASE_URL;
         this.url += Client.API_VERSION;
+
+        this.httpClient = RequestHelper.newClient(options);
+        this.referenceDataCache = ReferenceDataCache.of(this.httpClient);
+    }
+
+    /**
+     * @param accessToken the token that grant access and identify the user
+     * @param production  define if use production or sandbox end-point.
+     */
+    public Client(String accessToken, boolean production) {
+        this(accessToken, production, new ClientOptions());
     }
 
     /**
@@ -57,65 +86,148 @@ public class Client {
     public Response countSignatures() throws IOException {
         String route = "signatures/count.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response countSignatures(Map<String, Object> parameters) throws IOException {
-        String route = RequestHelper.putGetParamsToUrl("signatures/count.json?", parameters);
+        String endpoint = Routes.SIGNATURES_COUNT.expand(this.url, parameters);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSignature(String signatureId) throws IOException {
-        String route = String.format("signatures/%s.json", signatureId);
+        String endpoint = Routes.SIGNATURE.expand(this.url, signatureId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSignatures() throws IOException {
         String route = "signatures.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getSignatures(int limit) throws IOException {
-        String route = String.format("signatures.json?limit=%d", limit);
+        String endpoint = Routes.SIGNATURES_LIMIT.expand(this.url, limit);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSignatures(int limit, int offset) throws IOException {
-        String route = String.format("signatures.json?limit=%d&offset=%d", limit, offset);
+        String endpoint = Routes.SIGNATURES_PAGE.expand(this.url, limit, offset);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSignatures(Map<String, Object> parameters) throws IOException {
-        String route = "signatures.json?";
+        String endpoint = Routes.SIGNATURES.expand(this.url, parameters);
 
-        route = RequestHelper.putGetParamsToUrl(route, parameters);
-
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSignatures(int limit, int offset, Map<String, Object> parameters) throws IOException {
-        String route = String.format("signatures.json?limit=%d&offset=%d", limit, offset);
+        String endpoint = Routes.SIGNATURES_PAGE.expand(this.url, parameters, limit, offset);
+
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
+    }
 
-        route = RequestHelper.putGetParamsToUrl(route, parameters);
+    /**
+     * @return every signature request, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllSignatures() {
+        return getAllSignatures(null, new PageOptions());
+    }
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+    /**
+     * @param parameters filters added to every page request
+     * @return every matching signature request, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllSignatures(Map<String, Object> parameters) {
+        return getAllSignatures(parameters, new PageOptions());
+    }
+
+    /**
+     * @param parameters filters added to every page request
+     * @param options    page size and prefetch depth
+     * @return every matching signature request, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllSignatures(Map<String, Object> parameters, PageOptions options) {
+        return pages(Routes.SIGNATURES_PAGE, parameters, options);
+    }
+
+    /**
+     * @param parameters filters added to the count and to every partition request
+     * @return every matching signature request, fetched in concurrent partitions
+     */
+    public PartitionedScan<Map<String, Object>> scanSignatures(Map<String, Object> parameters) {
+        return scanSignatures(parameters, new ScanOptions());
+    }
+
+    /**
+     * @param parameters filters added to the count and to every partition request
+     * @param options    partition size, parallelism and delivery order
+     * @return every matching signature request, fetched in concurrent partitions
+     */
+    public PartitionedScan<Map<String, Object>> scanSignatures(final Map<String, Object> parameters, ScanOptions options) {
+        return new PartitionedScan<Map<String, Object>>(
+                new PartitionedScan.Counter() {
+                    @Override
+                    public Response count() throws IOException {
+                        return countSignatures(parameters);
+                    }
+                },
+                pageFetcher(Routes.SIGNATURES_PAGE, parameters),
+                JsonDecoder.MAP,
+                options
+        );
     }
 
     public Response downloadAuditTrail(String signatureId, String documentId) throws IOException {
-        String route = String.format("signatures/%s/documents/%s/download/audit_trail", signatureId, documentId);
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public DownloadResult downloadAuditTrail(String signatureId, String documentId, Path target) throws IOException {
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadAuditTrail(String signatureId, String documentId, OutputStream target) throws IOException {
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadAuditTrail(String signatureId, String documentId, WritableByteChannel target) throws IOException {
+        String endpoint = Routes.SIGNATURE_AUDIT_TRAIL.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
     }
 
     public Response downloadSignedDocument(String signatureId, String documentId) throws IOException {
-        String route = String.format("signatures/%s/documents/%s/download/signed", signatureId, documentId);
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public DownloadResult downloadSignedDocument(String signatureId, String documentId, Path target) throws IOException {
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadSignedDocument(String signatureId, String documentId, OutputStream target) throws IOException {
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadSignedDocument(String signatureId, String documentId, WritableByteChannel target) throws IOException {
+        String endpoint = Routes.SIGNATURE_SIGNED_DOCUMENT.expand(this.url, signatureId, documentId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
     }
 
     public Response createSignature(
@@ -136,103 +248,190 @@ public class Client {
 
         parameters.put("recipients", recipients);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, files);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public Response createSignatureFromSources(
+            List<UploadSource> documents,
+            ArrayList<HashMap<String, Object>> recipients,
+            Map<String, Object> parameters
+    ) throws IOException {
+        String route = "signatures.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestUpload(this.httpClient, this.url + route, this.accessToken, parameters, documents);
+    }
+
+    /**
+     * @param files      documents sent with every request
+     * @param parameters options sent with every request, without recipients
+     * @return request sent once per recipient list
+     */
+    public PreparedRequest prepareSignature(
+            ArrayList<File> files,
+            Map<String, Object> parameters
+    ) throws IOException {
+        return this.prepareSignatureFromSources(UploadSource.fromFiles(files), parameters);
+    }
+
+    /**
+     * @param documents  documents sent with every request, read once
+     * @param parameters options sent with every request, without recipients
+     * @return request sent once per recipient list
+     */
+    public PreparedRequest prepareSignatureFromSources(
+            List<UploadSource> documents,
+            Map<String, Object> parameters
+    ) throws IOException {
+        String route = "signatures.json";
+
+        return new PreparedRequest(this.httpClient, this.url + route, this.accessToken, parameters, documents);
     }
 
     public Response cancelSignature(String signatureId) throws IOException {
-        String route = String.format("signatures/%s/cancel.json", signatureId);
+        String endpoint = Routes.SIGNATURE_CANCEL.expand(this.url, signatureId);
 
-        return RequestHelper.requestPatch(this.url + route, this.accessToken, null);
+        return RequestHelper.requestPatch(this.httpClient, endpoint, this.accessToken, null);
     }
 
     public Response sendSignatureReminder(String signatureId) throws IOException {
-        String route = String.format("signatures/%s/reminder.json", signatureId);
+        String endpoint = Routes.SIGNATURE_REMINDER.expand(this.url, signatureId);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, null, null);
+        return RequestHelper.requestPost(this.httpClient, endpoint, this.accessToken, null, null);
     }
 
     public Response getBranding(String brandingId) throws IOException {
-        String route = String.format("brandings/%s.json", brandingId);
+        String endpoint = Routes.BRANDING.expand(this.url, brandingId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getBrandings() throws IOException {
         String route = "brandings.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response createBranding(HashMap<String, Object> parameters) throws IOException {
         String route = "brandings.json";
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, null);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, null);
     }
 
     public Response updateBranding(String brandingId, HashMap<String, Object> parameters) throws IOException {
-        String route = String.format("brandings/%s.json", brandingId);
+        String endpoint = Routes.BRANDING.expand(this.url, brandingId);
 
-        return RequestHelper.requestPatch(this.url + route, this.accessToken, parameters);
+        return RequestHelper.requestPatch(this.httpClient, endpoint, this.accessToken, parameters);
     }
 
     public Response getTemplates() throws IOException {
         String route = "templates.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getEmails() throws IOException {
         String route = "emails.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getEmails(int limit) throws IOException {
-        String route = String.format("emails.json?limit=%d", limit);
+        String endpoint = Routes.EMAILS_LIMIT.expand(this.url, limit);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getEmails(int limit, int offset) throws IOException {
-        String route = String.format("emails.json?limit=%d&offset=%d", limit, offset);
+        String endpoint = Routes.EMAILS_PAGE.expand(this.url, limit, offset);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getEmails(Map<String, Object> parameters) throws IOException {
-        String route = "emails.json?";
+        String endpoint = Routes.EMAILS.expand(this.url, parameters);
 
-        route = RequestHelper.putGetParamsToUrl(route, parameters);
-
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getEmails(int limit, int offset, Map<String, Object> parameters) throws IOException {
-        String route = String.format("emails.json?limit=%d&offset=%d", limit, offset);
+        String endpoint = Routes.EMAILS_PAGE.expand(this.url, parameters, limit, offset);
+
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
+    }
+
+    /**
+     * @return every certified email, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllEmails() {
+        return getAllEmails(null, new PageOptions());
+    }
 
-        route = RequestHelper.putGetParamsToUrl(route, parameters);
+    /**
+     * @param parameters filters added to every page request
+     * @return every matching certified email, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllEmails(Map<String, Object> parameters) {
+        return getAllEmails(parameters, new PageOptions());
+    }
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+    /**
+     * @param parameters filters added to every page request
+     * @param options    page size and prefetch depth
+     * @return every matching certified email, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllEmails(Map<String, Object> parameters, PageOptions options) {
+        return pages(Routes.EMAILS_PAGE, parameters, options);
+    }
+
+    /**
+     * @param parameters filters added to the count and to every partition request
+     * @return every matching certified email, fetched in concurrent partitions
+     */
+    public PartitionedScan<Map<String, Object>> scanEmails(Map<String, Object> parameters) {
+        return scanEmails(parameters, new ScanOptions());
+    }
+
+    /**
+     * @param parameters filters added to the count and to every partition request
+     * @param options    partition size, parallelism and delivery order
+     * @return every matching certified email, fetched in concurrent partitions
+     */
+    public PartitionedScan<Map<String, Object>> scanEmails(final Map<String, Object> parameters, ScanOptions options) {
+        return new PartitionedScan<Map<String, Object>>(
+                new PartitionedScan.Counter() {
+                    @Override
+                    public Response count() throws IOException {
+                        return countEmails(parameters);
+                    }
+                },
+                pageFetcher(Routes.EMAILS_PAGE, parameters),
+                JsonDecoder.MAP,
+                options
+        );
     }
 
     public Response countEmails() throws IOException {
         String route = "emails/count.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response countEmails(Map<String, Object> parameters) throws IOException {
-        String route = "emails/count.json?";
-
-        route = RequestHelper.putGetParamsToUrl(route, parameters);
+        String endpoint = Routes.EMAILS_COUNT.expand(this.url, parameters);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getEmail(String emailId) throws IOException {
-        String route = String.format("emails/%s.json", emailId);
+        String endpoint = Routes.EMAIL.expand(this.url, emailId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response createEmail(
@@ -244,7 +443,7 @@ public class Client {
         HashMap<String, Object> parameters = new HashMap<String, Object>();
         parameters.put("recipients", recipients);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, files);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, files);
     }
 
     public Response createEmail(
@@ -271,7 +470,7 @@ public class Client {
 
         parameters.put("recipients", recipients);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, files);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, files);
     }
 
     public Response createEmail(
@@ -291,29 +490,108 @@ public class Client {
         parameters.put("subject", subject);
         parameters.put("recipients", recipients);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, files);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public Response createEmailFromSources(
+            List<UploadSource> documents,
+            ArrayList<HashMap<String, Object>> recipients,
+            String subject,
+            String body,
+            HashMap<String, Object> parameters
+    ) throws IOException {
+        String route = "emails.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+        parameters.put("subject", subject);
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestUpload(this.httpClient, this.url + route, this.accessToken, parameters, documents);
+    }
+
+    /**
+     * @param files      documents sent with every request
+     * @param subject    subject of every email
+     * @param body       body of every email
+     * @param parameters options sent with every request, without recipients
+     * @return request sent once per recipient list
+     */
+    public PreparedRequest prepareEmail(
+            ArrayList<File> files,
+            String subject,
+            String body,
+            HashMap<String, Object> parameters
+    ) throws IOException {
+        return this.prepareEmailFromSources(UploadSource.fromFiles(files), subject, body, parameters);
+    }
+
+    /**
+     * @param documents  documents sent with every request, read once
+     * @param subject    subject of every email
+     * @param body       body of every email
+     * @param parameters options sent with every request, without recipients
+     * @return request sent once per recipient list
+     */
+    public PreparedRequest prepareEmailFromSources(
+            List<UploadSource> documents,
+            String subject,
+            String body,
+            HashMap<String, Object> parameters
+    ) throws IOException {
+        String route = "emails.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+        parameters.put("subject", subject);
+
+        return new PreparedRequest(this.httpClient, this.url + route, this.accessToken, parameters, documents);
     }
 
     public Response downloadEmailAuditTrail(String emailId, String certificateId) throws IOException {
-        String route = String.format("emails/%s/certificates/%s/download/audit_trail", emailId, certificateId);
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public DownloadResult downloadEmailAuditTrail(String emailId, String certificateId, Path target) throws IOException {
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadEmailAuditTrail(String emailId, String certificateId, OutputStream target) throws IOException {
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+    public DownloadResult downloadEmailAuditTrail(String emailId, String certificateId, WritableByteChannel target) throws IOException {
+        String endpoint = Routes.EMAIL_AUDIT_TRAIL.expand(this.url, emailId, certificateId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
     }
 
     public Response getContacts() throws IOException {
         String route = "contacts.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getContact(String contactId) throws IOException {
-        String route = String.format("contacts/%s.json", contactId);
+        String endpoint = Routes.CONTACT.expand(this.url, contactId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response updateContact(String contactId, String email, String name) throws IOException {
-        String route = String.format("contacts/%s.json", contactId);
+        String endpoint = Routes.CONTACT.expand(this.url, contactId);
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
 
@@ -325,13 +603,13 @@ public class Client {
             parameters.put("name", name);
         }
 
-        return RequestHelper.requestPatch(this.url + route, this.accessToken, parameters);
+        return RequestHelper.requestPatch(this.httpClient, endpoint, this.accessToken, parameters);
     }
 
     public Response deleteContact(String contactId) throws IOException {
-        String route = String.format("contacts/%s.json", contactId);
+        String endpoint = Routes.CONTACT.expand(this.url, contactId);
 
-        return RequestHelper.requestDelete(this.url + route, this.accessToken);
+        return RequestHelper.requestDelete(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response createContact(String email, String name) throws IOException {
@@ -342,25 +620,43 @@ public class Client {
         parameters.put("email", email);
         parameters.put("name", name);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, null);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, null);
     }
 
     public Response getPackages() throws IOException {
         String route = "packages.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getPackage(String packageId) throws IOException {
-        String route = String.format("packages/%s.json", packageId);
+        String endpoint = Routes.PACKAGE.expand(this.url, packageId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public InputStream downloadPackageAuditTrail(String packageId) throws IOException {
-        String route = String.format("packages/%s/download/audit_trail", packageId);
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
 
-        return RequestHelper.requestGetFile(this.url + route, this.accessToken);
+        return RequestHelper.requestGetFile(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public DownloadResult downloadPackageAuditTrail(String packageId, Path target) throws IOException {
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadPackageAuditTrail(String packageId, OutputStream target) throws IOException {
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadPackageAuditTrail(String packageId, WritableByteChannel target) throws IOException {
+        String endpoint = Routes.PACKAGE_AUDIT_TRAIL.expand(this.url, packageId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
     }
 
     // TO-DO
@@ -371,37 +667,37 @@ public class Client {
     public Response getTeam() throws IOException {
         String route = "team.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getUsers() throws IOException {
         String route = "team/users.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getUser(String userId) throws IOException {
-        String route = String.format("team/users/%s.json", userId);
+        String endpoint = Routes.USER.expand(this.url, userId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response removeUser(String userId) throws IOException {
-        String route = String.format("team/users/%s.json", userId);
+        String endpoint = Routes.USER.expand(this.url, userId);
 
-        return RequestHelper.requestDelete(this.url + route, this.accessToken);
+        return RequestHelper.requestDelete(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSeats() throws IOException {
         String route = "team/seats.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response removeSeat(String seatId) throws IOException {
-        String route = String.format("team/seats/%s.json", seatId);
+        String endpoint = Routes.SEAT.expand(this.url, seatId);
 
-        return RequestHelper.requestDelete(this.url + route, this.accessToken);
+        return RequestHelper.requestDelete(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response inviteUser(String email, String role) throws IOException {
@@ -411,34 +707,34 @@ public class Client {
         parameters.put("email", email);
         parameters.put("role", role);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, null);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, null);
     }
 
     public Response changeUseRole(String userId, String role) throws IOException {
-        String route = String.format("team/users/%s.json", userId);
+        String endpoint = Routes.USER.expand(this.url, userId);
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
         parameters.put("role", role);
 
-        return RequestHelper.requestPatch(this.url + route, this.accessToken, parameters);
+        return RequestHelper.requestPatch(this.httpClient, endpoint, this.accessToken, parameters);
     }
 
     public Response getGroups() throws IOException {
         String route = "team/groups.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getGroup(String groupId) throws IOException {
-        String route = String.format("team/groups/%s.json", groupId);
+        String endpoint = Routes.GROUP.expand(this.url, groupId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response deleteGroup(String groupId) throws IOException {
-        String route = String.format("team/groups/%s.json", groupId);
+        String endpoint = Routes.GROUP.expand(this.url, groupId);
 
-        return RequestHelper.requestDelete(this.url + route, this.accessToken);
+        return RequestHelper.requestDelete(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response createGroup(String name) throws IOException {
@@ -447,52 +743,52 @@ public class Client {
         HashMap<String, Object> parameters = new HashMap<String, Object>();
         parameters.put("name", name);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, null);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, null);
     }
 
     public Response updateGroup(String groupId, String name) throws IOException {
-        String route = String.format("team/groups/%s.json", groupId);
+        String endpoint = Routes.GROUP.expand(this.url, groupId);
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
         parameters.put("name", name);
 
-        return RequestHelper.requestPatch(this.url + route, this.accessToken, parameters);
+        return RequestHelper.requestPatch(this.httpClient, endpoint, this.accessToken, parameters);
     }
 
     public Response addMemberToGroup(String groupId, String userId) throws IOException {
-        String route = String.format("team/groups/%s/members/%s.json", groupId, userId);
+        String endpoint = Routes.GROUP_MEMBER.expand(this.url, groupId, userId);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, null, null);
+        return RequestHelper.requestPost(this.httpClient, endpoint, this.accessToken, null, null);
     }
 
     public Response removeMemberFromGroup(String groupId, String userId) throws IOException {
-        String route = String.format("team/groups/%s/members/%s.json", groupId, userId);
+        String endpoint = Routes.GROUP_MEMBER.expand(this.url, groupId, userId);
 
-        return RequestHelper.requestDelete(this.url + route, this.accessToken);
+        return RequestHelper.requestDelete(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response addManagerToGroup(String groupId, String userId) throws IOException {
-        String route = String.format("team/groups/%s/managers/%s.json", groupId, userId);
+        String endpoint = Routes.GROUP_MANAGER.expand(this.url, groupId, userId);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, null, null);
+        return RequestHelper.requestPost(this.httpClient, endpoint, this.accessToken, null, null);
     }
 
     public Response removeManagerFromGroup(String groupId, String userId) throws IOException {
-        String route = String.format("team/groups/%s/managers/%s.json", groupId, userId);
+        String endpoint = Routes.GROUP_MANAGER.expand(this.url, groupId, userId);
 
-        return RequestHelper.requestDelete(this.url + route, this.accessToken);
+        return RequestHelper.requestDelete(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSubscriptions() throws IOException {
         String route = "subscriptions.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response getSubscription(String subscriptionId) throws IOException {
-        String route = String.format("subscriptions/%s.json", subscriptionId);
+        String endpoint = Routes.SUBSCRIPTION.expand(this.url, subscriptionId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response createSubscription(String url, String[] events) throws IOException {
@@ -502,11 +798,11 @@ public class Client {
         parameters.put("url", url);
         parameters.put("events", events);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, null);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, null);
     }
 
     public Response updateSubscription(String subscriptionId, String url, String[] events) throws IOException {
-        String route = String.format("subscriptions/%s.json", subscriptionId);
+        String endpoint = Routes.SUBSCRIPTION.expand(this.url, subscriptionId);
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
 
@@ -518,37 +814,67 @@ public class Client {
             parameters.put("events", events);
         }
 
-        return RequestHelper.requestPatch(this.url + route, this.accessToken, parameters);
+        return RequestHelper.requestPatch(this.httpClient, endpoint, this.accessToken, parameters);
     }
 
     public Response deleteSubscription(String subscriptionId) throws IOException {
-        String route = String.format("subscriptions/%s.json", subscriptionId);
+        String endpoint = Routes.SUBSCRIPTION.expand(this.url, subscriptionId);
 
-        return RequestHelper.requestDelete(this.url + route, this.accessToken);
+        return RequestHelper.requestDelete(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response getSMS() throws IOException {
         String route = "sms.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
+    }
+
+    public Response getSMS(int limit, int offset, Map<String, Object> parameters) throws IOException {
+        String endpoint = Routes.SMS_PAGE.expand(this.url, parameters, limit, offset);
+
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
+    }
+
+    /**
+     * @return every certified SMS, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllSMS() {
+        return getAllSMS(null, new PageOptions());
+    }
+
+    /**
+     * @param parameters filters added to every page request
+     * @return every matching certified SMS, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllSMS(Map<String, Object> parameters) {
+        return getAllSMS(parameters, new PageOptions());
+    }
+
+    /**
+     * @param parameters filters added to every page request
+     * @param options    page size and prefetch depth
+     * @return every matching certified SMS, fetched page by page while iterating
+     */
+    public PagedIterable<Map<String, Object>> getAllSMS(Map<String, Object> parameters, PageOptions options) {
+        return pages(Routes.SMS_PAGE, parameters, options);
     }
 
     public Response getSingleSMS(String smsId) throws IOException {
-        String route = String.format("sms/%s.json", smsId);
+        String endpoint = Routes.SMS_MESSAGE.expand(this.url, smsId);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response countSMS() throws IOException {
         String route = "sms/count.json";
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, this.url + route, this.accessToken);
     }
 
     public Response countSMS(Map<String, Object> parameters) throws IOException {
-        String route = RequestHelper.putGetParamsToUrl("sms/count.json?", parameters);
+        String endpoint = Routes.SMS_COUNT.expand(this.url, parameters);
 
-        return RequestHelper.requestGet(this.url + route, this.accessToken);
+        return RequestHelper.requestGet(this.httpClient, endpoint, this.accessToken);
     }
 
     public Response createSMS(
@@ -566,12 +892,263 @@ public class Client {
         parameters.put("body", body);
         parameters.put("recipients", recipients);
 
-        return RequestHelper.requestPost(this.url + route, this.accessToken, parameters, files);
+        return RequestHelper.requestPost(this.httpClient, this.url + route, this.accessToken, parameters, files);
+    }
+
+    public Response createSMSFromSources(
+            List<UploadSource> documents,
+            ArrayList<HashMap<String, Object>> recipients,
+            String body,
+            HashMap<String, Object> parameters
+    ) throws IOException {
+        String route = "sms.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+        parameters.put("recipients", recipients);
+
+        return RequestHelper.requestUpload(this.httpClient, this.url + route, this.accessToken, parameters, documents);
+    }
+
+    /**
+     * @param files      documents sent with every request
+     * @param body       text of every SMS
+     * @param parameters options sent with every request, without recipients
+     * @return request sent once per recipient list
+     */
+    public PreparedRequest prepareSMS(
+            ArrayList<File> files,
+            String body,
+            HashMap<String, Object> parameters
+    ) throws IOException {
+        return this.prepareSMSFromSources(UploadSource.fromFiles(files), body, parameters);
+    }
+
+    /**
+     * @param documents  documents sent with every request, read once
+     * @param body       text of every SMS
+     * @param parameters options sent with every request, without recipients
+     * @return request sent once per recipient list
+     */
+    public PreparedRequest prepareSMSFromSources(
+            List<UploadSource> documents,
+            String body,
+            HashMap<String, Object> parameters
+    ) throws IOException {
+        String route = "sms.json";
+
+        if (parameters == null) {
+            parameters = new HashMap<String, Object>();
+        }
+
+        parameters.put("body", body);
+
+        return new PreparedRequest(this.httpClient, this.url + route, this.accessToken, parameters, documents);
     }
 
     public InputStream downloadSmsAuditTrail(String smsId, String certificateId) throws IOException {
-        String route = String.format("sms/%s/certificates/%s/download/audit_trail", smsId, certificateId);
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestGetFile(this.httpClient, endpoint, this.accessToken);
+    }
+
+    public DownloadResult downloadSmsAuditTrail(String smsId, String certificateId, Path target) throws IOException {
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
 
-        return RequestHelper.requestGetFile(this.url + route, this.accessToken);
+    public DownloadResult downloadSmsAuditTrail(String smsId, String certificateId, OutputStream target) throws IOException {
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    public DownloadResult downloadSmsAuditTrail(String smsId, String certificateId, WritableByteChannel target) throws IOException {
+        String endpoint = Routes.SMS_AUDIT_TRAIL.expand(this.url, smsId, certificateId);
+
+        return RequestHelper.requestDownload(this.httpClient, endpoint, this.accessToken, DownloadTarget.of(target));
+    }
+
+    private PagedIterable<Map<String, Object>> pages(RouteTemplate route, Map<String, Object> parameters, PageOptions options) {
+        return new PagedIterable<Map<String, Object>>(pageFetcher(route, parameters), JsonDecoder.MAP, options);
+    }
+
+    /**
+     * @param route template taking the limit and the offset of the page
+     */
+    private PagedIterable.PageFetcher pageFetcher(final RouteTemplate route, final Map<String, Object> parameters) {
+        return new PagedIterable.PageFetcher() {
+            @Override
+            public CompletableFuture<Response> fetch(int limit, int offset) {
+                return RequestHelper.requestGetAsync(httpClient, route.expand(url, parameters, limit, offset), accessToken);
+            }
+        };
+    }
+
+    /**
+     * The {@code getCached} methods serve decoded reference data from the
+     * {@link ReferenceDataCache} when enabled, and fetch it on every call otherwise.
+     *
+     * @return every branding of the account
+     */
+    public List<Branding> getCachedBrandings() throws IOException {
+        return cached(ReferenceData.BRANDINGS, "brandings.json", new ReferenceDataCache.Loader<List<Branding>>() {
+            @Override
+            public List<Branding> load() throws IOException {
+                return Branding.listFromResponse(getBrandings());
+            }
+        });
+    }
+
+    public Branding getCachedBranding(final String brandingId) throws IOException {
+        return cached(ReferenceData.BRANDINGS, Routes.BRANDING.expand("", brandingId), new ReferenceDataCache.Loader<Branding>() {
+            @Override
+            public Branding load() throws IOException {
+                return Branding.fromResponse(getBranding(brandingId));
+            }
+        });
+    }
+
+    public List<Map<String, Object>> getCachedTemplates() throws IOException {
+        return cached(ReferenceData.TEMPLATES, "templates.json", new ReferenceDataCache.Loader<List<Map<String, Object>>>() {
+            @Override
+            public List<Map<String, Object>> load() throws IOException {
+                return Models.listFromResponse(getTemplates(), JsonDecoder.MAP);
+            }
+        });
+    }
+
+    public List<User> getCachedUsers() throws IOException {
+        return cached(ReferenceData.USERS, "team/users.json", new ReferenceDataCache.Loader<List<User>>() {
+            @Override
+            public List<User> load() throws IOException {
+                return User.listFromResponse(getUsers());
+            }
+        });
+    }
+
+    public User getCachedUser(final String userId) throws IOException {
+        return cached(ReferenceData.USERS, Routes.USER.expand("", userId), new ReferenceDataCache.Loader<User>() {
+            @Override
+            public User load() throws IOException {
+                return User.fromResponse(getUser(userId));
+            }
+        });
+    }
+
+    public List<Map<String, Object>> getCachedSeats() throws IOException {
+        return cached(ReferenceData.SEATS, "team/seats.json", new ReferenceDataCache.Loader<List<Map<String, Object>>>() {
+            @Override
+            public List<Map<String, Object>> load() throws IOException {
+                return Models.listFromResponse(getSeats(), JsonDecoder.MAP);
+            }
+        });
+    }
+
+    public List<Group> getCachedGroups() throws IOException {
+        return cached(ReferenceData.GROUPS, "team/groups.json", new ReferenceDataCache.Loader<List<Group>>() {
+            @Override
+            public List<Group> load() throws IOException {
+                return Group.listFromResponse(getGroups());
+            }
+        });
+    }
+
+    public Group getCachedGroup(final String groupId) throws IOException {
+        return cached(ReferenceData.GROUPS, Routes.GROUP.expand("", groupId), new ReferenceDataCache.Loader<Group>() {
+            @Override
+            public Group load() throws IOException {
+                return Group.fromResponse(getGroup(groupId));
+            }
+        });
+    }
+
+    public List<Subscription> getCachedSubscriptions() throws IOException {
+        return cached(ReferenceData.SUBSCRIPTIONS, "subscriptions.json", new ReferenceDataCache.Loader<List<Subscription>>() {
+            @Override
+            public List<Subscription> load() throws IOException {
+                return Subscription.listFromResponse(getSubscriptions());
+            }
+        });
+    }
+
+    public Subscription getCachedSubscription(final String subscriptionId) throws IOException {
+        return cached(ReferenceData.SUBSCRIPTIONS, Routes.SUBSCRIPTION.expand("", subscriptionId), new ReferenceDataCache.Loader<Subscription>() {
+            @Override
+            public Subscription load() throws IOException {
+                return Subscription.fromResponse(getSubscription(subscriptionId));
+            }
+        });
+    }
+
+    /**
+     * @return the in-process cache behind the {@code getCached} methods, null when
+     * {@link ClientOptions#setReferenceDataCache(int)} was not set
+     */
+    public ReferenceDataCache getReferenceDataCache() {
+        return this.referenceDataCache;
+    }
+
+    private <T> T cached(ReferenceData kind, String route, ReferenceDataCache.Loader<T> loader) throws IOException {
+        if (this.referenceDataCache == null) {
+            return loader.load();
+        }
+
+        return this.referenceDataCache.get(kind, route, loader);
+    }
+
+    /**
+     * @return counters of the HTTP cache, null when {@link ClientOptions#setCache(java.io.File, long)} was not set
+     */
+    public CacheStats getCacheStats() {
+        return CacheStats.of(this.httpClient);
+    }
+
+    /**
+     * @return queue and wait metrics of the rate limiter, null when no rate limit was set in {@link ClientOptions}
+     */
+    public RateLimiter getRateLimiter() {
+        return RateLimiter.of(this.httpClient);
+    }
+
+    /**
+     * @return retry counters per route, null when no retry policy was set in {@link ClientOptions}
+     */
+    public RetryStats getRetryStats() {
+        return RetryStats.of(this.httpClient);
+    }
+
+    /**
+     * @return hedging counters, null when no hedging policy was set in {@link ClientOptions}
+     */
+    public HedgingStats getHedgingStats() {
+        return HedgingStats.of(this.httpClient);
+    }
+
+    /**
+     * @return circuit breaker of the endpoint families, null when no policy was set in {@link ClientOptions}
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return CircuitBreaker.of(this.httpClient);
+    }
+
+    /**
+     * @return a non-blocking view of this client that shares its transport, closing it leaves this client open
+     */
+    public AsyncClient async() {
+        return new AsyncClient(this.accessToken, this.url, this.httpClient);
+    }
+
+    /**
+     * Evicts the idle pooled connections, stops the dispatcher threads and closes
+     * the HTTP cache. The client must not be used once closed.
+     */
+    @Override
+    public void close() {
+        RequestHelper.closeClient(this.httpClient);
     }
 }
@@ -0,0 +1,468 @@
+package com.signaturit.api.java_sdk;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ClientOptions {
+
+    /**
+     * Default number of idle connections kept in the pool
+     */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+    /**
+     * Default time, in seconds, an idle connection is kept alive
+     */
+    public static final long DEFAULT_KEEP_ALIVE_DURATION = 300;
+
+    /**
+     * Default maximum number of requests executed concurrently
+     */
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+
+    /**
+     * Default maximum number of requests executed concurrently against the same host
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+
+    /**
+     * Default time, in seconds, reference data is kept in the in-process cache
+     */
+    public static final long DEFAULT_REFERENCE_DATA_TTL = 300;
+
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+
+    private long keepAliveDurationMillis = TimeUnit.SECONDS.toMillis(DEFAULT_KEEP_ALIVE_DURATION);
+
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+
+    private long timeoutMillis = TimeUnit.SECONDS.toMillis(RequestHelper.TIMEOUT);
+
+    private boolean virtualThreads = false;
+
+    private TlsPolicy tlsPolicy = TlsPolicy.MODERN;
+
+    private File cacheDirectory = null;
+
+    private long cacheMaxSize = 0;
+
+    private int referenceDataCacheSize = 0;
+
+    private boolean coalesceGets = false;
+
+    private RetryPolicy retryPolicy = null;
+
+    private HedgingPolicy hedgingPolicy = null;
+
+    private CircuitBreakerPolicy circuitBreakerPolicy = null;
+
+    private final List<MetricsListener> metricsListeners = new ArrayList<MetricsListener>();
+
+    private double rateLimit = 0;
+
+    private int rateLimitBurst = 0;
+
+    private final Map<EndpointFamily, Double> familyRateLimits = new EnumMap<EndpointFamily, Double>(EndpointFamily.class);
+
+    private final Map<EndpointFamily, Integer> familyRateLimitBursts = new EnumMap<EndpointFamily, Integer>(EndpointFamily.class);
+
+    private final Map<ReferenceData, Long> referenceDataTtlMillis = new EnumMap<ReferenceData, Long>(ReferenceData.class);
+
+    public ClientOptions() {
+        for (ReferenceData kind : ReferenceData.values()) {
+            referenceDataTtlMillis.put(kind, TimeUnit.SECONDS.toMillis(DEFAULT_REFERENCE_DATA_TTL));
+        }
+    }
+
+    /**
+     * @param maxIdleConnections maximum number of idle connections kept in the pool
+     * @return these options
+     */
+    public ClientOptions setMaxIdleConnections(int maxIdleConnections) {
+        if (maxIdleConnections < 0) {
+            throw new IllegalArgumentException("maxIdleConnections < 0: " + maxIdleConnections);
+        }
+
+        this.maxIdleConnections = maxIdleConnections;
+
+        return this;
+    }
+
+    /**
+     * @param duration time an idle connection is kept alive before being evicted
+     * @param unit     unit of the duration
+     * @return these options
+     */
+    public ClientOptions setKeepAliveDuration(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("keepAliveDuration <= 0: " + duration);
+        }
+
+        this.keepAliveDurationMillis = unit.toMillis(duration);
+
+        return this;
+    }
+
+    /**
+     * @param maxRequests maximum number of requests executed concurrently by the dispatcher
+     * @return these options
+     */
+    public ClientOptions setMaxRequests(int maxRequests) {
+        if (maxRequests < 1) {
+            throw new IllegalArgumentException("maxRequests < 1: " + maxRequests);
+        }
+
+        this.maxRequests = maxRequests;
+
+        return this;
+    }
+
+    /**
+     * @param maxRequestsPerHost maximum number of requests executed concurrently against the same host
+     * @return these options
+     */
+    public ClientOptions setMaxRequestsPerHost(int maxRequestsPerHost) {
+        if (maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException("maxRequestsPerHost < 1: " + maxRequestsPerHost);
+        }
+
+        this.maxRequestsPerHost = maxRequestsPerHost;
+
+        return this;
+    }
+
+    /**
+     * @param timeout connect, read and write timeout
+     * @param unit    unit of the timeout
+     * @return these options
+     */
+    public ClientOptions setTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout < 0: " + timeout);
+        }
+
+        this.timeoutMillis = unit.toMillis(timeout);
+
+        return this;
+    }
+
+    /**
+     * Runs the dispatcher, which executes asynchronous calls, on virtual threads.
+     * Requires JDK 21 or newer, see {@link VirtualThreads}.
+     *
+     * @param virtualThreads true to use one virtual thread per asynchronous call
+     * @return these options
+     * @throws UnsupportedOperationException when enabled on a JDK without virtual threads
+     */
+    public ClientOptions setVirtualThreads(boolean virtualThreads) {
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or newer");
+        }
+
+        this.virtualThreads = virtualThreads;
+
+        return this;
+    }
+
+    /**
+     * @param tlsPolicy TLS and HTTP versions to negotiate, {@link TlsPolicy#COMPATIBILITY}
+     *                  restores the TLS 1.2 only behaviour of previous releases
+     * @return these options
+     */
+    public ClientOptions setTlsPolicy(TlsPolicy tlsPolicy) {
+        if (tlsPolicy == null) {
+            throw new IllegalArgumentException("tlsPolicy == null");
+        }
+
+        this.tlsPolicy = tlsPolicy;
+
+        return this;
+    }
+
+    /**
+     * Enables an on-disk HTTP cache. Responses the API marks as cacheable are
+     * served from disk while fresh and revalidated with If-None-Match or
+     * If-Modified-Since once stale, so unchanged data costs an empty 304 response.
+     * The directory must not be shared with another client.
+     *
+     * @param directory directory holding the cached responses
+     * @param maxSize   maximum size of the cache in bytes
+     * @return these options
+     */
+    public ClientOptions setCache(File directory, long maxSize) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory == null");
+        }
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0: " + maxSize);
+        }
+
+        this.cacheDirectory = directory;
+        this.cacheMaxSize = maxSize;
+
+        return this;
+    }
+
+    /**
+     * Enables the in-process {@link ReferenceDataCache} used by the {@code getCached}
+     * methods of {@link Client}.
+     *
+     * @param maxEntries maximum number of listings and items kept, 0 disables the cache
+     * @return these options
+     */
+    public ClientOptions setReferenceDataCache(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries < 0: " + maxEntries);
+        }
+
+        this.referenceDataCacheSize = maxEntries;
+
+        return this;
+    }
+
+    /**
+     * @param kind kind of reference data
+     * @param ttl  time its entries are served from the in-process cache
+     * @param unit unit of the TTL
+     * @return these options
+     */
+    public ClientOptions setReferenceDataTtl(ReferenceData kind, long ttl, TimeUnit unit) {
+        if (kind == null) {
+            throw new IllegalArgumentException("kind == null");
+        }
+
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl < 0: " + ttl);
+        }
+
+        this.referenceDataTtlMillis.put(kind, unit.toMillis(ttl));
+
+        return this;
+    }
+
+    /**
+     * Lets concurrent GET requests to the same URL with the same token share one
+     * HTTP call, each caller receiving its own copy of the body. Downloads are
+     * never coalesced.
+     *
+     * @param coalesceGets true to coalesce concurrent identical GET requests
+     * @return these options
+     */
+    public ClientOptions setCoalesceGets(boolean coalesceGets) {
+        this.coalesceGets = coalesceGets;
+
+        return this;
+    }
+
+    /**
+     * Limits the requests sent by the client with a token bucket, see {@link RateLimiter}.
+     *
+     * @param permitsPerSecond requests allowed per second on average
+     * @param burst            requests allowed at once after an idle period
+     * @return these options
+     */
+    public ClientOptions setRateLimit(double permitsPerSecond, int burst) {
+        checkRateLimit(permitsPerSecond, burst);
+
+        this.rateLimit = permitsPerSecond;
+        this.rateLimitBurst = burst;
+
+        return this;
+    }
+
+    /**
+     * Limits the requests sent to a family of endpoints, on top of the limit of
+     * {@link #setRateLimit(double, int)} when both are set.
+     *
+     * @param family           endpoints to limit
+     * @param permitsPerSecond requests allowed per second on average
+     * @param burst            requests allowed at once after an idle period
+     * @return these options
+     */
+    public ClientOptions setRateLimit(EndpointFamily family, double permitsPerSecond, int burst) {
+        if (family == null) {
+            throw new IllegalArgumentException("family == null");
+        }
+
+        checkRateLimit(permitsPerSecond, burst);
+
+        this.familyRateLimits.put(family, permitsPerSecond);
+        this.familyRateLimitBursts.put(family, burst);
+
+        return this;
+    }
+
+    /**
+     * @param retryPolicy retries of failed requests, null to never retry
+     * @return these options
+     */
+    public ClientOptions setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+
+        return this;
+    }
+
+    /**
+     * @param hedgingPolicy hedging of slow GET requests, null to never hedge
+     * @return these options
+     */
+    public ClientOptions setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+
+        return this;
+    }
+
+    /**
+     * @param circuitBreakerPolicy thresholds of the circuit breaker, null to disable it
+     * @return these options
+     */
+    public ClientOptions setCircuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+        this.circuitBreakerPolicy = circuitBreakerPolicy;
+
+        return this;
+    }
+
+    /**
+     * @param listener receives the metrics of every call, see {@link RouteMetrics}
+     * @return these options
+     */
+    public ClientOptions addMetricsListener(MetricsListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener == null");
+        }
+
+        this.metricsListeners.add(listener);
+
+        return this;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveDurationMillis() {
+        return keepAliveDurationMillis;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public TlsPolicy getTlsPolicy() {
+        return tlsPolicy;
+    }
+
+    /**
+     * @return directory of the HTTP cache, null when caching is disabled
+     */
+    public File getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public long getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    /**
+     * @return maximum number of entries of the reference data cache, 0 when disabled
+     */
+    public int getReferenceDataCacheSize() {
+        return referenceDataCacheSize;
+    }
+
+    public long getReferenceDataTtlMillis(ReferenceData kind) {
+        return referenceDataTtlMillis.get(kind);
+    }
+
+    public boolean isCoalesceGets() {
+        return coalesceGets;
+    }
+
+    /**
+     * @return retries of failed requests, null when requests are never retried
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * @return hedging of slow GET requests, null when requests are never hedged
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * @return thresholds of the circuit breaker, null when it is disabled
+     */
+    public CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        return circuitBreakerPolicy;
+    }
+
+    public List<MetricsListener> getMetricsListeners() {
+        return Collections.unmodifiableList(metricsListeners);
+    }
+
+    /**
+     * @return requests allowed per second across the client, 0 when unlimited
+     */
+    public double getRateLimit() {
+        return rateLimit;
+    }
+
+    public int getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    /**
+     * @return requests allowed per second to the family, 0 when unlimited
+     */
+    public double getRateLimit(EndpointFamily family) {
+        Double limit = familyRateLimits.get(family);
+
+        return limit == null ? 0 : limit;
+    }
+
+    public int getRateLimitBurst(EndpointFamily family) {
+        Integer burst = familyRateLimitBursts.get(family);
+
+        return burst == null ? 0 : burst;
+    }
+
+    /**
+     * @return true when a global or a per family rate limit is set
+     */
+    public boolean isRateLimited() {
+        return rateLimit > 0 || !familyRateLimits.isEmpty();
+    }
+
+    private static void checkRateLimit(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond <= 0: " + permitsPerSecond);
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst < 1: " + burst);
+        }
+    }
+}
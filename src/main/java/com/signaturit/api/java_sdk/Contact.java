@@ -0,0 +1,94 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Address book contact.
+ */
+public final class Contact {
+
+    static final JsonDecoder<Contact> DECODER = new JsonDecoder<Contact>() {
+        @Override
+        public Contact decode(JsonReader reader) throws IOException {
+            Contact contact = new Contact();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        contact.id = Models.string(reader);
+                        break;
+                    case "email":
+                        contact.email = Models.string(reader);
+                        break;
+                    case "name":
+                        contact.name = Models.string(reader);
+                        break;
+                    case "created_at":
+                        contact.createdAt = Models.string(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return contact;
+        }
+    };
+
+    private String id;
+
+    private String email;
+
+    private String name;
+
+    private String createdAt;
+
+    private Contact() {
+    }
+
+    /**
+     * @param response response of {@link Client#getContact(String)}, closed once decoded
+     * @return the decoded address
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static Contact fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getContacts()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<Contact> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Contact{id=" + id + "}";
+    }
+}
@@ -0,0 +1,103 @@
+package com.signaturit.api.java_sdk;
+
+import java.io.IOException;
+
+/**
+ * Document of a signature request, one per signer and file.
+ */
+public final class Document {
+
+    static final JsonDecoder<Document> DECODER = new JsonDecoder<Document>() {
+        @Override
+        public Document decode(JsonReader reader) throws IOException {
+            Document document = new Document();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        document.id = Models.string(reader);
+                        break;
+                    case "created_at":
+                        document.createdAt = Models.string(reader);
+                        break;
+                    case "email":
+                        document.email = Models.string(reader);
+                        break;
+                    case "name":
+                        document.name = Models.string(reader);
+                        break;
+                    case "status":
+                        document.status = Models.string(reader);
+                        break;
+                    case "file":
+                        document.file = Models.object(reader, FileInfo.DECODER);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return document;
+        }
+    };
+
+    private String id;
+
+    private String createdAt;
+
+    private String email;
+
+    private String name;
+
+    private String status;
+
+    private FileInfo file;
+
+    private Document() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return signer email
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * @return signer name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return signing status, such as {@code ready}, {@code completed} or {@code declined}
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @return file to sign, null when not sent
+     */
+    public FileInfo getFile() {
+        return file;
+    }
+
+    @Override
+    public String toString() {
+        return "Document{id=" + id + "}";
+    }
+}
@@ -0,0 +1,62 @@
+package com.signaturit.api.java_sdk;
+
+/**
+ * Identifies a downloadable document by its parent resource: a signature and one
+ * of its documents, or an email or SMS and one of its certificates.
+ */
+public final class DocumentRef {
+
+    private final String parentId;
+    private final String documentId;
+
+    private DocumentRef(String parentId, String documentId) {
+        this.parentId = parentId;
+        this.documentId = documentId;
+    }
+
+    /**
+     * @param parentId   signature, email or SMS ID
+     * @param documentId document or certificate ID
+     * @return the reference
+     */
+    public static DocumentRef of(String parentId, String documentId) {
+        if (parentId == null || documentId == null) {
+            throw new IllegalArgumentException("parentId and documentId are required");
+        }
+
+        return new DocumentRef(parentId, documentId);
+    }
+
+    public String getParentId() {
+        return parentId;
+    }
+
+    public String getDocumentId() {
+        return documentId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof DocumentRef)) {
+            return false;
+        }
+
+        DocumentRef other = (DocumentRef) o;
+
+        return parentId.equals(other.parentId) && documentId.equals(other.documentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * parentId.hashCode() + documentId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return parentId + "/" + documentId;
+    }
+}
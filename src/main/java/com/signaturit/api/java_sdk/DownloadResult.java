@@ -0,0 +1,40 @@
+package com.signaturit.api.java_sdk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a document download written to a file, a stream or a channel.
+ */
+public final class DownloadResult {
+
+    private final long bytes;
+    private final long durationNanos;
+
+    DownloadResult(long bytes, long durationNanos) {
+        this.bytes = bytes;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * @return number of bytes written to the target
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return time from sending the request to writing the last byte, in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadResult{bytes=" + bytes + ", durationMillis=" + getDuration(TimeUnit.MILLISECONDS) + "}";
+    }
+}
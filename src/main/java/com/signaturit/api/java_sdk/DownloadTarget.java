@@ -0,0 +1,136 @@
+package com.signaturit.api.java_sdk;
+
+import okio.BufferedSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Destination a download response body is streamed into.
+ */
+abstract class DownloadTarget {
+
+    /**
+     * Upper bound of a single {@link FileChannel#transferFrom} call.
+     */
+    private static final long TRANSFER_SIZE = 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * @param source response body, left open
+     * @return number of bytes written
+     */
+    abstract long transfer(BufferedSource source) throws IOException;
+
+    /**
+     * Creates or truncates the file. A partially written file is deleted when the
+     * transfer fails.
+     */
+    static DownloadTarget of(final Path path) {
+        return new DownloadTarget() {
+            @Override
+            long transfer(BufferedSource source) throws IOException {
+                boolean completed = false;
+
+                FileChannel channel = FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING
+                );
+
+                try {
+                    long bytes = transferToFile(source, channel);
+
+                    completed = true;
+
+                    return bytes;
+                } finally {
+                    channel.close();
+
+                    if (!completed) {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * The stream is flushed but left open.
+     */
+    static DownloadTarget of(final OutputStream outputStream) {
+        return new DownloadTarget() {
+            @Override
+            long transfer(BufferedSource source) throws IOException {
+                long bytes = source.readAll(Okio.sink(outputStream));
+
+                outputStream.flush();
+
+                return bytes;
+            }
+        };
+    }
+
+    /**
+     * The channel is left open. File channels are written with
+     * {@link FileChannel#transferFrom} from their current position.
+     */
+    static DownloadTarget of(final WritableByteChannel channel) {
+        return new DownloadTarget() {
+            @Override
+            long transfer(BufferedSource source) throws IOException {
+                if (channel instanceof FileChannel) {
+                    return transferToFile(source, (FileChannel) channel);
+                }
+
+                return writeChunks(source, channel);
+            }
+        };
+    }
+
+    private static long writeChunks(BufferedSource source, WritableByteChannel channel) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        long bytes = 0;
+
+        while (source.read(chunk) != -1) {
+            chunk.flip();
+
+            while (chunk.hasRemaining()) {
+                bytes += channel.write(chunk);
+            }
+
+            chunk.clear();
+        }
+
+        return bytes;
+    }
+
+    private static long transferToFile(BufferedSource source, FileChannel channel) throws IOException {
+        long start = channel.position();
+
+        // transferFrom does not write past the end of the file
+        if (start > channel.size()) {
+            return writeChunks(source, channel);
+        }
+
+        long position = start;
+        long transferred;
+
+        while ((transferred = channel.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+            position += transferred;
+        }
+
+        channel.position(position);
+
+        return position - start;
+    }
+}
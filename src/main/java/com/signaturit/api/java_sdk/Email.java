@@ -0,0 +1,89 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Certified email with its certificates.
+ */
+public final class Email {
+
+    static final JsonDecoder<Email> DECODER = new JsonDecoder<Email>() {
+        @Override
+        public Email decode(JsonReader reader) throws IOException {
+            Email email = new Email();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        email.id = Models.string(reader);
+                        break;
+                    case "created_at":
+                        email.createdAt = Models.string(reader);
+                        break;
+                    case "certificates":
+                        email.certificates = Models.list(reader, Certificate.DECODER);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return email;
+        }
+    };
+
+    private String id;
+
+    private String createdAt;
+
+    private List<Certificate> certificates = Collections.<Certificate>emptyList();
+
+    private Email() {
+    }
+
+    /**
+     * @param response response of {@link Client#getEmail(String)}, closed once decoded
+     * @return the decoded certified
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static Email fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getEmails()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<Email> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return one certificate per recipient
+     */
+    public List<Certificate> getCertificates() {
+        return certificates;
+    }
+
+    @Override
+    public String toString() {
+        return "Email{id=" + id + "}";
+    }
+}
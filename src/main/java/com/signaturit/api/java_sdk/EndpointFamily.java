@@ -0,0 +1,69 @@
+package com.signaturit.api.java_sdk;
+
+/**
+ * Groups of API routes that are rate limited and monitored together.
+ */
+public enum EndpointFamily {
+
+    SIGNATURES("signatures"),
+
+    EMAILS("emails"),
+
+    SMS("sms"),
+
+    TEAM("team"),
+
+    CONTACTS("contacts"),
+
+    SUBSCRIPTIONS("subscriptions"),
+
+    /**
+     * Signed documents and audit trails, whatever the resource they belong to
+     */
+    DOWNLOADS(null),
+
+    /**
+     * Brandings, templates, packages and any other route
+     */
+    OTHER(null);
+
+    private final String route;
+
+    EndpointFamily(String route) {
+        this.route = route;
+    }
+
+    /**
+     * @param path encoded path of a request, such as {@code /v3/signatures/id.json}
+     * @return the family of the route
+     */
+    static EndpointFamily of(String path) {
+        if (path.contains("/download/")) {
+            return DOWNLOADS;
+        }
+
+        int start = path.indexOf(Client.API_VERSION);
+
+        if (start < 0) {
+            return OTHER;
+        }
+
+        start += Client.API_VERSION.length();
+
+        int end = start;
+
+        while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '.') {
+            end++;
+        }
+
+        String resource = path.substring(start, end);
+
+        for (EndpointFamily family : values()) {
+            if (resource.equals(family.route)) {
+                return family;
+            }
+        }
+
+        return OTHER;
+    }
+}
@@ -0,0 +1,73 @@
+package com.signaturit.api.java_sdk;
+
+import java.io.IOException;
+
+/**
+ * File attached to a document or certificate.
+ */
+public final class FileInfo {
+
+    static final JsonDecoder<FileInfo> DECODER = new JsonDecoder<FileInfo>() {
+        @Override
+        public FileInfo decode(JsonReader reader) throws IOException {
+            FileInfo fileInfo = new FileInfo();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "name":
+                        fileInfo.name = Models.string(reader);
+                        break;
+                    case "pages":
+                        fileInfo.pages = Models.intValue(reader);
+                        break;
+                    case "size":
+                        fileInfo.size = Models.longValue(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return fileInfo;
+        }
+    };
+
+    private String name;
+
+    private int pages;
+
+    private long size;
+
+    private FileInfo() {
+    }
+
+    /**
+     * @return file name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of pages
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * @return size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "FileInfo{name=" + name + "}";
+    }
+}
@@ -0,0 +1,652 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.FormBody;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.Okio;
+import okio.Sink;
+import okio.Timeout;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Request bodies encoding nested parameters such as {@code recipients[0][email]}
+ * while they are written, instead of building one part or field object per value.
+ * <p>
+ * The bytes are those {@link MultipartBody} and {@link FormBody} send for the parts
+ * {@link RequestHelper#parseParameters} and {@link RequestHelper#parseParametersPatch}
+ * add. Keys are encoded once per level into a single reusable buffer. The length
+ * is computed when the body is created, which also rejects the names a header
+ * cannot hold, as the part builders did. The parameters must therefore not change
+ * until the call completes.
+ */
+final class FormEncoder {
+
+    private static final MediaType FORM_TYPE = MediaType.get("application/x-www-form-urlencoded");
+
+    private static final ByteString CRLF = ByteString.encodeUtf8("\r\n");
+    private static final ByteString DASHDASH = ByteString.encodeUtf8("--");
+    private static final ByteString DISPOSITION = ByteString.encodeUtf8("Content-Disposition: form-data; name=\"");
+    private static final ByteString FILENAME = ByteString.encodeUtf8("\"; filename=\"");
+    private static final ByteString CONTENT_TYPE = ByteString.encodeUtf8("Content-Type: ");
+    private static final ByteString CONTENT_LENGTH = ByteString.encodeUtf8("Content-Length: ");
+
+    /**
+     * Characters percent-encoded in form names and values, as by {@link FormBody.Builder#addEncoded}
+     */
+    private static final String FORM_ENCODE_SET = " \"':;<=>@[]^`{}|/\\?#&!$(),~";
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+
+    private FormEncoder() {
+    }
+
+    /**
+     * @param parameters request parameters, may be null
+     * @param sources    files sent after the parameters as {@code files[i]}, may be null
+     * @return multipart body with a random boundary
+     */
+    static RequestBody multipart(Map<String, Object> parameters, List<UploadSource> sources) {
+        return multipart(parameters, sources, UUID.randomUUID().toString());
+    }
+
+    static RequestBody multipart(Map<String, Object> parameters, List<UploadSource> sources, String boundary) {
+        return new Multipart(ByteString.EMPTY, parameters, sources, ByteString.EMPTY, boundary);
+    }
+
+    /**
+     * @param head       parts encoded by {@link #parts} and written first
+     * @param parameters request parameters written after the head, may be null
+     * @param tail       parts encoded by {@link #parts} and written last
+     * @param boundary   boundary the head and the tail were encoded with
+     * @return multipart body
+     */
+    static RequestBody multipart(ByteString head, Map<String, Object> parameters, ByteString tail, String boundary) {
+        return new Multipart(head, parameters, null, tail, boundary);
+    }
+
+    /**
+     * Encodes parts once, for bodies that send them unchanged. The files are read
+     * and kept in memory.
+     *
+     * @param parameters request parameters, may be null
+     * @param sources    files written after the parameters as {@code files[i]}, may be null
+     * @param boundary   boundary of the bodies the parts are sent in
+     * @return the parts, without the closing boundary
+     */
+    static ByteString parts(Map<String, Object> parameters, List<UploadSource> sources, String boundary) throws IOException {
+        PartWriter writer = new PartWriter(ByteString.encodeUtf8(boundary));
+        Buffer buffer = new Buffer();
+
+        writer.begin(buffer);
+
+        try {
+            if (parameters != null) {
+                writer.parameters(parameters);
+            }
+
+            if (sources != null) {
+                for (int i = 0; i < sources.size(); ++i) {
+                    writer.filePart(i, sources.get(i).getName(), sources.get(i).toRequestBody(), false);
+                }
+            }
+        } finally {
+            writer.end();
+        }
+
+        return buffer.readByteString();
+    }
+
+    /**
+     * @param parameters request parameters, may be null
+     * @return form url-encoded body
+     */
+    static RequestBody form(Map<String, Object> parameters) {
+        return new Form(parameters);
+    }
+
+    /**
+     * Growable array of encoded bytes, used for keys and for form values.
+     */
+    private static final class Bytes {
+
+        private byte[] bytes = new byte[64];
+        private int length = 0;
+
+        void write(BufferedSink sink) throws IOException {
+            sink.write(bytes, 0, length);
+        }
+
+        void append(int b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length * 2);
+            }
+
+            bytes[length++] = (byte) b;
+        }
+
+        void appendDecimal(int value) {
+            if (value < 10) {
+                append('0' + value);
+            } else {
+                appendDecimal(value / 10);
+                append('0' + value % 10);
+            }
+        }
+
+        /**
+         * Appends a name as {@code Content-Disposition} quotes it, failing on the
+         * characters a header value cannot hold.
+         */
+        void appendQuoted(String name) {
+            for (int i = 0; i < name.length(); ++i) {
+                char c = name.charAt(i);
+
+                if (c == '\n') {
+                    appendPercent('\n');
+                } else if (c == '\r') {
+                    appendPercent('\r');
+                } else if (c == '"') {
+                    appendPercent('"');
+                } else if ((c <= 0x1f && c != '\t') || c >= 0x7f) {
+                    throw new IllegalArgumentException(
+                            String.format("Unexpected char %#04x at %d in Content-Disposition value: %s", (int) c, i, name)
+                    );
+                } else {
+                    append(c);
+                }
+            }
+        }
+
+        /**
+         * Appends an already encoded form name or value, percent-encoding what it may still hold.
+         */
+        void appendForm(String value) {
+            int codePoint;
+
+            for (int i = 0; i < value.length(); i += Character.charCount(codePoint)) {
+                codePoint = value.codePointAt(i);
+
+                if (codePoint == '\t' || codePoint == '\n' || codePoint == '\f' || codePoint == '\r') {
+                    continue;
+                }
+
+                if (codePoint == '+') {
+                    append('+');
+                } else if (codePoint < 0x20 || codePoint >= 0x7f || FORM_ENCODE_SET.indexOf(codePoint) != -1) {
+                    appendUtf8Percent(codePoint);
+                } else {
+                    append(codePoint);
+                }
+            }
+        }
+
+        private void appendUtf8Percent(int codePoint) {
+            if (codePoint < 0x80) {
+                appendPercent(codePoint);
+            } else if (codePoint < 0x800) {
+                appendPercent(0xc0 | codePoint >> 6);
+                appendPercent(0x80 | codePoint & 0x3f);
+            } else if (codePoint >= 0xd800 && codePoint <= 0xdfff) {
+                // unpaired surrogate, written as '?' by okio
+                appendPercent('?');
+            } else if (codePoint < 0x10000) {
+                appendPercent(0xe0 | codePoint >> 12);
+                appendPercent(0x80 | codePoint >> 6 & 0x3f);
+                appendPercent(0x80 | codePoint & 0x3f);
+            } else {
+                appendPercent(0xf0 | codePoint >> 18);
+                appendPercent(0x80 | codePoint >> 12 & 0x3f);
+                appendPercent(0x80 | codePoint >> 6 & 0x3f);
+                appendPercent(0x80 | codePoint & 0x3f);
+            }
+        }
+
+        private void appendPercent(int b) {
+            append('%');
+            append(HEX[(b >> 4) & 0xf]);
+            append(HEX[b & 0xf]);
+        }
+    }
+
+    /**
+     * Sink counting the bytes written to it and discarding them.
+     */
+    private static final class CountingSink implements Sink {
+
+        private long count = 0;
+
+        @Override
+        public void write(Buffer source, long byteCount) throws IOException {
+            count += byteCount;
+            source.skip(byteCount);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private abstract static class EncodedBody extends RequestBody {
+
+        /**
+         * Counted once the body is created, -1 when a file has no known length
+         */
+        private long contentLength;
+
+        final void count() {
+            CountingSink counter = new CountingSink();
+            BufferedSink sink = Okio.buffer(counter);
+
+            try {
+                long skipped = writeOrCount(sink, true);
+
+                sink.flush();
+
+                this.contentLength = skipped == -1 ? -1 : counter.count + skipped;
+            } catch (IOException e) {
+                // a file failing to report its length fails again once written
+                this.contentLength = -1;
+            }
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            writeOrCount(sink, false);
+        }
+
+        /**
+         * @param counting whether the bytes go to a counter, in which case files are not read
+         * @return length of the files not read, -1 when one of them has no known length
+         */
+        abstract long writeOrCount(BufferedSink sink, boolean counting) throws IOException;
+    }
+
+    /**
+     * Writes form-data parts under a boundary, their keys built in a single reusable buffer.
+     */
+    private static final class PartWriter {
+
+        private final ByteString boundary;
+
+        private final Bytes key = new Bytes();
+        private final Bytes fileName = new Bytes();
+
+        private BufferedSink sink;
+        private int partCount;
+
+        PartWriter(ByteString boundary) {
+            this.boundary = boundary;
+        }
+
+        void begin(BufferedSink sink) {
+            this.sink = sink;
+            this.partCount = 0;
+        }
+
+        void end() {
+            this.sink = null;
+        }
+
+        void parameters(Map<String, Object> parameters) throws IOException {
+            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                key.length = 0;
+                key.appendQuoted(entry.getKey());
+
+                encode(entry.getValue());
+            }
+        }
+
+        void emptyPart() throws IOException {
+            key.length = 0;
+            part("");
+        }
+
+        void closing() throws IOException {
+            sink.write(DASHDASH).write(boundary).write(DASHDASH).write(CRLF);
+        }
+
+        /**
+         * Writes the parts of a value under the current key, as {@link RequestHelper#parseParameters} adds them.
+         */
+        @SuppressWarnings("unchecked")
+        private void encode(Object value) throws IOException {
+            int mark = key.length;
+
+            if (value instanceof String || value instanceof Integer || value instanceof Double || value instanceof Float) {
+                part(value.toString());
+            } else if (value instanceof int[]) {
+                int[] list = (int[]) value;
+
+                for (int i = 0; i < list.length; ++i) {
+                    appendIndex(i);
+                    part(Integer.toString(list[i]));
+                    key.length = mark;
+                }
+            } else if (value instanceof String[]) {
+                String[] list = (String[]) value;
+
+                for (int i = 0; i < list.length; ++i) {
+                    appendIndex(i);
+                    part(list[i]);
+                    key.length = mark;
+                }
+            } else if (value instanceof ArrayList<?>) {
+                int i = 0;
+
+                for (Object item : (ArrayList<Object>) value) {
+                    appendIndex(i++);
+                    encode(item);
+                    key.length = mark;
+                }
+            } else if (value instanceof HashMap) {
+                for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                    key.append('[');
+                    key.appendQuoted(entry.getKey());
+                    key.append(']');
+                    encode(entry.getValue());
+                    key.length = mark;
+                }
+            }
+        }
+
+        private void appendIndex(int index) {
+            key.append('[');
+            key.appendDecimal(index);
+            key.append(']');
+        }
+
+        private void part(String value) throws IOException {
+            partCount++;
+
+            sink.write(DASHDASH).write(boundary).write(CRLF).write(DISPOSITION);
+            key.write(sink);
+            sink.writeByte('"').write(CRLF)
+                    .write(CONTENT_LENGTH).writeDecimalLong(okio.Utf8.size(value)).write(CRLF)
+                    .write(CRLF)
+                    .writeUtf8(value)
+                    .write(CRLF);
+        }
+
+        /**
+         * @param counting whether the content is skipped
+         * @return length of the content, -1 when unknown
+         */
+        long filePart(int index, String name, RequestBody file, boolean counting) throws IOException {
+            partCount++;
+
+            MediaType type = file.contentType();
+            long length = file.contentLength();
+
+            key.length = 0;
+            key.appendQuoted("files[");
+            key.appendDecimal(index);
+            key.append(']');
+
+            sink.write(DASHDASH).write(boundary).write(CRLF).write(DISPOSITION);
+            key.write(sink);
+            sink.write(FILENAME);
+
+            fileName.length = 0;
+            fileName.appendQuoted(name);
+            fileName.write(sink);
+
+            sink.writeByte('"').write(CRLF);
+
+            if (type != null) {
+                sink.write(CONTENT_TYPE).writeUtf8(type.toString()).write(CRLF);
+            }
+
+            if (length != -1) {
+                sink.write(CONTENT_LENGTH).writeDecimalLong(length).write(CRLF);
+            }
+
+            sink.write(CRLF);
+
+            if (!counting) {
+                file.writeTo(sink);
+            }
+
+            sink.write(CRLF);
+
+            return length;
+        }
+    }
+
+    private static final class Multipart extends EncodedBody {
+
+        private final ByteString head;
+        private final Map<String, Object> parameters;
+        private final String[] fileNames;
+        private final RequestBody[] files;
+        private final ByteString tail;
+
+        private final MediaType contentType;
+        private final boolean oneShot;
+        private final PartWriter writer;
+
+        Multipart(ByteString head, Map<String, Object> parameters, List<UploadSource> sources, ByteString tail, String boundary) {
+            int size = sources == null ? 0 : sources.size();
+            boolean oneShot = false;
+
+            this.head = head;
+            this.parameters = parameters;
+            this.fileNames = new String[size];
+            this.files = new RequestBody[size];
+            this.tail = tail;
+
+            for (int i = 0; i < size; ++i) {
+                UploadSource source = sources.get(i);
+
+                fileNames[i] = source.getName();
+                files[i] = source.toRequestBody();
+                oneShot |= files[i].isOneShot();
+            }
+
+            this.contentType = MediaType.get("multipart/form-data; boundary=" + boundary);
+            this.oneShot = oneShot;
+            this.writer = new PartWriter(ByteString.encodeUtf8(boundary));
+
+            count();
+
+            if (writer.partCount == 0 && head.size() == 0 && tail.size() == 0) {
+                throw new IllegalStateException("Multipart body must have at least one part.");
+            }
+        }
+
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return oneShot;
+        }
+
+        @Override
+        synchronized long writeOrCount(BufferedSink sink, boolean counting) throws IOException {
+            long skipped = 0;
+
+            writer.begin(sink);
+
+            try {
+                if (counting) {
+                    skipped += head.size();
+                } else {
+                    sink.write(head);
+                }
+
+                if (parameters != null) {
+                    writer.parameters(parameters);
+                }
+
+                for (int i = 0; i < files.length; ++i) {
+                    long length = writer.filePart(i, fileNames[i], files[i], counting);
+
+                    skipped = skipped == -1 || length == -1 ? -1 : skipped + length;
+                }
+
+                if (parameters == null && files.length == 0 && head.size() == 0 && tail.size() == 0) {
+                    writer.emptyPart();
+                }
+
+                if (counting) {
+                    skipped = skipped == -1 ? -1 : skipped + tail.size();
+                } else {
+                    sink.write(tail);
+                }
+
+                writer.closing();
+            } finally {
+                writer.end();
+            }
+
+            return counting ? skipped : 0;
+        }
+    }
+
+    private static final class Form extends EncodedBody {
+
+        private final Map<String, Object> parameters;
+
+        private final Bytes key = new Bytes();
+        private final Bytes value = new Bytes();
+
+        private BufferedSink sink;
+        private boolean first;
+
+        Form(Map<String, Object> parameters) {
+            this.parameters = parameters;
+
+            count();
+        }
+
+        @Override
+        public MediaType contentType() {
+            return FORM_TYPE;
+        }
+
+        @Override
+        synchronized long writeOrCount(BufferedSink sink, boolean counting) throws IOException {
+            this.sink = sink;
+            this.first = true;
+
+            try {
+                if (parameters == null) {
+                    key.length = 0;
+                    field("");
+                } else {
+                    for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                        key.length = 0;
+                        key.appendForm(entry.getKey());
+
+                        encode(entry.getValue());
+                    }
+                }
+            } finally {
+                this.sink = null;
+            }
+
+            return 0;
+        }
+
+        /**
+         * Writes the fields of a value under the current key, as {@link RequestHelper#parseParametersPatch} adds them.
+         */
+        @SuppressWarnings("unchecked")
+        private void encode(Object value) throws IOException {
+            int mark = key.length;
+
+            if (value instanceof String || value instanceof Integer) {
+                field(value.toString());
+            } else if (value instanceof int[]) {
+                int[] list = (int[]) value;
+
+                for (int i = 0; i < list.length; ++i) {
+                    appendIndex(i);
+                    field(Integer.toString(list[i]));
+                    key.length = mark;
+                }
+            } else if (value instanceof String[]) {
+                String[] list = (String[]) value;
+
+                for (int i = 0; i < list.length; ++i) {
+                    appendIndex(i);
+                    field(list[i]);
+                    key.length = mark;
+                }
+            } else if (value instanceof ArrayList<?>) {
+                int i = 0;
+
+                for (HashMap<String, Object> item : (ArrayList<HashMap<String, Object>>) value) {
+                    for (Map.Entry<String, Object> entry : item.entrySet()) {
+                        appendIndex(i);
+                        appendName(entry.getKey());
+                        encode(entry.getValue());
+                        key.length = mark;
+                    }
+
+                    ++i;
+                }
+            } else if (value instanceof HashMap) {
+                for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                    appendName(entry.getKey());
+                    encode(entry.getValue());
+                    key.length = mark;
+                }
+            }
+        }
+
+        private void appendIndex(int index) {
+            key.appendForm("[");
+            key.appendDecimal(index);
+            key.appendForm("]");
+        }
+
+        private void appendName(String name) {
+            key.appendForm("[");
+            key.appendForm(name);
+            key.appendForm("]");
+        }
+
+        private void field(String fieldValue) throws IOException {
+            if (!first) {
+                sink.writeByte('&');
+            }
+
+            first = false;
+
+            value.length = 0;
+            value.appendForm(fieldValue);
+
+            key.write(sink);
+            sink.writeByte('=');
+            value.write(sink);
+        }
+    }
+}
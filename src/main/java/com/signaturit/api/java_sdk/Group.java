@@ -0,0 +1,104 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Group of team members.
+ */
+public final class Group {
+
+    static final JsonDecoder<Group> DECODER = new JsonDecoder<Group>() {
+        @Override
+        public Group decode(JsonReader reader) throws IOException {
+            Group group = new Group();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        group.id = Models.string(reader);
+                        break;
+                    case "name":
+                        group.name = Models.string(reader);
+                        break;
+                    case "created_at":
+                        group.createdAt = Models.string(reader);
+                        break;
+                    case "managers":
+                        group.managers = Models.list(reader, User.DECODER);
+                        break;
+                    case "members":
+                        group.members = Models.list(reader, User.DECODER);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return group;
+        }
+    };
+
+    private String id;
+
+    private String name;
+
+    private String createdAt;
+
+    private List<User> managers = Collections.<User>emptyList();
+
+    private List<User> members = Collections.<User>emptyList();
+
+    private Group() {
+    }
+
+    /**
+     * @param response response of {@link Client#getGroup(String)}, closed once decoded
+     * @return the decoded group
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static Group fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getGroups()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<Group> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<User> getManagers() {
+        return managers;
+    }
+
+    public List<User> getMembers() {
+        return members;
+    }
+
+    @Override
+    public String toString() {
+        return "Group{id=" + id + "}";
+    }
+}
@@ -0,0 +1,107 @@
+package com.signaturit.api.java_sdk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedging of slow GET requests, set with {@link ClientOptions#setHedgingPolicy(HedgingPolicy)}.
+ * <p>
+ * A GET request that has not been answered after the given percentile of the
+ * recent response times is sent a second time over another connection. The first
+ * successful response is returned and the other call is cancelled; an error
+ * response is returned only once the other call has failed too. Until enough
+ * response times are known the initial delay is used instead, and the delay is
+ * never shorter than the minimum delay. Hedges are limited to a fraction of the
+ * requests, so that hedging never adds more than that share of extra load.
+ */
+public class HedgingPolicy {
+
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    public static final long DEFAULT_INITIAL_DELAY_MILLIS = 500;
+
+    public static final long DEFAULT_MIN_DELAY_MILLIS = 10;
+
+    public static final double DEFAULT_MAX_EXTRA_LOAD = 0.05;
+
+    private double percentile = DEFAULT_PERCENTILE;
+
+    private long initialDelayMillis = DEFAULT_INITIAL_DELAY_MILLIS;
+
+    private long minDelayMillis = DEFAULT_MIN_DELAY_MILLIS;
+
+    private double maxExtraLoad = DEFAULT_MAX_EXTRA_LOAD;
+
+    /**
+     * @param percentile response time percentile, between 0 and 1, after which a request is hedged
+     * @return this policy
+     */
+    public HedgingPolicy setPercentile(double percentile) {
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException("percentile not in (0, 1): " + percentile);
+        }
+
+        this.percentile = percentile;
+
+        return this;
+    }
+
+    /**
+     * @param delay delay used until enough response times are known
+     * @param unit  unit of the delay
+     * @return this policy
+     */
+    public HedgingPolicy setInitialDelay(long delay, TimeUnit unit) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay < 0: " + delay);
+        }
+
+        this.initialDelayMillis = unit.toMillis(delay);
+
+        return this;
+    }
+
+    /**
+     * @param delay shortest delay before a hedge
+     * @param unit  unit of the delay
+     * @return this policy
+     */
+    public HedgingPolicy setMinDelay(long delay, TimeUnit unit) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay < 0: " + delay);
+        }
+
+        this.minDelayMillis = unit.toMillis(delay);
+
+        return this;
+    }
+
+    /**
+     * @param maxExtraLoad hedges allowed per GET request, between 0 and 1
+     * @return this policy
+     */
+    public HedgingPolicy setMaxExtraLoad(double maxExtraLoad) {
+        if (!(maxExtraLoad >= 0 && maxExtraLoad <= 1)) {
+            throw new IllegalArgumentException("maxExtraLoad not in [0, 1]: " + maxExtraLoad);
+        }
+
+        this.maxExtraLoad = maxExtraLoad;
+
+        return this;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    public double getMaxExtraLoad() {
+        return maxExtraLoad;
+    }
+}
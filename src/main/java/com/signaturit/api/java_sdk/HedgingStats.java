@@ -0,0 +1,454 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the hedging enabled with {@link ClientOptions#setHedgingPolicy(HedgingPolicy)}.
+ * <p>
+ * GET requests that may be hedged are sent on a dispatcher without request limits,
+ * as each one runs on behalf of a caller already admitted by the client, and the
+ * caller waits for it. Hedges are enqueued on their own dispatcher, sized like the
+ * one of the client, and go through their own connection pool, so that a second
+ * request never waits behind the requests or the slow connection of the first one.
+ */
+public final class HedgingStats {
+
+    /**
+     * Number of recent response times the delay is computed from
+     */
+    private static final int SAMPLES = 1000;
+
+    /**
+     * Response times needed before the percentile replaces the initial delay
+     */
+    private static final int MIN_SAMPLES = 20;
+
+    /**
+     * Hedges that can be saved up while requests are fast
+     */
+    private static final double MAX_BUDGET = 10;
+
+    private final HedgingPolicy policy;
+    private final ClientOptions options;
+
+    private final long[] samples = new long[SAMPLES];
+    private int sampleCount = 0;
+    private long delayMillis;
+
+    private double budget = 0;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    private volatile OkHttpClient primaryClient;
+    private volatile OkHttpClient hedgeClient;
+
+    HedgingStats(ClientOptions options) {
+        this.policy = options.getHedgingPolicy();
+        this.options = options;
+        this.delayMillis = policy.getInitialDelayMillis();
+    }
+
+    /**
+     * @return GET requests that could be hedged
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return second requests sent because the first one was slow
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * @return hedges answered before the request they duplicated
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    /**
+     * @return current delay before a request is hedged, in milliseconds
+     */
+    public synchronized long getDelayMillis() {
+        return delayMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingStats{requests=" + getRequestCount()
+                + ", hedges=" + getHedgeCount()
+                + ", hedgeWins=" + getHedgeWinCount()
+                + ", delayMillis=" + getDelayMillis()
+                + "}";
+    }
+
+    /**
+     * @return application interceptor hedging slow GET requests, it must be bound once the transport is built
+     */
+    Interceptor interceptor() {
+        return new HedgingInterceptor(this);
+    }
+
+    /**
+     * Builds the transports the requests and their hedges are sent through,
+     * running the interceptors added after this one.
+     *
+     * @param client transport holding the interceptor of these stats
+     */
+    void bind(OkHttpClient client) {
+        List<Interceptor> interceptors = client.interceptors();
+        int index = 0;
+
+        while (!(interceptors.get(index) instanceof HedgingInterceptor)) {
+            index++;
+        }
+
+        OkHttpClient.Builder builder = client.newBuilder()
+                .dispatcher(dispatcher(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        builder.interceptors().clear();
+        builder.interceptors().add(new SendClock());
+        builder.interceptors().addAll(interceptors.subList(index + 1, interceptors.size()));
+
+        this.primaryClient = builder.build();
+        this.hedgeClient = primaryClient.newBuilder()
+                .dispatcher(dispatcher(options.getMaxRequests(), options.getMaxRequestsPerHost()))
+                .connectionPool(new ConnectionPool(
+                        options.getMaxIdleConnections(),
+                        options.getKeepAliveDurationMillis(),
+                        TimeUnit.MILLISECONDS
+                ))
+                .build();
+    }
+
+    private Dispatcher dispatcher(int maxRequests, int maxRequestsPerHost) {
+        Dispatcher dispatcher = options.isVirtualThreads()
+                ? new Dispatcher(VirtualThreads.newExecutor())
+                : new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return dispatcher;
+    }
+
+    /**
+     * Stops the dispatchers of the hedged requests and evicts the idle connections of the hedges.
+     */
+    void close() {
+        if (primaryClient != null) {
+            primaryClient.dispatcher().executorService().shutdown();
+        }
+
+        if (hedgeClient != null) {
+            hedgeClient.dispatcher().executorService().shutdown();
+            hedgeClient.connectionPool().evictAll();
+        }
+    }
+
+    /**
+     * @param client transport built by {@link RequestHelper#newClient(ClientOptions)}
+     * @return its hedging counters, or null when it has no hedging policy
+     */
+    static HedgingStats of(OkHttpClient client) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (interceptor instanceof HedgingInterceptor) {
+                return ((HedgingInterceptor) interceptor).stats;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds the hedge share of a new request to the budget.
+     */
+    private synchronized void addRequest() {
+        requestCount.incrementAndGet();
+        budget = Math.min(MAX_BUDGET, budget + policy.getMaxExtraLoad());
+    }
+
+    private synchronized boolean tryHedge() {
+        if (budget < 1) {
+            return false;
+        }
+
+        budget -= 1;
+        hedgeCount.incrementAndGet();
+
+        return true;
+    }
+
+    private synchronized void record(long millis) {
+        samples[sampleCount % SAMPLES] = millis;
+        sampleCount++;
+
+        // sorting is amortized over a few responses
+        if (sampleCount >= MIN_SAMPLES && sampleCount % 10 == 0) {
+            long[] sorted = Arrays.copyOf(samples, Math.min(sampleCount, SAMPLES));
+            Arrays.sort(sorted);
+
+            int rank = (int) Math.ceil(policy.getPercentile() * sorted.length) - 1;
+
+            delayMillis = Math.max(policy.getMinDelayMillis(), sorted[Math.max(0, rank)]);
+        }
+    }
+
+    /**
+     * A request and its hedge, the first successful response wins. An error
+     * response is returned only once no other call of the race is running.
+     */
+    private class Race {
+
+        private final CompletableFuture<Response> winner = new CompletableFuture<Response>();
+
+        private final Call[] calls = new Call[2];
+        private int started = 0;
+        private int finished = 0;
+
+        /**
+         * Error response kept while another call may still succeed
+         */
+        private Response fallback;
+
+        /**
+         * Time the request started running, null while it waits for its dispatcher
+         */
+        private volatile Long sentAt;
+
+        /**
+         * @return false when the race was already decided
+         */
+        boolean start(OkHttpClient client, Request request) {
+            final Call call;
+            final boolean hedge;
+
+            synchronized (this) {
+                if (winner.isDone()) {
+                    return false;
+                }
+
+                call = client.newCall(request);
+                hedge = started > 0;
+                calls[started++] = call;
+            }
+
+            call.enqueue(
+                    new Callback() {
+                        @Override
+                        public void onFailure(Call call, IOException e) {
+                            fail(e);
+                        }
+
+                        @Override
+                        public void onResponse(Call call, Response response) {
+                            win(call, hedge, response);
+                        }
+                    }
+            );
+
+            return true;
+        }
+
+        private synchronized void win(Call call, boolean hedge, Response response) {
+            if (winner.isDone()) {
+                response.close();
+
+                return;
+            }
+
+            if (!response.isSuccessful() && ++finished < started) {
+                fallback = response;
+
+                return;
+            }
+
+            // counted before the caller can see the response
+            if (hedge) {
+                hedgeWinCount.incrementAndGet();
+            }
+
+            winner.complete(response);
+            cancelOthers(call);
+            closeFallback();
+        }
+
+        private synchronized void fail(IOException failure) {
+            if (winner.isDone() || ++finished < started) {
+                return;
+            }
+
+            if (fallback != null) {
+                winner.complete(fallback);
+                fallback = null;
+            } else {
+                winner.completeExceptionally(failure);
+            }
+        }
+
+        void sent() {
+            sentAt = System.nanoTime();
+        }
+
+        /**
+         * Cancels every call once the caller gave up waiting, closing a response that arrived meanwhile.
+         */
+        synchronized void abandon() {
+            cancelOthers(null);
+            closeFallback();
+
+            if (!winner.complete(null) && !winner.isCompletedExceptionally()) {
+                winner.getNow(null).close();
+            }
+        }
+
+        private void cancelOthers(Call winnerCall) {
+            for (int i = 0; i < started; ++i) {
+                if (calls[i] != winnerCall) {
+                    calls[i].cancel();
+                }
+            }
+        }
+
+        private void closeFallback() {
+            if (fallback != null) {
+                fallback.close();
+                fallback = null;
+            }
+        }
+    }
+
+    /**
+     * First interceptor of the hedged requests, starts the clock of their race once
+     * they leave the dispatcher queue.
+     */
+    private static class SendClock implements Interceptor {
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Race race = chain.request().tag(Race.class);
+
+            if (race != null) {
+                race.sent();
+            }
+
+            return chain.proceed(chain.request());
+        }
+    }
+
+    private static class HedgingInterceptor implements Interceptor {
+
+        /**
+         * Period at which a waiting request checks whether its call was cancelled
+         */
+        private static final long CANCEL_CHECK_MILLIS = 100;
+
+        private final HedgingStats stats;
+
+        HedgingInterceptor(HedgingStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            OkHttpClient primaryClient = stats.primaryClient;
+
+            if (!request.method().equals("GET") || request.url().encodedPath().contains("/download/") || primaryClient == null) {
+                return chain.proceed(request);
+            }
+
+            stats.addRequest();
+
+            Race race = stats.new Race();
+
+            race.start(primaryClient, request.newBuilder().tag(Race.class, race).build());
+
+            try {
+                Response response = await(chain, race, TimeUnit.MILLISECONDS.toNanos(stats.getDelayMillis()));
+
+                if (response == null) {
+                    if (stats.tryHedge()) {
+                        race.start(stats.hedgeClient, request);
+                    }
+
+                    response = await(chain, race, -1);
+                }
+
+                Long sentAt = race.sentAt;
+
+                if (sentAt != null) {
+                    stats.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAt));
+                }
+
+                return response;
+            } catch (InterruptedException e) {
+                race.abandon();
+                Thread.currentThread().interrupt();
+
+                throw new InterruptedIOException("Interrupted while waiting for " + request.url());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+
+                throw new IOException(e.getCause());
+            }
+        }
+
+        /**
+         * Waits for the winner, cancelling the race as soon as the caller cancels its call.
+         *
+         * @param delayNanos time to wait once the request is sent, -1 to wait until the race is decided
+         * @return the winning response, null when the delay elapsed first
+         */
+        private static Response await(Chain chain, Race race, long delayNanos) throws InterruptedException, ExecutionException, IOException {
+            while (true) {
+                long wait = TimeUnit.MILLISECONDS.toNanos(CANCEL_CHECK_MILLIS);
+
+                if (delayNanos >= 0) {
+                    Long sentAt = race.sentAt;
+
+                    // the delay only starts once the request left the dispatcher queue
+                    long remaining = sentAt == null ? delayNanos : sentAt + delayNanos - System.nanoTime();
+
+                    if (sentAt != null && remaining <= 0) {
+                        return null;
+                    }
+
+                    wait = Math.min(wait, Math.max(1, remaining));
+                }
+
+                try {
+                    return race.winner.get(wait, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (chain.call().isCanceled()) {
+                        race.abandon();
+
+                        throw new IOException("Canceled");
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.signaturit.api.java_sdk;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Decodes one value from a {@link JsonReader} positioned on it.
+ */
+interface JsonDecoder<T> {
+
+    /**
+     * Decodes a JSON object into a map, nested values as returned by {@link JsonReader#readValue()}
+     */
+    JsonDecoder<Map<String, Object>> MAP = new JsonDecoder<Map<String, Object>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> decode(JsonReader reader) throws IOException {
+            if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+                throw new IOException("Malformed JSON: Expected an object but was " + reader.peek());
+            }
+
+            return (Map<String, Object>) reader.readValue();
+        }
+    };
+
+    T decode(JsonReader reader) throws IOException;
+}
@@ -0,0 +1,558 @@
+package com.signaturit.api.java_sdk;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pull tokenizer reading JSON straight from a response byte stream. Values are
+ * decoded as they are consumed, so callers never hold the whole body as a string
+ * nor an intermediate tree unless they ask for one with {@link #readValue()}.
+ */
+final class JsonReader implements Closeable {
+
+    enum Token {
+        BEGIN_ARRAY,
+        END_ARRAY,
+        BEGIN_OBJECT,
+        END_OBJECT,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final ByteString QUOTE_OR_SLASH = ByteString.encodeUtf8("\"\\");
+    private static final ByteString TRUE = ByteString.encodeUtf8("true");
+    private static final ByteString FALSE = ByteString.encodeUtf8("false");
+    private static final ByteString NULL = ByteString.encodeUtf8("null");
+
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+
+    private final BufferedSource source;
+    private final Buffer buffer;
+
+    private int[] stack = new int[32];
+    private int stackSize = 0;
+
+    /**
+     * Next token once {@link #peek()} has looked it up. The opening quote of a name
+     * or a string is already consumed at that point, numbers and literals are not.
+     */
+    private Token peeked;
+
+    JsonReader(BufferedSource source) {
+        this.source = source;
+        this.buffer = source.getBuffer();
+
+        push(EMPTY_DOCUMENT);
+    }
+
+    Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+
+        int scope = stack[stackSize - 1];
+        int c;
+
+        switch (scope) {
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+
+                if (nextNonWhitespace() == ']') {
+                    buffer.skip(1);
+
+                    return peeked = Token.END_ARRAY;
+                }
+
+                return peeked = peekValue();
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+
+                if (c == ']') {
+                    buffer.skip(1);
+
+                    return peeked = Token.END_ARRAY;
+                }
+
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+
+                buffer.skip(1);
+
+                return peeked = peekValue();
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                stack[stackSize - 1] = DANGLING_NAME;
+                c = nextNonWhitespace();
+
+                if (c == '}') {
+                    buffer.skip(1);
+
+                    return peeked = Token.END_OBJECT;
+                }
+
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+
+                    buffer.skip(1);
+                    c = nextNonWhitespace();
+                }
+
+                if (c != '"') {
+                    throw syntaxError("Expected name");
+                }
+
+                buffer.skip(1);
+
+                return peeked = Token.NAME;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+
+                buffer.skip(1);
+
+                return peeked = peekValue();
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+
+                return peeked = peekValue();
+            default:
+                if (nextNonWhitespace() != -1) {
+                    throw syntaxError("Expected end of document");
+                }
+
+                return peeked = Token.END_DOCUMENT;
+        }
+    }
+
+    boolean hasNext() throws IOException {
+        Token token = peek();
+
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        stackSize--;
+    }
+
+    void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        stackSize--;
+    }
+
+    String nextName() throws IOException {
+        expect(Token.NAME);
+
+        return readQuoted();
+    }
+
+    /**
+     * @return the next string, numbers are returned as their literal
+     */
+    String nextString() throws IOException {
+        Token token = peek();
+
+        if (token == Token.STRING) {
+            peeked = null;
+
+            return readQuoted();
+        }
+
+        if (token == Token.NUMBER) {
+            peeked = null;
+
+            return readNumberLiteral();
+        }
+
+        throw syntaxError("Expected a string but was " + token);
+    }
+
+    /**
+     * @return the next string, or null when the value is a JSON null
+     */
+    String nextStringOrNull() throws IOException {
+        if (peek() == Token.NULL) {
+            nextNull();
+
+            return null;
+        }
+
+        return nextString();
+    }
+
+    long nextLong() throws IOException {
+        String literal = nextString();
+
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            double value = Double.parseDouble(literal);
+
+            if (value != (long) value) {
+                throw syntaxError("Expected a long but was " + literal);
+            }
+
+            return (long) value;
+        }
+    }
+
+    int nextInt() throws IOException {
+        long value = nextLong();
+
+        if (value != (int) value) {
+            throw syntaxError("Expected an int but was " + value);
+        }
+
+        return (int) value;
+    }
+
+    double nextDouble() throws IOException {
+        return Double.parseDouble(nextString());
+    }
+
+    boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+
+        if (source.rangeEquals(0, TRUE)) {
+            buffer.skip(TRUE.size());
+
+            return true;
+        }
+
+        if (source.rangeEquals(0, FALSE)) {
+            buffer.skip(FALSE.size());
+
+            return false;
+        }
+
+        throw syntaxError("Expected a boolean");
+    }
+
+    void nextNull() throws IOException {
+        expect(Token.NULL);
+
+        if (!source.rangeEquals(0, NULL)) {
+            throw syntaxError("Expected null");
+        }
+
+        buffer.skip(NULL.size());
+    }
+
+    /**
+     * Skips the next value, including nested objects and arrays, without decoding it.
+     */
+    void skipValue() throws IOException {
+        int depth = 0;
+
+        do {
+            Token token = peek();
+
+            switch (token) {
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case NAME:
+                case STRING:
+                    peeked = null;
+                    skipQuoted();
+                    break;
+                case NUMBER:
+                    peeked = null;
+                    skipNumberLiteral();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                case NULL:
+                    nextNull();
+                    break;
+                default:
+                    throw syntaxError("Unexpected end of document");
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Decodes the next value into maps, lists, strings, longs, doubles, booleans and nulls.
+     */
+    Object readValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<String, Object>();
+
+                beginObject();
+
+                while (hasNext()) {
+                    map.put(nextName(), readValue());
+                }
+
+                endObject();
+
+                return map;
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<Object>();
+
+                beginArray();
+
+                while (hasNext()) {
+                    list.add(readValue());
+                }
+
+                endArray();
+
+                return list;
+            case STRING:
+                return nextString();
+            case NUMBER:
+                String literal = nextString();
+
+                try {
+                    return Long.parseLong(literal);
+                } catch (NumberFormatException e) {
+                    return Double.parseDouble(literal);
+                }
+            case BOOLEAN:
+                return nextBoolean();
+            case NULL:
+                nextNull();
+
+                return null;
+            default:
+                throw syntaxError("Expected a value but was " + peek());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private Token peekValue() throws IOException {
+        int c = nextNonWhitespace();
+
+        switch (c) {
+            case '{':
+                buffer.skip(1);
+
+                return Token.BEGIN_OBJECT;
+            case '[':
+                buffer.skip(1);
+
+                return Token.BEGIN_ARRAY;
+            case '"':
+                buffer.skip(1);
+
+                return Token.STRING;
+            case 't':
+            case 'f':
+                return Token.BOOLEAN;
+            case 'n':
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return Token.NUMBER;
+                }
+
+                throw syntaxError(c == -1 ? "Unexpected end of document" : "Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+
+        if (token != expected) {
+            throw syntaxError("Expected " + expected + " but was " + token);
+        }
+
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            int[] grown = new int[stackSize * 2];
+            System.arraycopy(stack, 0, grown, 0, stackSize);
+            stack = grown;
+        }
+
+        stack[stackSize++] = scope;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (source.request(1)) {
+            byte c = buffer.getByte(0);
+
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                buffer.skip(1);
+            } else {
+                return c;
+            }
+        }
+
+        return -1;
+    }
+
+    private String readQuoted() throws IOException {
+        StringBuilder builder = null;
+
+        while (true) {
+            long index = source.indexOfElement(QUOTE_OR_SLASH);
+
+            if (index == -1) {
+                throw syntaxError("Unterminated string");
+            }
+
+            if (buffer.getByte(index) == '"') {
+                String chunk = buffer.readUtf8(index);
+                buffer.skip(1);
+
+                if (builder == null) {
+                    return chunk;
+                }
+
+                return builder.append(chunk).toString();
+            }
+
+            if (builder == null) {
+                builder = new StringBuilder();
+            }
+
+            builder.append(buffer.readUtf8(index));
+            buffer.skip(1);
+            builder.append(readEscape());
+        }
+    }
+
+    private void skipQuoted() throws IOException {
+        while (true) {
+            long index = source.indexOfElement(QUOTE_OR_SLASH);
+
+            if (index == -1) {
+                throw syntaxError("Unterminated string");
+            }
+
+            boolean quote = buffer.getByte(index) == '"';
+
+            buffer.skip(index + 1);
+
+            if (quote) {
+                return;
+            }
+
+            readEscape();
+        }
+    }
+
+    private char readEscape() throws IOException {
+        if (!source.request(1)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+
+        byte escaped = buffer.readByte();
+
+        switch (escaped) {
+            case 'u':
+                if (!source.request(4)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+
+                String hex = buffer.readUtf8(4);
+
+                try {
+                    return (char) Integer.parseInt(hex, 16);
+                } catch (NumberFormatException e) {
+                    throw syntaxError("Invalid escape sequence \\u" + hex);
+                }
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case '"':
+            case '\\':
+            case '/':
+                return (char) escaped;
+            default:
+                throw syntaxError("Invalid escape sequence \\" + (char) escaped);
+        }
+    }
+
+    private String readNumberLiteral() throws IOException {
+        return buffer.readUtf8(numberLiteralLength());
+    }
+
+    private void skipNumberLiteral() throws IOException {
+        buffer.skip(numberLiteralLength());
+    }
+
+    private long numberLiteralLength() throws IOException {
+        long length = 0;
+
+        while (source.request(length + 1)) {
+            byte c = buffer.getByte(length);
+
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                length++;
+            } else {
+                break;
+            }
+        }
+
+        return length;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException("Malformed JSON: " + message);
+    }
+}
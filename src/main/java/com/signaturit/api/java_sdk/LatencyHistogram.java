@@ -0,0 +1,115 @@
+package com.signaturit.api.java_sdk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of call durations over fixed buckets, from 1 ms to the
+ * default timeout of two minutes. Percentiles are reported as the upper bound of
+ * the bucket holding them.
+ */
+public final class LatencyHistogram {
+
+    private static final long[] BOUNDS_MILLIS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, 60000, 120000
+    };
+
+    /**
+     * One bucket per bound and a last one for longer durations
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BOUNDS_MILLIS.length + 1);
+
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    LatencyHistogram() {
+    }
+
+    void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+
+        while (bucket < BOUNDS_MILLIS.length && millis >= BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+
+        counts.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+
+        long max;
+
+        while ((max = maxNanos.get()) < nanos && !maxNanos.compareAndSet(max, nanos)) {
+            // lost the race, read the new maximum
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos.get());
+    }
+
+    public long getMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    /**
+     * @param percentile between 0 and 1, such as 0.99
+     * @return upper bound in milliseconds of the bucket holding the percentile, 0 when empty
+     */
+    public long getPercentileMillis(double percentile) {
+        long total = 0;
+        long[] snapshot = getBucketCounts();
+
+        for (long bucketCount : snapshot) {
+            total += bucketCount;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+
+        for (int i = 0; i < snapshot.length && total > 0; ++i) {
+            seen += snapshot[i];
+
+            if (seen >= rank && snapshot[i] > 0) {
+                return i < BOUNDS_MILLIS.length ? BOUNDS_MILLIS[i] : getMaxMillis();
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return exclusive upper bounds of the buckets in milliseconds, the last bucket has none
+     */
+    public static long[] getBucketBoundsMillis() {
+        return BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * @return number of durations per bucket, one more than there are bounds
+     */
+    public long[] getBucketCounts() {
+        long[] snapshot = new long[counts.length()];
+
+        for (int i = 0; i < snapshot.length; ++i) {
+            snapshot[i] = counts.get(i);
+        }
+
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount()
+                + ", p50=" + getPercentileMillis(0.5)
+                + ", p99=" + getPercentileMillis(0.99)
+                + ", max=" + getMaxMillis()
+                + "}";
+    }
+}
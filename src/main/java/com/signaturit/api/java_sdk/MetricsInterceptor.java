@@ -0,0 +1,199 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reports every call to the {@link MetricsListener}s of the client. Installed
+ * first, so that a call is reported once whatever the retries, hedges or cache
+ * hits it took, and finished once its response body is closed.
+ */
+final class MetricsInterceptor implements Interceptor {
+
+    private final List<MetricsListener> listeners;
+    private final ConnectionPool connectionPool;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    MetricsInterceptor(List<MetricsListener> listeners, ConnectionPool connectionPool) {
+        this.listeners = listeners;
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String path = request.url().encodedPath();
+        CallMetrics call = new CallMetrics(request.method(), Routes.normalize(path), EndpointFamily.of(path), requestBytes(request));
+
+        inFlight.incrementAndGet();
+
+        for (MetricsListener listener : listeners) {
+            try {
+                listener.requestStarted(call.method, call.route);
+            } catch (RuntimeException e) {
+                // a broken listener never fails the call
+            }
+        }
+
+        Response response;
+
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            call.headersNanos = System.nanoTime() - call.start;
+            call.finish(0, e);
+
+            throw e;
+        } catch (RuntimeException e) {
+            call.headersNanos = System.nanoTime() - call.start;
+            call.finish(0, null);
+
+            throw e;
+        }
+
+        call.headersNanos = System.nanoTime() - call.start;
+
+        ResponseBody body = response.body();
+
+        if (body == null) {
+            call.finish(response.code(), null);
+
+            return response;
+        }
+
+        return response.newBuilder().body(new CountingBody(body, call, response.code())).build();
+    }
+
+    private static long requestBytes(Request request) {
+        RequestBody body = request.body();
+
+        if (body == null) {
+            return 0;
+        }
+
+        try {
+            return body.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private class CallMetrics {
+
+        private final String method;
+        private final String route;
+        private final EndpointFamily family;
+        private final long requestBytes;
+        private final long start = System.nanoTime();
+
+        private long headersNanos;
+        private long responseBytes;
+        private boolean finished = false;
+
+        CallMetrics(String method, String route, EndpointFamily family, long requestBytes) {
+            this.method = method;
+            this.route = route;
+            this.family = family;
+            this.requestBytes = requestBytes;
+        }
+
+        void finish(int statusCode, IOException failure) {
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+
+                finished = true;
+            }
+
+            RequestEvent event = new RequestEvent(
+                    method, route, family, statusCode, failure,
+                    headersNanos, System.nanoTime() - start, requestBytes, responseBytes,
+                    inFlight.decrementAndGet(), connectionPool.connectionCount(), connectionPool.idleConnectionCount()
+            );
+
+            for (MetricsListener listener : listeners) {
+                try {
+                    listener.requestFinished(event);
+                } catch (RuntimeException e) {
+                    // a broken listener never fails the call
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes of the body read by the caller and finishes the call once it is closed.
+     */
+    private static class CountingBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        CountingBody(ResponseBody delegate, final CallMetrics call, final int statusCode) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(
+                    new ForwardingSource(delegate.source()) {
+                        @Override
+                        public long read(Buffer sink, long byteCount) throws IOException {
+                            long read;
+
+                            try {
+                                read = super.read(sink, byteCount);
+                            } catch (IOException e) {
+                                call.finish(statusCode, e);
+
+                                throw e;
+                            }
+
+                            if (read == -1) {
+                                call.finish(statusCode, null);
+                            } else {
+                                call.responseBytes += read;
+                            }
+
+                            return read;
+                        }
+
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                call.finish(statusCode, null);
+                            }
+                        }
+                    }
+            );
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.signaturit.api.java_sdk;
+
+/**
+ * Receives the metrics of every call made through a client, registered with
+ * {@link ClientOptions#addMetricsListener(MetricsListener)}.
+ * <p>
+ * Methods are called on the thread of the call, or of whoever closes its
+ * response, so implementations must be thread-safe and must not block. They are
+ * meant to forward the events to a metrics registry; {@link RouteMetrics} is a
+ * ready to use in-memory implementation.
+ */
+public interface MetricsListener {
+
+    /**
+     * @param method HTTP method of the call
+     * @param route  route template of the call, such as {@code signatures/{id}.json}
+     */
+    void requestStarted(String method, String route);
+
+    /**
+     * @param event outcome of the call, once its response body is closed or it failed
+     */
+    void requestFinished(RequestEvent event);
+}
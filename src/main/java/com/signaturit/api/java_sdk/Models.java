@@ -0,0 +1,162 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers shared by the typed models to decode their fields from a {@link JsonReader}.
+ * Missing and null values decode to null, zero or an empty collection.
+ */
+final class Models {
+
+    private static final JsonDecoder<String> STRING = new JsonDecoder<String>() {
+        @Override
+        public String decode(JsonReader reader) throws IOException {
+            return reader.nextStringOrNull();
+        }
+    };
+
+    private Models() {
+    }
+
+    /**
+     * @return the model decoded from the body, the response is closed
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    static <T> T fromResponse(Response response, JsonDecoder<T> decoder) throws IOException {
+        try {
+            return decoder.decode(reader(response));
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * @return the models decoded from a body holding a JSON array, the response is closed
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    static <T> List<T> listFromResponse(Response response, JsonDecoder<T> decoder) throws IOException {
+        try {
+            return list(reader(response), decoder);
+        } finally {
+            response.close();
+        }
+    }
+
+    static String string(JsonReader reader) throws IOException {
+        return reader.nextStringOrNull();
+    }
+
+    static long longValue(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+
+            return 0;
+        }
+
+        return reader.nextLong();
+    }
+
+    static int intValue(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+
+            return 0;
+        }
+
+        return reader.nextInt();
+    }
+
+    static <T> T object(JsonReader reader, JsonDecoder<T> decoder) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+
+            return null;
+        }
+
+        return decoder.decode(reader);
+    }
+
+    static <T> List<T> list(JsonReader reader, JsonDecoder<T> decoder) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+
+            return Collections.emptyList();
+        }
+
+        List<T> items = new ArrayList<T>();
+
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            items.add(decoder.decode(reader));
+        }
+
+        reader.endArray();
+
+        return Collections.unmodifiableList(items);
+    }
+
+    static List<String> strings(JsonReader reader) throws IOException {
+        return list(reader, STRING);
+    }
+
+    /**
+     * Decodes an object of scalar values, such as custom data. Nested values are kept in their string form.
+     */
+    static Map<String, String> stringMap(JsonReader reader) throws IOException {
+        Map<String, String> map = new LinkedHashMap<String, String>();
+
+        // the API sends an empty array instead of an empty object
+        if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+            reader.skipValue();
+
+            return Collections.unmodifiableMap(map);
+        }
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            switch (reader.peek()) {
+                case STRING:
+                case NUMBER:
+                    map.put(name, reader.nextString());
+                    break;
+                case BOOLEAN:
+                    map.put(name, String.valueOf(reader.nextBoolean()));
+                    break;
+                case NULL:
+                    reader.nextNull();
+                    map.put(name, null);
+                    break;
+                default:
+                    map.put(name, String.valueOf(reader.readValue()));
+            }
+        }
+
+        reader.endObject();
+
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static JsonReader reader(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            throw new IOException("Request " + response.request().url() + " failed with HTTP " + response.code());
+        }
+
+        ResponseBody body = response.body();
+
+        assert body != null;
+
+        return new JsonReader(body.source());
+    }
+}
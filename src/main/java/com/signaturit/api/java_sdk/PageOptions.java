@@ -0,0 +1,62 @@
+package com.signaturit.api.java_sdk;
+
+/**
+ * Page size and prefetch depth of the iterables returned by the {@code getAll}
+ * methods of {@link Client}.
+ */
+public class PageOptions {
+
+    /**
+     * Default number of items requested per page
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Default number of pages fetched ahead of the page being consumed
+     */
+    public static final int DEFAULT_PREFETCH = 1;
+
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    private int prefetch = DEFAULT_PREFETCH;
+
+    /**
+     * @param pageSize number of items requested per page
+     * @return these options
+     */
+    public PageOptions setPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize < 1: " + pageSize);
+        }
+
+        this.pageSize = pageSize;
+
+        return this;
+    }
+
+    /**
+     * Pages fetched in the background while the current one is consumed. At most
+     * {@code prefetch + 1} pages are held in memory at any time; 0 fetches each
+     * page only once the previous one is exhausted.
+     *
+     * @param prefetch number of pages fetched ahead
+     * @return these options
+     */
+    public PageOptions setPrefetch(int prefetch) {
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("prefetch < 0: " + prefetch);
+        }
+
+        this.prefetch = prefetch;
+
+        return this;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+}
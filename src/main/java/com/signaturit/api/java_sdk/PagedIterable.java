@@ -0,0 +1,286 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy view over every item of a paginated listing. Pages are requested with
+ * {@code limit} and {@code offset} as the iterator advances, and the next pages
+ * are fetched in the background while the current one is consumed, so the
+ * network latency overlaps with the processing of the items.
+ * <p>
+ * Each call to {@link #iterator()} or {@link #stream()} starts a new listing from
+ * the first page. Iteration stops at the first page holding fewer items than the
+ * page size. Failures are thrown from the iterator as {@link UncheckedIOException}.
+ *
+ * @param <T> type of the items
+ */
+public class PagedIterable<T> implements Iterable<T> {
+
+    /**
+     * Requests one page of a listing.
+     */
+    interface PageFetcher {
+        CompletableFuture<Response> fetch(int limit, int offset);
+    }
+
+    private final PageFetcher fetcher;
+    private final JsonDecoder<T> decoder;
+    private final int pageSize;
+    private final int prefetch;
+
+    PagedIterable(PageFetcher fetcher, JsonDecoder<T> decoder, PageOptions options) {
+        this.fetcher = fetcher;
+        this.decoder = decoder;
+        this.pageSize = options.getPageSize();
+        this.prefetch = options.getPrefetch();
+    }
+
+    @Override
+    public PageIterator<T> iterator() {
+        return new PageIterator<T>(this);
+    }
+
+    /**
+     * @return sequential stream over the items, closing it cancels the pages in flight
+     */
+    public Stream<T> stream() {
+        final PageIterator<T> iterator = iterator();
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(new Runnable() {
+            @Override
+            public void run() {
+                iterator.close();
+            }
+        });
+    }
+
+    /**
+     * Iterator over the items of a listing. Closing it before the end cancels the
+     * pages being prefetched.
+     *
+     * @param <T> type of the items
+     */
+    public static class PageIterator<T> implements Iterator<T>, Closeable {
+
+        private final PagedIterable<T> iterable;
+
+        private final Deque<Page<T>> pending = new ArrayDeque<Page<T>>();
+
+        private Iterator<T> current = Collections.<T>emptyList().iterator();
+
+        private int nextOffset = 0;
+
+        /**
+         * True once a page shorter than the page size has been received
+         */
+        private boolean exhausted = false;
+
+        private boolean closed = false;
+
+        PageIterator(PagedIterable<T> iterable) {
+            this.iterable = iterable;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (closed || exhausted) {
+                    return false;
+                }
+
+                if (pending.isEmpty()) {
+                    request();
+                }
+
+                List<T> items = await(pending.poll());
+
+                if (items.size() < iterable.pageSize) {
+                    exhausted = true;
+                    cancelPending();
+                } else {
+                    while (pending.size() < iterable.prefetch) {
+                        request();
+                    }
+                }
+
+                current = items.iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return current.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            current = Collections.<T>emptyList().iterator();
+
+            cancelPending();
+        }
+
+        private void request() {
+            pending.add(Page.request(iterable.fetcher, iterable.decoder, iterable.pageSize, nextOffset));
+
+            nextOffset += iterable.pageSize;
+        }
+
+        private List<T> await(Page<T> page) {
+            try {
+                return page.await();
+            } catch (RuntimeException e) {
+                close();
+
+                throw e;
+            }
+        }
+
+        private void cancelPending() {
+            Page<T> page;
+
+            while ((page = pending.poll()) != null) {
+                page.cancel();
+            }
+        }
+    }
+
+    /**
+     * One page request, decoded in the background as soon as the response arrives.
+     *
+     * @param <T> type of the items
+     */
+    static class Page<T> {
+
+        private final CompletableFuture<Response> call;
+        private final CompletableFuture<List<T>> items;
+
+        private Page(CompletableFuture<Response> call, CompletableFuture<List<T>> items) {
+            this.call = call;
+            this.items = items;
+        }
+
+        static <T> Page<T> request(PageFetcher fetcher, final JsonDecoder<T> decoder, final int limit, int offset) {
+            CompletableFuture<Response> call = fetcher.fetch(limit, offset);
+
+            CompletableFuture<List<T>> items = call.thenApply(new Function<Response, List<T>>() {
+                @Override
+                public List<T> apply(Response response) {
+                    try {
+                        return decode(response, decoder, limit);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+
+            return new Page<T>(call, items);
+        }
+
+        /**
+         * @return future completed once the page is decoded, or failed
+         */
+        CompletableFuture<List<T>> items() {
+            return items;
+        }
+
+        /**
+         * @return the items, waiting for the page if needed
+         * @throws UncheckedIOException when the page could not be fetched or decoded
+         */
+        List<T> await() {
+            try {
+                return items.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new UncheckedIOException(new IOException("Interrupted while waiting for a page", e));
+            } catch (ExecutionException e) {
+                throw failure(e.getCause());
+            } catch (CancellationException e) {
+                throw new UncheckedIOException(new IOException("Page request cancelled", e));
+            }
+        }
+
+        void cancel() {
+            call.cancel(true);
+        }
+
+        private static <T> List<T> decode(Response response, JsonDecoder<T> decoder, int limit) throws IOException {
+            try {
+                if (!response.isSuccessful()) {
+                    throw new IOException("Listing " + response.request().url() + " failed with HTTP " + response.code());
+                }
+
+                ResponseBody body = response.body();
+
+                assert body != null;
+
+                JsonReader reader = new JsonReader(body.source());
+                List<T> items = new ArrayList<T>(limit);
+
+                reader.beginArray();
+
+                while (reader.hasNext()) {
+                    items.add(decoder.decode(reader));
+                }
+
+                reader.endArray();
+
+                return items;
+            } finally {
+                response.close();
+            }
+        }
+
+        private static RuntimeException failure(Throwable cause) {
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+
+            if (cause instanceof UncheckedIOException) {
+                return (UncheckedIOException) cause;
+            }
+
+            if (cause instanceof IOException) {
+                return new UncheckedIOException((IOException) cause);
+            }
+
+            if (cause instanceof RuntimeException) {
+                return (RuntimeException) cause;
+            }
+
+            return new UncheckedIOException(new IOException(cause));
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Full scan of a listing split into partitions fetched concurrently. The listing
+ * is counted first, its offset range is cut into partitions of the page size,
+ * and up to {@link ScanOptions#getParallelism()} partitions are in flight at once.
+ * <p>
+ * Items are delivered in listing order, or partition by partition as they arrive
+ * when the scan is unordered. Partitions are computed from the count taken when
+ * the iteration starts: items created during the scan may be missed and items
+ * removed during the scan may shift others across partitions. Failures are
+ * thrown from the iterator as {@link UncheckedIOException}.
+ *
+ * @param <T> type of the items
+ */
+public class PartitionedScan<T> implements Iterable<T> {
+
+    /**
+     * Counts the items of the listing.
+     */
+    interface Counter {
+        Response count() throws IOException;
+    }
+
+    private final Counter counter;
+    private final PagedIterable.PageFetcher fetcher;
+    private final JsonDecoder<T> decoder;
+    private final int pageSize;
+    private final int parallelism;
+    private final boolean ordered;
+
+    PartitionedScan(Counter counter, PagedIterable.PageFetcher fetcher, JsonDecoder<T> decoder, ScanOptions options) {
+        this.counter = counter;
+        this.fetcher = fetcher;
+        this.decoder = decoder;
+        this.pageSize = options.getPageSize();
+        this.parallelism = options.getParallelism();
+        this.ordered = options.isOrdered();
+    }
+
+    @Override
+    public ScanIterator<T> iterator() {
+        return new ScanIterator<T>(this);
+    }
+
+    /**
+     * @return sequential stream over the items, closing it cancels the partitions in flight
+     */
+    public Stream<T> stream() {
+        final ScanIterator<T> iterator = iterator();
+        int characteristics = ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, characteristics),
+                false
+        ).onClose(new Runnable() {
+            @Override
+            public void run() {
+                iterator.close();
+            }
+        });
+    }
+
+    /**
+     * @param response count response, either a number or an object with a count field
+     * @return the count
+     */
+    static long readCount(Response response) throws IOException {
+        try {
+            if (!response.isSuccessful()) {
+                throw new IOException("Count " + response.request().url() + " failed with HTTP " + response.code());
+            }
+
+            ResponseBody body = response.body();
+
+            assert body != null;
+
+            JsonReader reader = new JsonReader(body.source());
+
+            if (reader.peek() == JsonReader.Token.NUMBER) {
+                return reader.nextLong();
+            }
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("count")) {
+                    return reader.nextLong();
+                }
+
+                reader.skipValue();
+            }
+
+            throw new IOException("Count " + response.request().url() + " returned no count");
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Iterator over the items of a scan. Closing it before the end cancels the
+     * partitions in flight.
+     *
+     * @param <T> type of the items
+     */
+    public static class ScanIterator<T> implements Iterator<T>, Closeable {
+
+        private final PartitionedScan<T> scan;
+
+        /**
+         * Partitions in flight, in offset order
+         */
+        private final Deque<PagedIterable.Page<T>> pending = new ArrayDeque<PagedIterable.Page<T>>();
+
+        /**
+         * Partitions completed but not consumed yet, only used by unordered scans
+         */
+        private final BlockingQueue<PagedIterable.Page<T>> completed = new LinkedBlockingQueue<PagedIterable.Page<T>>();
+
+        private Iterator<T> current = Collections.<T>emptyList().iterator();
+
+        private long count = -1;
+
+        private long partitions = -1;
+
+        private long nextPartition = 0;
+
+        private boolean closed = false;
+
+        ScanIterator(PartitionedScan<T> scan) {
+            this.scan = scan;
+        }
+
+        /**
+         * @return number of items counted when the scan started, -1 before the first call to {@link #hasNext()}
+         */
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (partitions < 0 && !closed) {
+                start();
+            }
+
+            while (!current.hasNext()) {
+                if (closed || pending.isEmpty()) {
+                    return false;
+                }
+
+                current = next(scan.ordered ? pending.peek() : take()).iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return current.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            current = Collections.<T>emptyList().iterator();
+
+            PagedIterable.Page<T> page;
+
+            while ((page = pending.poll()) != null) {
+                page.cancel();
+            }
+
+            completed.clear();
+        }
+
+        private void start() {
+            try {
+                count = readCount(scan.counter.count());
+            } catch (IOException e) {
+                close();
+
+                throw new UncheckedIOException(e);
+            }
+
+            partitions = (count + scan.pageSize - 1) / scan.pageSize;
+
+            fill();
+        }
+
+        private List<T> next(PagedIterable.Page<T> page) {
+            pending.remove(page);
+
+            List<T> items;
+
+            try {
+                items = page.await();
+            } catch (RuntimeException e) {
+                close();
+
+                throw e;
+            }
+
+            fill();
+
+            return items;
+        }
+
+        private PagedIterable.Page<T> take() {
+            try {
+                return completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+
+                throw new UncheckedIOException(new IOException("Interrupted while waiting for a partition", e));
+            }
+        }
+
+        private void fill() {
+            while (pending.size() < scan.parallelism && nextPartition < partitions) {
+                long offset = nextPartition++ * scan.pageSize;
+
+                if (offset > Integer.MAX_VALUE) {
+                    throw new UncheckedIOException(new IOException("Offset " + offset + " out of range"));
+                }
+
+                final PagedIterable.Page<T> page = PagedIterable.Page.request(scan.fetcher, scan.decoder, scan.pageSize, (int) offset);
+
+                pending.add(page);
+
+                if (!scan.ordered) {
+                    page.items().whenComplete(new BiConsumer<List<T>, Throwable>() {
+                        @Override
+                        public void accept(List<T> items, Throwable failure) {
+                            completed.add(page);
+                        }
+                    });
+                }
+            }
+        }
+    }
+}
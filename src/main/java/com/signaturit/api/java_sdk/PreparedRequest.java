@@ -0,0 +1,119 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A signature, email or SMS request sent many times with the same options and
+ * documents, only the recipients changing.
+ * <p>
+ * The parameters and the documents are encoded into multipart segments once, when
+ * the request is prepared. Each send encodes its recipients, and the parameters
+ * given to it, between those segments, so a campaign pays for its branding,
+ * subject, body and files once instead of on every request.
+ * <p>
+ * The documents are read when the request is prepared and kept in memory until it
+ * is discarded, so streams are read once and every send can be retried. Sends may
+ * run concurrently from several threads.
+ */
+public final class PreparedRequest {
+
+    private final OkHttpClient client;
+    private final String url;
+    private final String accessToken;
+    private final String boundary;
+
+    /**
+     * Parameter parts written before the recipients
+     */
+    private final ByteString head;
+
+    /**
+     * Document parts written after the recipients
+     */
+    private final ByteString tail;
+
+    PreparedRequest(
+            OkHttpClient client,
+            String url,
+            String accessToken,
+            Map<String, Object> parameters,
+            List<UploadSource> documents
+    ) throws IOException {
+        if (parameters != null && parameters.containsKey("recipients")) {
+            throw new IllegalArgumentException("recipients are given to each send, not to the prepared request");
+        }
+
+        this.client = client;
+        this.url = url;
+        this.accessToken = accessToken;
+        this.boundary = UUID.randomUUID().toString();
+
+        this.head = FormEncoder.parts(parameters, null, this.boundary);
+        this.tail = FormEncoder.parts(null, documents, this.boundary);
+    }
+
+    /**
+     * @param recipients recipients of this send
+     * @return the response of the API
+     */
+    public Response send(ArrayList<HashMap<String, Object>> recipients) throws IOException {
+        return send(recipients, null);
+    }
+
+    /**
+     * @param recipients recipients of this send
+     * @param parameters parameters of this send only, such as {@code data}, may be null
+     * @return the response of the API
+     */
+    public Response send(ArrayList<HashMap<String, Object>> recipients, Map<String, Object> parameters) throws IOException {
+        return RequestHelper.requestPost(this.client, this.url, this.accessToken, body(recipients, parameters));
+    }
+
+    /**
+     * @param recipients recipients of this send
+     * @return the pending response, see {@link AsyncClient}
+     */
+    public CompletableFuture<Response> sendAsync(ArrayList<HashMap<String, Object>> recipients) {
+        return sendAsync(recipients, null);
+    }
+
+    /**
+     * @param recipients recipients of this send
+     * @param parameters parameters of this send only, such as {@code data}, may be null
+     * @return the pending response, see {@link AsyncClient}
+     */
+    public CompletableFuture<Response> sendAsync(ArrayList<HashMap<String, Object>> recipients, Map<String, Object> parameters) {
+        return RequestHelper.requestPostAsync(this.client, this.url, this.accessToken, body(recipients, parameters));
+    }
+
+    /**
+     * @return bytes encoded once and written by every send
+     */
+    public long getPreparedSize() {
+        return this.head.size() + this.tail.size();
+    }
+
+    private RequestBody body(ArrayList<HashMap<String, Object>> recipients, Map<String, Object> parameters) {
+        Map<String, Object> delta = new LinkedHashMap<String, Object>();
+
+        delta.put("recipients", recipients);
+
+        if (parameters != null) {
+            delta.putAll(parameters);
+        }
+
+        return FormEncoder.multipart(this.head, delta, this.tail, this.boundary);
+    }
+}
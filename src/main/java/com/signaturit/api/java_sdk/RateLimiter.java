@@ -0,0 +1,377 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client-side token bucket limiter, enabled with
+ * {@link ClientOptions#setRateLimit(double, int)} or
+ * {@link ClientOptions#setRateLimit(EndpointFamily, double, int)}.
+ * <p>
+ * A request sent to the API takes a token from the bucket of its
+ * {@link EndpointFamily} and then from the global bucket, waiting in the calling
+ * thread, or in the dispatcher thread for asynchronous calls, until both have one. When the API answers 429 or
+ * sends {@code Retry-After}, the requests of that family are held back until it
+ * has passed, one second when no delay is sent. When it announces with
+ * {@code X-RateLimit-Remaining: 0} that the account quota is spent, every request
+ * is held back until {@code X-RateLimit-Reset}. A request answered 429 is queued
+ * and sent again, up to three times, unless its body cannot be replayed.
+ * <p>
+ * Responses served by the HTTP cache take no token, a conditional request
+ * revalidating one does. Requests coalesced with
+ * {@link ClientOptions#setCoalesceGets(boolean)} share the token of the request
+ * they wait for.
+ */
+public final class RateLimiter {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+
+    private final Bucket global;
+    private final Map<EndpointFamily, Bucket> families = new EnumMap<EndpointFamily, Bucket>(EndpointFamily.class);
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong waitCount = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    RateLimiter(ClientOptions options) {
+        this.global = new Bucket(options.getRateLimit(), options.getRateLimitBurst());
+
+        for (EndpointFamily family : EndpointFamily.values()) {
+            this.families.put(family, new Bucket(options.getRateLimit(family), options.getRateLimitBurst(family)));
+        }
+    }
+
+    /**
+     * @return requests currently waiting for a token
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return highest number of requests that waited at once
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * @return requests that had to wait for a token
+     */
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    /**
+     * @return time requests spent waiting for a token, in milliseconds
+     */
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+
+    /**
+     * @return longest time a request waited for a token, in milliseconds
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    /**
+     * @return responses with status 429 received
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter{queueDepth=" + getQueueDepth()
+                + ", maxQueueDepth=" + getMaxQueueDepth()
+                + ", waits=" + getWaitCount()
+                + ", totalWaitMillis=" + getTotalWaitMillis()
+                + ", maxWaitMillis=" + getMaxWaitMillis()
+                + ", throttled=" + getThrottledCount()
+                + "}";
+    }
+
+    /**
+     * @return application interceptor holding requests back and sending them again when the API throttles them
+     */
+    Interceptor interceptor() {
+        return new LimitingInterceptor(this);
+    }
+
+    /**
+     * @return network interceptor taking a token before each request sent to the API
+     */
+    Interceptor networkInterceptor() {
+        return new TokenInterceptor(this);
+    }
+
+    /**
+     * @param client transport built by {@link RequestHelper#newClient(ClientOptions)}
+     * @return its rate limiter, or null when it has none
+     */
+    static RateLimiter of(OkHttpClient client) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (interceptor instanceof LimitingInterceptor) {
+                return ((LimitingInterceptor) interceptor).limiter;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param response response of the API
+     * @return milliseconds to hold requests back, 0 when the quota is not spent
+     */
+    static long backoffMillis(Response response) {
+        if (response.header("Retry-After") != null) {
+            return retryAfterMillis(response);
+        }
+
+        String reset = response.header("X-RateLimit-Reset");
+
+        if ("0".equals(response.header("X-RateLimit-Remaining")) && reset != null) {
+            try {
+                long seconds = Long.parseLong(reset.trim());
+
+                // either seconds until the reset or the epoch second of the reset
+                if (seconds > 1000000000L) {
+                    return Math.max(0, TimeUnit.SECONDS.toMillis(seconds) - System.currentTimeMillis());
+                }
+
+                return TimeUnit.SECONDS.toMillis(Math.max(0, seconds));
+            } catch (NumberFormatException e) {
+                return DEFAULT_RETRY_AFTER_MILLIS;
+            }
+        }
+
+        return response.code() == 429 ? DEFAULT_RETRY_AFTER_MILLIS : 0;
+    }
+
+    /**
+     * @param response response of the API
+     * @return true when it reports the quota of the whole account as spent, rather than a throttled endpoint
+     */
+    static boolean isAccountWide(Response response) {
+        return "0".equals(response.header("X-RateLimit-Remaining"));
+    }
+
+    /**
+     * @param response response of the API
+     * @return milliseconds to wait according to its Retry-After header, 0 without one
+     */
+    static long retryAfterMillis(Response response) {
+        String retryAfter = response.header("Retry-After");
+
+        return retryAfter == null ? 0 : Math.max(0, parseRetryAfter(retryAfter.trim()));
+    }
+
+    private static long parseRetryAfter(String value) {
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            // not delay-seconds, an HTTP date then
+        }
+
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli()
+                    - System.currentTimeMillis();
+        } catch (DateTimeParseException e) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+    }
+
+    private void acquire(EndpointFamily family) throws InterruptedIOException {
+        long start = System.nanoTime();
+        boolean queued = false;
+
+        try {
+            for (Bucket bucket : new Bucket[]{families.get(family), global}) {
+                long wait;
+
+                while ((wait = bucket.tryAcquire()) > 0) {
+                    if (!queued) {
+                        queued = true;
+                        updateMax(maxQueueDepth, queueDepth.incrementAndGet());
+                    }
+
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException("Interrupted while waiting for the rate limiter");
+        } finally {
+            if (queued) {
+                long waited = System.nanoTime() - start;
+
+                queueDepth.decrementAndGet();
+                waitCount.incrementAndGet();
+                waitNanos.addAndGet(waited);
+                updateMax(maxWaitNanos, waited);
+            }
+        }
+    }
+
+    private static void updateMax(AtomicInteger max, int value) {
+        int current;
+
+        while ((current = max.get()) < value && !max.compareAndSet(current, value)) {
+            // lost the race, read the new maximum
+        }
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+
+        while ((current = max.get()) < value && !max.compareAndSet(current, value)) {
+            // lost the race, read the new maximum
+        }
+    }
+
+    private static class Bucket {
+
+        /**
+         * Tokens added per nanosecond, 0 when the bucket is unlimited
+         */
+        private final double rate;
+        private final double capacity;
+
+        private double tokens;
+        private long refilledAt;
+        private long pausedUntil;
+
+        Bucket(double permitsPerSecond, int burst) {
+            this.rate = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = burst;
+            this.tokens = burst;
+            this.refilledAt = System.nanoTime();
+            this.pausedUntil = refilledAt;
+        }
+
+        /**
+         * @return 0 when a token was taken, otherwise the nanoseconds to wait before trying again
+         */
+        synchronized long tryAcquire() {
+            long now = System.nanoTime();
+
+            if (now - pausedUntil < 0) {
+                return pausedUntil - now;
+            }
+
+            if (rate == 0) {
+                return 0;
+            }
+
+            if (now - refilledAt > 0) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * rate);
+                refilledAt = now;
+            }
+
+            if (tokens >= 1) {
+                tokens -= 1;
+
+                return 0;
+            }
+
+            return Math.max(1, (long) Math.ceil((1 - tokens) / rate));
+        }
+
+        /**
+         * Holds every request back for a while, the bucket refills from the end of the pause.
+         */
+        synchronized void pause(long millis) {
+            long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+            if (until - pausedUntil > 0) {
+                pausedUntil = until;
+                tokens = Math.min(tokens, 1);
+                refilledAt = until;
+            }
+        }
+    }
+
+    private static class LimitingInterceptor implements Interceptor {
+
+        private final RateLimiter limiter;
+
+        LimitingInterceptor(RateLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            EndpointFamily family = EndpointFamily.of(request.url().encodedPath());
+            RequestBody body = request.body();
+
+            for (int attempt = 1; ; ++attempt) {
+                Response response = chain.proceed(request);
+                long backoff = backoffMillis(response);
+
+                if (backoff > 0) {
+                    limiter.families.get(family).pause(backoff);
+
+                    if (isAccountWide(response)) {
+                        limiter.global.pause(backoff);
+                    }
+                }
+
+                if (response.code() != 429) {
+                    return response;
+                }
+
+                limiter.throttledCount.incrementAndGet();
+
+                if (attempt == MAX_ATTEMPTS || (body != null && body.isOneShot())) {
+                    return response;
+                }
+
+                response.close();
+            }
+        }
+    }
+    /**
+     * Runs below the HTTP cache, so that only requests reaching the API take a token.
+     */
+    private static class TokenInterceptor implements Interceptor {
+
+        private final RateLimiter limiter;
+
+        TokenInterceptor(RateLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+
+            limiter.acquire(EndpointFamily.of(request.url().encodedPath()));
+
+            return chain.proceed(request);
+        }
+    }
+}
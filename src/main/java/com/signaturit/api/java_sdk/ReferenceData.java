@@ -0,0 +1,32 @@
+package com.signaturit.api.java_sdk;
+
+/**
+ * Kinds of rarely changing data kept by the {@link ReferenceDataCache}.
+ */
+public enum ReferenceData {
+
+    BRANDINGS("brandings"),
+
+    TEMPLATES("templates"),
+
+    USERS("team/users"),
+
+    GROUPS("team/groups"),
+
+    SEATS("team/seats"),
+
+    SUBSCRIPTIONS("subscriptions");
+
+    private final String route;
+
+    ReferenceData(String route) {
+        this.route = route;
+    }
+
+    /**
+     * @return route prefix of the resource, relative to the API version
+     */
+    String getRoute() {
+        return route;
+    }
+}
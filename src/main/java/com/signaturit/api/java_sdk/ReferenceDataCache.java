@@ -0,0 +1,290 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process cache of decoded reference data, enabled with
+ * {@link ClientOptions#setReferenceDataCache(int)}. Entries expire after the TTL
+ * of their {@link ReferenceData} kind and the least recently used entry is
+ * evicted once the cache is full.
+ * <p>
+ * Every write request sent through the client, whether blocking or asynchronous,
+ * invalidates the kinds of data it can change once its response is received. A
+ * load racing with such a write is not stored, so a stale value read before the
+ * write completed never outlives it.
+ */
+public final class ReferenceDataCache {
+
+    /**
+     * Loads a value missing from the cache.
+     */
+    interface Loader<T> {
+        T load() throws IOException;
+    }
+
+    private final int maxEntries;
+    private final Map<ReferenceData, Long> ttlNanos;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    /**
+     * Bumped by each invalidation, loads started under an older generation are discarded
+     */
+    private final Map<ReferenceData, Long> generations = new EnumMap<ReferenceData, Long>(ReferenceData.class);
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+    private long invalidationCount = 0;
+
+    ReferenceDataCache(ClientOptions options) {
+        this.maxEntries = options.getReferenceDataCacheSize();
+        this.ttlNanos = new EnumMap<ReferenceData, Long>(ReferenceData.class);
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+
+        for (ReferenceData kind : ReferenceData.values()) {
+            this.ttlNanos.put(kind, TimeUnit.MILLISECONDS.toNanos(options.getReferenceDataTtlMillis(kind)));
+            this.generations.put(kind, 0L);
+        }
+    }
+
+    /**
+     * @return lookups answered from the cache
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return lookups that loaded the value from the API, because it was missing or expired
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return entries dropped to stay within the maximum number of entries
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return entries dropped because a write could have changed them
+     */
+    public synchronized long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * @return number of entries currently held
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops every entry of a kind.
+     *
+     * @param kind data to drop
+     */
+    public synchronized void invalidate(ReferenceData kind) {
+        generations.put(kind, generations.get(kind) + 1);
+
+        Iterator<Key> iterator = entries.keySet().iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next().kind == kind) {
+                iterator.remove();
+                invalidationCount++;
+            }
+        }
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void invalidateAll() {
+        for (ReferenceData kind : ReferenceData.values()) {
+            invalidate(kind);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ReferenceDataCache{size=" + entries.size()
+                + ", hits=" + hitCount
+                + ", misses=" + missCount
+                + ", evictions=" + evictionCount
+                + ", invalidations=" + invalidationCount
+                + "}";
+    }
+
+    /**
+     * @param kind   kind of data, which sets the TTL and the invalidations
+     * @param key    identifies the value within its kind, such as its route
+     * @param loader loads the value when missing or expired, outside of the cache lock
+     * @return the cached or loaded value
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(ReferenceData kind, String key, Loader<T> loader) throws IOException {
+        Key entryKey = new Key(kind, key);
+        long generation;
+
+        synchronized (this) {
+            Entry entry = entries.get(entryKey);
+
+            if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos.get(kind)) {
+                hitCount++;
+
+                return (T) entry.value;
+            }
+
+            if (entry != null) {
+                entries.remove(entryKey);
+            }
+
+            missCount++;
+            generation = generations.get(kind);
+        }
+
+        T value = loader.load();
+
+        synchronized (this) {
+            if (generations.get(kind) == generation) {
+                entries.put(entryKey, new Entry(value, System.nanoTime()));
+
+                evict();
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * @return application interceptor invalidating the data changed by each write request
+     */
+    Interceptor interceptor() {
+        return new InvalidatingInterceptor(this);
+    }
+
+    /**
+     * @param client transport built by {@link RequestHelper#newClient(ClientOptions)}
+     * @return its reference data cache, or null when it has none
+     */
+    static ReferenceDataCache of(OkHttpClient client) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (interceptor instanceof InvalidatingInterceptor) {
+                return ((InvalidatingInterceptor) interceptor).cache;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param path encoded path of a write request
+     * @return kinds of data the request can change
+     */
+    static Set<ReferenceData> affectedBy(String path) {
+        Set<ReferenceData> kinds = EnumSet.noneOf(ReferenceData.class);
+
+        for (ReferenceData kind : ReferenceData.values()) {
+            if (path.contains(Client.API_VERSION + kind.getRoute())) {
+                kinds.add(kind);
+            }
+        }
+
+        // invitations and removals change the seats in use, and the groups listing their members
+        if (kinds.contains(ReferenceData.USERS) || kinds.contains(ReferenceData.SEATS)) {
+            kinds.add(ReferenceData.USERS);
+            kinds.add(ReferenceData.SEATS);
+            kinds.add(ReferenceData.GROUPS);
+        }
+
+        return kinds;
+    }
+
+    private void evict() {
+        Iterator<Key> iterator = entries.keySet().iterator();
+
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private static class Key {
+
+        private final ReferenceData kind;
+        private final String key;
+
+        Key(ReferenceData kind, String key) {
+            this.kind = kind;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) o;
+
+            return kind == other.kind && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + key.hashCode();
+        }
+    }
+
+    private static class Entry {
+
+        private final Object value;
+        private final long loadedAt;
+
+        Entry(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private static class InvalidatingInterceptor implements Interceptor {
+
+        private final ReferenceDataCache cache;
+
+        InvalidatingInterceptor(ReferenceDataCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            if (chain.request().method().equals("GET")) {
+                return chain.proceed(chain.request());
+            }
+
+            try {
+                return chain.proceed(chain.request());
+            } finally {
+                for (ReferenceData kind : affectedBy(chain.request().url().encodedPath())) {
+                    cache.invalidate(kind);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.signaturit.api.java_sdk;
+
+import java.io.IOException;
+
+/**
+ * Outcome of a call, reported to the {@link MetricsListener}s of a client.
+ */
+public final class RequestEvent {
+
+    private final String method;
+    private final String route;
+    private final EndpointFamily family;
+    private final int statusCode;
+    private final IOException failure;
+    private final long headersNanos;
+    private final long durationNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final int inFlight;
+    private final int connectionCount;
+    private final int idleConnectionCount;
+
+    RequestEvent(String method, String route, EndpointFamily family, int statusCode, IOException failure,
+                 long headersNanos, long durationNanos, long requestBytes, long responseBytes,
+                 int inFlight, int connectionCount, int idleConnectionCount) {
+        this.method = method;
+        this.route = route;
+        this.family = family;
+        this.statusCode = statusCode;
+        this.failure = failure;
+        this.headersNanos = headersNanos;
+        this.durationNanos = durationNanos;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.inFlight = inFlight;
+        this.connectionCount = connectionCount;
+        this.idleConnectionCount = idleConnectionCount;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return route template, such as {@code signatures/{id}/cancel.json}
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    public EndpointFamily getFamily() {
+        return family;
+    }
+
+    /**
+     * @return HTTP status of the response, 0 when the call failed
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return error of a failed call, null when a response was received
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return time until the response headers were received or the call failed
+     */
+    public long getHeadersNanos() {
+        return headersNanos;
+    }
+
+    /**
+     * @return time until the response body was closed or the call failed
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return size of the request body, -1 when unknown, such as for streamed uploads
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return bytes of the response body read by the caller
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return calls of the client still in flight once this one finished
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return connections of the pool once the call finished
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * @return idle connections of the pool once the call finished
+     */
+    public int getIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestEvent{" + method + " " + route
+                + ", status=" + statusCode
+                + (failure != null ? ", failure=" + failure : "")
+                + ", durationNanos=" + durationNanos
+                + ", requestBytes=" + requestBytes
+                + ", responseBytes=" + responseBytes
+                + "}";
+    }
+}
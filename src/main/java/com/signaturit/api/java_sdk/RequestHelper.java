@@ -2,6 +2,7 @@ package com.signaturit.api.java_sdk;
 
 import okhttp3.*;
 import okhttp3.MultipartBody.Builder;
+import okio.BufferedSink;
 
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
@@ -15,8 +16,10 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 class RequestHelper {
@@ -31,34 +34,28 @@ class RequestHelper {
      */
     public static final int TIMEOUT = 120;
 
+    /**
+     * @param route      route, with or without a query string
+     * @param parameters query parameters to append, percent-encoded
+     * @return the route with the parameters
+     */
     protected static String putGetParamsToUrl(String route, Map<String, Object> parameters) {
-        if (parameters != null) {
-            StringBuilder routeBuilder = new StringBuilder();
-
-            for (Entry<String, Object> entry : parameters.entrySet()) {
-                if (entry.getKey().equals("ids")) {
-                    routeBuilder.append("&ids=");
+        if (parameters == null || parameters.isEmpty()) {
+            return route;
+        }
 
-                    String delim = "";
+        StringBuilder routeBuilder = new StringBuilder(route.length() + parameters.size() * 36).append(route);
+        char last = route.isEmpty() ? 0 : route.charAt(route.length() - 1);
 
-                    for (CharSequence i : (CharSequence[]) entry.getValue()) {
-                        routeBuilder.append(delim).append(i);
+        RouteTemplate.appendQuery(routeBuilder, parameters, route.indexOf('?') < 0 ? '?' : last == '?' || last == '&' ? 0 : '&');
 
-                        delim = ",";
-                    }
-                } else {
-                    routeBuilder.append(
-                            String.format("&%s=%s", entry.getKey(), entry.getValue())
-                    );
-                }
-            }
-
-            route += routeBuilder.toString();
-        }
-
-        return route;
+        return routeBuilder.toString();
     }
 
+    /**
+     * Adds one part per value. Requests are encoded by {@link FormEncoder}, which
+     * writes the same bytes without building the parts.
+     */
     protected static void parseParameters(Builder bodyBuilder, Object recipients, String key) {
         if (recipients instanceof String || recipients instanceof Integer || recipients instanceof Double || recipients instanceof Float) {
             bodyBuilder.addFormDataPart(key, recipients.toString());
@@ -96,6 +93,10 @@ class RequestHelper {
         }
     }
 
+    /**
+     * Adds one field per value. Requests are encoded by {@link FormEncoder}, which
+     * writes the same bytes without building the fields.
+     */
     protected static void parseParametersPatch(okhttp3.FormBody.Builder requestPostBuilder, Object recipients, String key) {
         if (recipients instanceof String || recipients instanceof Integer) {
             requestPostBuilder.addEncoded(key, recipients.toString());
@@ -137,146 +138,366 @@ class RequestHelper {
     }
 
     protected static Response requestPost(String route, String token, Map<String, Object> parameters, ArrayList<File> files) throws IOException {
-        OkHttpClient client = RequestHelper.defaultClient();
+        return requestPost(RequestHelper.defaultClient(), route, token, parameters, files);
+    }
+
+    protected static Response requestPost(OkHttpClient client, String route, String token, Map<String, Object> parameters, ArrayList<File> files) throws IOException {
+        return requestUpload(client, route, token, parameters, UploadSource.fromFiles(files));
+    }
+
+    protected static CompletableFuture<Response> requestPostAsync(OkHttpClient client, String route, String token, Map<String, Object> parameters, ArrayList<File> files) {
+        return requestUploadAsync(client, route, token, parameters, UploadSource.fromFiles(files));
+    }
+
+    protected static Response requestUpload(OkHttpClient client, String route, String token, Map<String, Object> parameters, List<UploadSource> sources) throws IOException {
+        return client.newCall(postRequest(route, token, parameters, sources)).execute();
+    }
+
+    protected static CompletableFuture<Response> requestUploadAsync(OkHttpClient client, String route, String token, Map<String, Object> parameters, List<UploadSource> sources) {
+        return enqueue(client, postRequest(route, token, parameters, sources));
+    }
+
+    protected static Response requestPost(OkHttpClient client, String route, String token, RequestBody requestBody) throws IOException {
+        return client.newCall(postRequest(route, token, requestBody)).execute();
+    }
+
+    protected static CompletableFuture<Response> requestPostAsync(OkHttpClient client, String route, String token, RequestBody requestBody) {
+        return enqueue(client, postRequest(route, token, requestBody));
+    }
+
+    protected static Response requestGet(String route, String token) throws IOException {
+        return requestGet(RequestHelper.defaultClient(), route, token);
+    }
+
+    protected static Response requestGet(OkHttpClient client, String route, String token) throws IOException {
+        return client.newCall(getRequest(route, token)).execute();
+    }
+
+    protected static CompletableFuture<Response> requestGetAsync(OkHttpClient client, String route, String token) {
+        return enqueue(client, getRequest(route, token));
+    }
+
+    protected static Response requestDelete(String route, String token) throws IOException {
+        return requestDelete(RequestHelper.defaultClient(), route, token);
+    }
+
+    protected static Response requestDelete(OkHttpClient client, String route, String token) throws IOException {
+        return client.newCall(deleteRequest(route, token)).execute();
+    }
+
+    protected static CompletableFuture<Response> requestDeleteAsync(OkHttpClient client, String route, String token) {
+        return enqueue(client, deleteRequest(route, token));
+    }
+
+    protected static InputStream requestGetFile(String route, String token) throws IOException {
+        return requestGetFile(RequestHelper.defaultClient(), route, token);
+    }
+
+    protected static InputStream requestGetFile(OkHttpClient client, String route, String token) throws IOException {
+        Response response = client.newCall(getRequest(route, token)).execute();
+        ResponseBody body = response.body();
+
+        assert body != null;
+
+        return body.byteStream();
+    }
+
+    /**
+     * Streams a download into the target and always releases the connection, even
+     * when the transfer fails.
+     *
+     * @throws IOException when the call fails, the server answers with an error or the target cannot be written
+     */
+    protected static DownloadResult requestDownload(OkHttpClient client, String route, String token, DownloadTarget target) throws IOException {
+        long start = System.nanoTime();
 
-        Builder requestPostBuilder = new okhttp3.MultipartBody.Builder().setType(okhttp3.MultipartBody.FORM);
+        Response response = client.newCall(getRequest(route, token)).execute();
 
-        if (parameters != null) {
-            for (Entry<String, Object> entry : parameters.entrySet()) {
-                parseParameters(requestPostBuilder, entry.getValue(), entry.getKey());
+        return transfer(response, target, start);
+    }
+
+    protected static CompletableFuture<DownloadResult> requestDownloadAsync(OkHttpClient client, String route, String token, final DownloadTarget target) {
+        final long start = System.nanoTime();
+        final Call call = client.newCall(getRequest(route, token));
+        final CompletableFuture<DownloadResult> future = new CompletableFuture<DownloadResult>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                call.cancel();
+
+                return super.cancel(mayInterruptIfRunning);
             }
-        }
+        };
 
-        if (files != null) {
-            int i = 0;
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
 
-            for (File temp : files) {
-                requestPostBuilder.addFormDataPart(
-                        "files[" + i + "]",
-                        temp.getName(),
-                        RequestBody.create(MediaType.parse("*/*"), temp)
-                );
+            @Override
+            public void onResponse(Call call, Response response) {
+                try {
+                    future.complete(transfer(response, target, start));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
 
-                ++i;
+        return future;
+    }
+
+    private static DownloadResult transfer(Response response, DownloadTarget target, long start) throws IOException {
+        try {
+            if (!response.isSuccessful()) {
+                throw new IOException("Download of " + response.request().url() + " failed with HTTP " + response.code());
             }
-        }
 
-        RequestBody requestBody;
+            ResponseBody body = response.body();
 
-        if (files == null && parameters == null) {
-            requestPostBuilder.addFormDataPart("", "");
+            assert body != null;
+
+            long bytes = target.transfer(body.source());
+
+            return new DownloadResult(bytes, System.nanoTime() - start);
+        } finally {
+            response.close();
         }
+    }
+
+    protected static Response requestPatch(String route, String token, HashMap<String, Object> parameters) throws IOException {
+        return requestPatch(RequestHelper.defaultClient(), route, token, parameters);
+    }
+
+    protected static Response requestPatch(OkHttpClient client, String route, String token, HashMap<String, Object> parameters) throws IOException {
+        return client.newCall(patchRequest(route, token, parameters)).execute();
+    }
+
+    protected static CompletableFuture<Response> requestPatchAsync(OkHttpClient client, String route, String token, HashMap<String, Object> parameters) {
+        return enqueue(client, patchRequest(route, token, parameters));
+    }
+
+    /**
+     * Enqueues a call on the transport dispatcher. The returned future completes on
+     * a dispatcher thread once the response headers are received; cancelling it
+     * cancels the underlying call.
+     *
+     * @param client  transport
+     * @param request request to send
+     * @return the pending response
+     */
+    protected static CompletableFuture<Response> enqueue(OkHttpClient client, Request request) {
+        final Call call = client.newCall(request);
+        final CallFuture future = new CallFuture(call);
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (!future.complete(response)) {
+                    response.close();
+                }
+            }
+        });
+
+        return future;
+    }
 
-        requestBody = requestPostBuilder.build();
+    private static Request postRequest(String route, String token, Map<String, Object> parameters, List<UploadSource> files) {
+        return postRequest(route, token, FormEncoder.multipart(parameters, files));
+    }
 
-        Request request = new Request.Builder()
+    private static Request postRequest(String route, String token, RequestBody requestBody) {
+        return new Request.Builder()
                 .post(requestBody)
                 .addHeader("Authorization", token)
                 .addHeader("user-agent", RequestHelper.USER_AGENT)
                 .url(route)
                 .build();
-
-        return client.newCall(request).execute();
     }
 
-    protected static Response requestGet(String route, String token) throws IOException {
-        OkHttpClient client = RequestHelper.defaultClient();
-
-        Request request = new Request.Builder()
+    private static Request getRequest(String route, String token) {
+        return new Request.Builder()
                 .get()
                 .addHeader("Authorization", token)
                 .addHeader("user-agent", RequestHelper.USER_AGENT)
                 .url(route)
                 .build();
-
-        return client.newCall(request).execute();
     }
 
-    protected static Response requestDelete(String route, String token) throws IOException {
-        OkHttpClient client = RequestHelper.defaultClient();
-
-        Request request = new Request.Builder()
+    private static Request deleteRequest(String route, String token) {
+        return new Request.Builder()
                 .delete()
                 .addHeader("Authorization", token)
                 .addHeader("user-agent", RequestHelper.USER_AGENT)
                 .url(route)
                 .build();
-
-        return client.newCall(request).execute();
     }
 
-    protected static InputStream requestGetFile(String route, String token) throws IOException {
-        OkHttpClient client = RequestHelper.defaultClient();
+    private static Request patchRequest(String route, String token, HashMap<String, Object> parameters) {
+        RequestBody requestBody = FormEncoder.form(parameters);
 
-        Request request = new Request.Builder()
-                .get()
+        return new Request.Builder()
+                .patch(requestBody)
                 .addHeader("Authorization", token)
                 .addHeader("user-agent", RequestHelper.USER_AGENT)
                 .url(route)
                 .build();
+    }
 
-        Response response = client.newCall(request).execute();
-        ResponseBody body = response.body();
+    /**
+     * @return the transport shared by the static helpers, built on first use
+     */
+    protected static OkHttpClient defaultClient() {
+        return DefaultClientHolder.INSTANCE;
+    }
 
-        assert body != null;
+    /**
+     * Builds a long-lived transport. The returned client owns its own connection
+     * pool and dispatcher, is safe to share across threads and should be reused
+     * for every call made on behalf of the same {@link Client}.
+     *
+     * @param options connection pool, dispatcher and timeout sizing
+     * @return a new transport
+     */
+    protected static OkHttpClient newClient(ClientOptions options) {
+        TLSSocketFactory socketFactory = socketFactory(options.getTlsPolicy());
+        X509TrustManager trustManager = TlsHolder.TRUST_MANAGER;
 
-        return body.byteStream();
-    }
+        assert socketFactory != null;
+        assert trustManager != null;
 
-    protected static Response requestPatch(String route, String token, HashMap<String, Object> parameters) throws IOException {
-        OkHttpClient client = RequestHelper.defaultClient();
+        Dispatcher dispatcher = options.isVirtualThreads()
+                ? new Dispatcher(VirtualThreads.newExecutor())
+                : new Dispatcher();
+        dispatcher.setMaxRequests(options.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+
+        ConnectionPool connectionPool = new ConnectionPool(
+                options.getMaxIdleConnections(),
+                options.getKeepAliveDurationMillis(),
+                TimeUnit.MILLISECONDS
+        );
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectTimeout(options.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(options.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(options.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .sslSocketFactory(socketFactory, trustManager)
+                .protocols(options.getTlsPolicy().getHttpProtocols())
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher);
+
+        if (!options.getMetricsListeners().isEmpty()) {
+            builder.addInterceptor(new MetricsInterceptor(
+                    new ArrayList<MetricsListener>(options.getMetricsListeners()),
+                    connectionPool
+            ));
+        }
 
-        okhttp3.FormBody.Builder requestPostBuilder = new okhttp3.FormBody.Builder();
+        if (options.getReferenceDataCacheSize() > 0) {
+            builder.addInterceptor(new ReferenceDataCache(options).interceptor());
+        }
 
-        if (parameters != null) {
-            for (Entry<String, Object> entry : parameters.entrySet()) {
-                parseParametersPatch(requestPostBuilder, entry.getValue(), entry.getKey());
-            }
+        if (options.getCacheDirectory() != null) {
+            builder.cache(new Cache(options.getCacheDirectory(), options.getCacheMaxSize()))
+                    .addInterceptor(new CacheStats().interceptor());
         }
 
-        RequestBody requestBody;
+        if (options.isCoalesceGets()) {
+            builder.addInterceptor(new SingleFlight());
+        }
 
-        if (parameters == null) {
-            requestPostBuilder.addEncoded("", "");
+        if (options.getRetryPolicy() != null) {
+            builder.addInterceptor(new RetryStats(options.getRetryPolicy()).interceptor());
         }
 
-        requestBody = requestPostBuilder.build();
+        HedgingStats hedging = null;
 
-        Request request = new Request.Builder()
-                .patch(requestBody)
-                .addHeader("Authorization", token)
-                .addHeader("user-agent", RequestHelper.USER_AGENT)
-                .url(route)
-                .build();
+        if (options.getHedgingPolicy() != null) {
+            hedging = new HedgingStats(options);
+            builder.addInterceptor(hedging.interceptor());
+        }
+
+        if (options.getCircuitBreakerPolicy() != null) {
+            builder.addInterceptor(new CircuitBreaker(options.getCircuitBreakerPolicy()).interceptor());
+        }
+
+        if (options.isRateLimited()) {
+            RateLimiter limiter = new RateLimiter(options);
+
+            builder.addInterceptor(limiter.interceptor())
+                    .addNetworkInterceptor(limiter.networkInterceptor());
+        }
+
+        OkHttpClient client = builder.build();
 
-        return client.newCall(request).execute();
+        if (hedging != null) {
+            hedging.bind(client);
+        }
+
+        return client;
     }
 
-    private static OkHttpClient defaultClient() {
-        TLSSocketFactory socketFactory = null;
+    /**
+     * Evicts the idle connections of a transport, stops its dispatcher and hedging
+     * threads and closes its cache.
+     *
+     * @param client transport to release
+     */
+    protected static void closeClient(OkHttpClient client) {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+
+        HedgingStats hedging = HedgingStats.of(client);
 
+        if (hedging != null) {
+            hedging.close();
+        }
+
+        Cache cache = client.cache();
+
+        if (cache != null) {
+            try {
+                cache.close();
+            } catch (IOException e) {
+                // entries are committed as they are written, nothing is lost
+            }
+        }
+    }
+
+    /**
+     * @param policy TLS versions and cipher suites to negotiate
+     * @return the process wide socket factory of the policy, whose SSL context also holds the session cache
+     */
+    protected static TLSSocketFactory socketFactory(TlsPolicy policy) {
+        return policy == TlsPolicy.MODERN ? TlsHolder.MODERN_SOCKET_FACTORY : TlsHolder.COMPATIBILITY_SOCKET_FACTORY;
+    }
+
+    /**
+     * @return the process wide trust manager backed by the JDK default key store
+     */
+    protected static X509TrustManager trustManager() {
+        return TlsHolder.TRUST_MANAGER;
+    }
+
+    protected static TLSSocketFactory newSocketFactory(TlsPolicy policy) {
         try {
-            socketFactory = new TLSSocketFactory();
+            return new TLSSocketFactory(policy);
         } catch (KeyManagementException e) {
             e.printStackTrace();
         } catch (NoSuchAlgorithmException e) {
             e.printStackTrace();
         }
 
-        X509TrustManager trustManager = getTrustManager();
-
-        assert socketFactory != null;
-        assert trustManager != null;
-
-        return new OkHttpClient.Builder()
-                .connectTimeout(RequestHelper.TIMEOUT, TimeUnit.SECONDS)
-                .writeTimeout(RequestHelper.TIMEOUT, TimeUnit.SECONDS)
-                .readTimeout(RequestHelper.TIMEOUT, TimeUnit.SECONDS)
-                .sslSocketFactory(socketFactory, trustManager)
-                .build();
+        return null;
     }
 
-    private static X509TrustManager getTrustManager() {
+    protected static X509TrustManager newTrustManager() {
         TrustManagerFactory trustManagerFactory;
 
         try {
@@ -299,4 +520,39 @@ class RequestHelper {
             return null;
         }
     }
+
+    /**
+     * TLS materials are expensive to build (the trust manager loads the JDK key store
+     * from disk) so they are created once per process and shared by every transport.
+     * Sharing the SSL context also keeps its session cache warm, letting new
+     * connections resume earlier TLS sessions.
+     */
+    private static class TlsHolder {
+        private static final TLSSocketFactory MODERN_SOCKET_FACTORY = newSocketFactory(TlsPolicy.MODERN);
+        private static final TLSSocketFactory COMPATIBILITY_SOCKET_FACTORY = newSocketFactory(TlsPolicy.COMPATIBILITY);
+        private static final X509TrustManager TRUST_MANAGER = newTrustManager();
+    }
+
+    private static class DefaultClientHolder {
+        private static final OkHttpClient INSTANCE = newClient(new ClientOptions());
+    }
+
+    /**
+     * Future bound to an enqueued call, cancelling it cancels the call.
+     */
+    private static class CallFuture extends CompletableFuture<Response> {
+
+        private final Call call;
+
+        CallFuture(Call call) {
+            this.call = call;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            call.cancel();
+
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
 }
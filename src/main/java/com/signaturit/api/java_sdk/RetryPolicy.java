@@ -0,0 +1,206 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries of failed requests, set with {@link ClientOptions#setRetryPolicy(RetryPolicy)}.
+ * <p>
+ * A request failing to connect, timing out, whose connection or HTTP/2 stream was
+ * reset or closed before the response, or answered 502, 503 or 504 is sent again
+ * after an exponential backoff with full jitter: a random delay between zero and
+ * {@code initialBackoff * 2^(retry - 1)}, capped at {@code maxBackoff} and raised
+ * to the {@code Retry-After} of the response when there is one. Retries stop after
+ * {@code maxAttempts} attempts, or when the next one would start after
+ * {@code maxElapsed}, and the last response or error is returned to the caller.
+ * <p>
+ * Only idempotent methods, GET, HEAD, PUT, DELETE and OPTIONS, are retried by
+ * default. With {@link #setRetryWrites(boolean)} POST and PATCH requests are
+ * retried as well and carry an {@code Idempotency-Key} header, generated once per
+ * call unless already set, so that the API can recognise a repeated write.
+ * Requests whose body is streamed from a source that cannot be read twice are
+ * never retried. Override the {@code isRetryable} methods or
+ * {@link #backoffMillis(int)} to customize the policy.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 100;
+
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 5000;
+
+    public static final long DEFAULT_MAX_ELAPSED_MILLIS = 30000;
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+
+    private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+
+    private long maxElapsedMillis = DEFAULT_MAX_ELAPSED_MILLIS;
+
+    private boolean retryWrites = false;
+
+    /**
+     * @param maxAttempts attempts per call, the first one included
+     * @return this policy
+     */
+    public RetryPolicy setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts < 1: " + maxAttempts);
+        }
+
+        this.maxAttempts = maxAttempts;
+
+        return this;
+    }
+
+    /**
+     * @param initial upper bound of the delay before the first retry
+     * @param max     upper bound of the delay before any retry
+     * @param unit    unit of both delays
+     * @return this policy
+     */
+    public RetryPolicy setBackoff(long initial, long max, TimeUnit unit) {
+        if (initial < 0) {
+            throw new IllegalArgumentException("initial < 0: " + initial);
+        }
+
+        if (max < initial) {
+            throw new IllegalArgumentException("max < initial: " + max);
+        }
+
+        this.initialBackoffMillis = unit.toMillis(initial);
+        this.maxBackoffMillis = unit.toMillis(max);
+
+        return this;
+    }
+
+    /**
+     * @param maxElapsed time after the first attempt past which no retry is started
+     * @param unit       unit of the time
+     * @return this policy
+     */
+    public RetryPolicy setMaxElapsed(long maxElapsed, TimeUnit unit) {
+        if (maxElapsed < 0) {
+            throw new IllegalArgumentException("maxElapsed < 0: " + maxElapsed);
+        }
+
+        this.maxElapsedMillis = unit.toMillis(maxElapsed);
+
+        return this;
+    }
+
+    /**
+     * @param retryWrites true to retry POST and PATCH requests, sent with an Idempotency-Key
+     * @return this policy
+     */
+    public RetryPolicy setRetryWrites(boolean retryWrites) {
+        this.retryWrites = retryWrites;
+
+        return this;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getInitialBackoffMillis() {
+        return initialBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public long getMaxElapsedMillis() {
+        return maxElapsedMillis;
+    }
+
+    public boolean isRetryWrites() {
+        return retryWrites;
+    }
+
+    /**
+     * @param request request about to be sent
+     * @return true when the request may be sent more than once
+     */
+    public boolean isRetryable(Request request) {
+        RequestBody body = request.body();
+
+        if (body != null && body.isOneShot()) {
+            return false;
+        }
+
+        String method = request.method();
+
+        if (method.equals("GET") || method.equals("HEAD") || method.equals("PUT")
+                || method.equals("DELETE") || method.equals("OPTIONS")) {
+            return true;
+        }
+
+        return retryWrites && request.header(IDEMPOTENCY_KEY) != null;
+    }
+
+    /**
+     * @param response response of an attempt
+     * @return true when the response reports a transient failure
+     */
+    public boolean isRetryable(Response response) {
+        return response.code() == 502 || response.code() == 503 || response.code() == 504;
+    }
+
+    /**
+     * Unknown hosts, TLS and protocol errors fail the same way on every attempt and
+     * are not retried, nor are interruptions, cancellations and open circuits.
+     *
+     * @param failure error of an attempt
+     * @return true when the connection failed or timed out
+     */
+    public boolean isRetryable(IOException failure) {
+        if (failure instanceof ConnectException || failure instanceof SocketTimeoutException) {
+            return true;
+        }
+
+        // an HTTP/2 stream reset, matched by name as OkHttp keeps its type internal
+        if (failure.getClass().getSimpleName().equals("StreamResetException")) {
+            return true;
+        }
+
+        if (failure instanceof SocketException) {
+            String message = failure.getMessage();
+
+            return message != null && message.contains("reset");
+        }
+
+        // the server closed the connection before answering, reported by OkHttp as "unexpected end of stream"
+        return failure instanceof EOFException || failure.getCause() instanceof EOFException;
+    }
+
+    /**
+     * @param retry number of the retry, starting at 1
+     * @return delay before the retry, in milliseconds
+     */
+    public long backoffMillis(int retry) {
+        int shift = Math.min(retry - 1, 62);
+        long ceiling = maxBackoffMillis;
+
+        if (initialBackoffMillis <= maxBackoffMillis >> shift) {
+            ceiling = initialBackoffMillis << shift;
+        }
+
+        return ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
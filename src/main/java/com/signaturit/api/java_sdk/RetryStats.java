@@ -0,0 +1,198 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the retries made under the {@link RetryPolicy} of
+ * {@link ClientOptions#setRetryPolicy(RetryPolicy)}, in total and per route
+ * template such as {@code signatures/{id}.json}.
+ */
+public final class RetryStats {
+
+    private final RetryPolicy policy;
+
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong exhaustedCount = new AtomicLong();
+
+    private final ConcurrentHashMap<String, AtomicLong> routeRetryCounts = new ConcurrentHashMap<String, AtomicLong>();
+
+    RetryStats(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @return requests sent again after a failed attempt
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return calls that still failed once retries were exhausted
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount.get();
+    }
+
+    /**
+     * @param route route template, such as {@code signatures/{id}/cancel.json}
+     * @return retries of the route
+     */
+    public long getRetryCount(String route) {
+        AtomicLong count = routeRetryCounts.get(route);
+
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return retries per route template, for the routes retried at least once
+     */
+    public Map<String, Long> getRetryCounts() {
+        Map<String, Long> counts = new TreeMap<String, Long>();
+
+        for (Map.Entry<String, AtomicLong> entry : routeRetryCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryStats{retries=" + getRetryCount()
+                + ", exhausted=" + getExhaustedCount()
+                + ", routes=" + getRetryCounts()
+                + "}";
+    }
+
+    /**
+     * @return application interceptor retrying failed attempts
+     */
+    Interceptor interceptor() {
+        return new RetryInterceptor(this);
+    }
+
+    /**
+     * @param client transport built by {@link RequestHelper#newClient(ClientOptions)}
+     * @return the counters of its retries, or null when it has no retry policy
+     */
+    static RetryStats of(OkHttpClient client) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (interceptor instanceof RetryInterceptor) {
+                return ((RetryInterceptor) interceptor).stats;
+            }
+        }
+
+        return null;
+    }
+
+    private void recordRetry(String route) {
+        AtomicLong count = routeRetryCounts.get(route);
+
+        if (count == null) {
+            AtomicLong added = new AtomicLong();
+
+            count = routeRetryCounts.putIfAbsent(route, added);
+            count = count == null ? added : count;
+        }
+
+        count.incrementAndGet();
+        retryCount.incrementAndGet();
+    }
+
+    private static class RetryInterceptor implements Interceptor {
+
+        private final RetryStats stats;
+
+        RetryInterceptor(RetryStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            RetryPolicy policy = stats.policy;
+            Request request = chain.request();
+
+            if (policy.isRetryWrites() && request.header(RetryPolicy.IDEMPOTENCY_KEY) == null
+                    && (request.method().equals("POST") || request.method().equals("PATCH"))) {
+                request = request.newBuilder().header(RetryPolicy.IDEMPOTENCY_KEY, UUID.randomUUID().toString()).build();
+            }
+
+            if (!policy.isRetryable(request)) {
+                return chain.proceed(request);
+            }
+
+            String route = null;
+            long start = System.nanoTime();
+
+            for (int attempt = 1; ; ++attempt) {
+                Response response = null;
+                IOException failure = null;
+
+                try {
+                    response = chain.proceed(request);
+                } catch (IOException e) {
+                    failure = e;
+                }
+
+                boolean retryable = response != null ? policy.isRetryable(response) : policy.isRetryable(failure);
+
+                if (!retryable || chain.call().isCanceled()) {
+                    return result(response, failure);
+                }
+
+                long delay = policy.backoffMillis(attempt);
+
+                if (response != null) {
+                    delay = Math.max(delay, RateLimiter.retryAfterMillis(response));
+                }
+
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                if (attempt >= policy.getMaxAttempts() || elapsed + delay > policy.getMaxElapsedMillis()) {
+                    stats.exhaustedCount.incrementAndGet();
+
+                    return result(response, failure);
+                }
+
+                if (response != null) {
+                    response.close();
+                }
+
+                if (route == null) {
+                    route = Routes.normalize(request.url().encodedPath());
+                }
+
+                stats.recordRetry(route);
+
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new InterruptedIOException("Interrupted while waiting to retry " + request.url());
+                }
+            }
+        }
+
+        private static Response result(Response response, IOException failure) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+
+            return response;
+        }
+    }
+}
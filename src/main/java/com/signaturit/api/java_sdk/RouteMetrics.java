@@ -0,0 +1,192 @@
+package com.signaturit.api.java_sdk;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory {@link MetricsListener} aggregating the calls of a client per method
+ * and route template, such as {@code GET signatures/{id}.json}.
+ *
+ * <pre>
+ * RouteMetrics metrics = new RouteMetrics();
+ * Client client = new Client(token, true, new ClientOptions().addMetricsListener(metrics));
+ * </pre>
+ */
+public final class RouteMetrics implements MetricsListener {
+
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<String, Route>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int connectionCount = 0;
+    private volatile int idleConnectionCount = 0;
+
+    @Override
+    public void requestStarted(String method, String route) {
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestFinished(RequestEvent event) {
+        inFlight.decrementAndGet();
+        connectionCount = event.getConnectionCount();
+        idleConnectionCount = event.getIdleConnectionCount();
+
+        route(event.getMethod() + " " + event.getRoute()).record(event);
+    }
+
+    /**
+     * @return metrics per route, keyed by method and route template
+     */
+    public Map<String, Route> getRoutes() {
+        return new TreeMap<String, Route>(routes);
+    }
+
+    /**
+     * @param method HTTP method
+     * @param route  route template, such as {@code signatures/{id}.json}
+     * @return metrics of the route, null when it was never called
+     */
+    public Route getRoute(String method, String route) {
+        return routes.get(method + " " + route);
+    }
+
+    /**
+     * @return calls started and not finished yet
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return connections of the pool when the last call finished
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * @return idle connections of the pool when the last call finished
+     */
+    public int getIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMetrics{inFlight=" + getInFlight()
+                + ", connections=" + getConnectionCount()
+                + ", idleConnections=" + getIdleConnectionCount()
+                + ", routes=" + getRoutes()
+                + "}";
+    }
+
+    private Route route(String key) {
+        Route route = routes.get(key);
+
+        if (route == null) {
+            Route added = new Route();
+
+            route = routes.putIfAbsent(key, added);
+            route = route == null ? added : route;
+        }
+
+        return route;
+    }
+
+    /**
+     * Metrics of the calls to one route.
+     */
+    public static final class Route {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final ConcurrentHashMap<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<Integer, AtomicLong>();
+
+        private final AtomicLong failureCount = new AtomicLong();
+        private final AtomicLong requestBytes = new AtomicLong();
+        private final AtomicLong responseBytes = new AtomicLong();
+
+        Route() {
+        }
+
+        /**
+         * @return durations of the calls, until their response body was closed
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return number of responses per HTTP status
+         */
+        public Map<Integer, Long> getStatusCounts() {
+            Map<Integer, Long> counts = new TreeMap<Integer, Long>();
+
+            for (Map.Entry<Integer, AtomicLong> entry : statusCounts.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().get());
+            }
+
+            return counts;
+        }
+
+        /**
+         * @return calls that failed without a response
+         */
+        public long getFailureCount() {
+            return failureCount.get();
+        }
+
+        /**
+         * @return bytes of the request bodies whose size was known
+         */
+        public long getRequestBytes() {
+            return requestBytes.get();
+        }
+
+        /**
+         * @return bytes of the response bodies read
+         */
+        public long getResponseBytes() {
+            return responseBytes.get();
+        }
+
+        @Override
+        public String toString() {
+            return "Route{latency=" + latency
+                    + ", status=" + getStatusCounts()
+                    + ", failures=" + getFailureCount()
+                    + ", requestBytes=" + getRequestBytes()
+                    + ", responseBytes=" + getResponseBytes()
+                    + "}";
+        }
+
+        private void record(RequestEvent event) {
+            latency.record(event.getDurationNanos());
+
+            if (event.getStatusCode() == 0) {
+                failureCount.incrementAndGet();
+            } else {
+                AtomicLong count = statusCounts.get(event.getStatusCode());
+
+                if (count == null) {
+                    AtomicLong added = new AtomicLong();
+
+                    count = statusCounts.putIfAbsent(event.getStatusCode(), added);
+                    count = count == null ? added : count;
+                }
+
+                count.incrementAndGet();
+            }
+
+            if (event.getRequestBytes() > 0) {
+                requestBytes.addAndGet(event.getRequestBytes());
+            }
+
+            responseBytes.addAndGet(event.getResponseBytes());
+        }
+    }
+}
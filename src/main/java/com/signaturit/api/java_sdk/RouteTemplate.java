@@ -0,0 +1,270 @@
+package com.signaturit.api.java_sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route pattern such as {@code signatures/{signatureId}/documents/{documentId}/download/signed}
+ * or {@code signatures.json?limit={limit}&offset={offset}}, parsed once and expanded
+ * into a URL with a single builder.
+ * <p>
+ * Placeholders are filled in order, whatever their name. Values are percent-encoded
+ * as path segments or as query values depending on where their placeholder stands,
+ * and numbers are appended without being turned into strings first.
+ */
+final class RouteTemplate {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Characters left as they are in a path segment: unreserved characters and sub-delimiters
+     */
+    private static final boolean[] PATH_SAFE = safe("!$&'()*+,;=:@");
+
+    /**
+     * Characters left as they are in a query name or value, without the delimiters of
+     * parameters and of the {@code ids} list
+     */
+    private static final boolean[] QUERY_SAFE = safe("!$'()*:@/?");
+
+    /**
+     * Estimated length of an expanded value, to size the builder
+     */
+    private static final int VALUE_LENGTH = 36;
+
+    private final String pattern;
+
+    /**
+     * Literal text around the placeholders, one more than there are placeholders
+     */
+    private final String[] literals;
+
+    /**
+     * Whether each placeholder stands in the query string
+     */
+    private final boolean[] inQuery;
+
+    private final boolean hasQuery;
+    private final int literalLength;
+
+    private RouteTemplate(String pattern, String[] literals, boolean[] inQuery, boolean hasQuery) {
+        int length = 0;
+
+        for (String literal : literals) {
+            length += literal.length();
+        }
+
+        this.pattern = pattern;
+        this.literals = literals;
+        this.inQuery = inQuery;
+        this.hasQuery = hasQuery;
+        this.literalLength = length;
+    }
+
+    /**
+     * @param pattern route relative to the API version, with {@code {name}} placeholders
+     * @return the parsed template
+     */
+    static RouteTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<String>();
+        List<Boolean> inQuery = new ArrayList<Boolean>();
+        int query = pattern.indexOf('?');
+        int from = 0;
+        int open;
+
+        while ((open = pattern.indexOf('{', from)) >= 0) {
+            int close = pattern.indexOf('}', open);
+
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in " + pattern);
+            }
+
+            literals.add(pattern.substring(from, open));
+            inQuery.add(query >= 0 && open > query);
+            from = close + 1;
+        }
+
+        literals.add(pattern.substring(from));
+
+        boolean[] placeholders = new boolean[inQuery.size()];
+
+        for (int i = 0; i < placeholders.length; ++i) {
+            placeholders[i] = inQuery.get(i);
+        }
+
+        return new RouteTemplate(pattern, literals.toArray(new String[0]), placeholders, query >= 0);
+    }
+
+    /**
+     * @param baseUrl API URL including the version, or an empty string for a relative route
+     * @param values  one value per placeholder
+     * @return the URL of the route
+     */
+    String expand(String baseUrl, Object... values) {
+        return expand(baseUrl, null, values);
+    }
+
+    /**
+     * @param baseUrl    API URL including the version, or an empty string for a relative route
+     * @param parameters query parameters appended after those of the pattern, may be null
+     * @param values     one value per placeholder
+     * @return the URL of the route
+     */
+    String expand(String baseUrl, Map<String, Object> parameters, Object... values) {
+        if (values.length != inQuery.length) {
+            throw new IllegalArgumentException(
+                    inQuery.length + " values expected by " + pattern + ", got " + values.length
+            );
+        }
+
+        int capacity = baseUrl.length() + literalLength + values.length * VALUE_LENGTH;
+
+        if (parameters != null) {
+            capacity += parameters.size() * VALUE_LENGTH;
+        }
+
+        StringBuilder url = new StringBuilder(capacity).append(baseUrl);
+
+        for (int i = 0; i < values.length; ++i) {
+            url.append(literals[i]);
+            appendValue(url, values[i], inQuery[i]);
+        }
+
+        url.append(literals[values.length]);
+
+        if (parameters != null && !parameters.isEmpty()) {
+            char last = url.charAt(url.length() - 1);
+
+            appendQuery(url, parameters, !hasQuery ? '?' : last == '?' || last == '&' ? 0 : '&');
+        }
+
+        return url.toString();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Appends {@code name=value} pairs, a {@link CharSequence} array value being
+     * written as a comma separated list, as the API expects for {@code ids}.
+     *
+     * @param separator character written before the first pair, 0 for none
+     */
+    static void appendQuery(StringBuilder url, Map<String, Object> parameters, char separator) {
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            if (separator != 0) {
+                url.append(separator);
+            }
+
+            separator = '&';
+
+            appendEncoded(url, entry.getKey(), QUERY_SAFE);
+            url.append('=');
+
+            if (entry.getValue() instanceof CharSequence[]) {
+                CharSequence[] list = (CharSequence[]) entry.getValue();
+                int length = list.length;
+
+                for (CharSequence item : list) {
+                    length += item.length();
+                }
+
+                url.ensureCapacity(url.length() + length);
+
+                for (int i = 0; i < list.length; ++i) {
+                    if (i > 0) {
+                        url.append(',');
+                    }
+
+                    appendEncoded(url, list[i], QUERY_SAFE);
+                }
+            } else {
+                appendValue(url, entry.getValue(), true);
+            }
+        }
+    }
+
+    private static void appendValue(StringBuilder url, Object value, boolean query) {
+        if (value instanceof Integer || value instanceof Long) {
+            url.append(((Number) value).longValue());
+        } else if (value instanceof CharSequence) {
+            appendEncoded(url, (CharSequence) value, query ? QUERY_SAFE : PATH_SAFE);
+        } else {
+            appendEncoded(url, String.valueOf(value), query ? QUERY_SAFE : PATH_SAFE);
+        }
+    }
+
+    /**
+     * Appends the value, percent-encoding as UTF-8 the characters that are not safe.
+     * Runs of safe characters, usually the whole value, are copied at once.
+     */
+    private static void appendEncoded(StringBuilder url, CharSequence value, boolean[] safe) {
+        int length = value.length();
+        int run = 0;
+
+        for (int i = 0; i < length; ++i) {
+            char c = value.charAt(i);
+
+            if (c < 0x80 && safe[c]) {
+                continue;
+            }
+
+            url.append(value, run, i);
+            run = i + 1;
+
+            if (c < 0x80) {
+                appendByte(url, c);
+            } else if (c < 0x800) {
+                appendByte(url, 0xC0 | (c >> 6));
+                appendByte(url, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+                run = i + 1;
+
+                appendByte(url, 0xF0 | (codePoint >> 18));
+                appendByte(url, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendByte(url, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendByte(url, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced as String.getBytes does
+                appendByte(url, '?');
+            } else {
+                appendByte(url, 0xE0 | (c >> 12));
+                appendByte(url, 0x80 | ((c >> 6) & 0x3F));
+                appendByte(url, 0x80 | (c & 0x3F));
+            }
+        }
+
+        url.append(value, run, length);
+    }
+
+    private static void appendByte(StringBuilder url, int b) {
+        url.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+
+    private static boolean[] safe(String delimiters) {
+        boolean[] safe = new boolean[128];
+
+        for (char c = 'a'; c <= 'z'; ++c) {
+            safe[c] = true;
+        }
+
+        for (char c = 'A'; c <= 'Z'; ++c) {
+            safe[c] = true;
+        }
+
+        for (char c = '0'; c <= '9'; ++c) {
+            safe[c] = true;
+        }
+
+        for (char c : ("-._~" + delimiters).toCharArray()) {
+            safe[c] = true;
+        }
+
+        return safe;
+    }
+}
@@ -0,0 +1,90 @@
+package com.signaturit.api.java_sdk;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Routes of the API: the templates the clients expand into request URLs, and the
+ * normalization of request paths into route templates, so that metrics about
+ * {@code signatures/abc.json} and {@code signatures/def.json} add up under
+ * {@code signatures/{id}.json}.
+ */
+final class Routes {
+
+    static final RouteTemplate SIGNATURES = RouteTemplate.compile("signatures.json");
+    static final RouteTemplate SIGNATURES_LIMIT = RouteTemplate.compile("signatures.json?limit={limit}");
+    static final RouteTemplate SIGNATURES_PAGE = RouteTemplate.compile("signatures.json?limit={limit}&offset={offset}");
+    static final RouteTemplate SIGNATURES_COUNT = RouteTemplate.compile("signatures/count.json");
+    static final RouteTemplate SIGNATURE = RouteTemplate.compile("signatures/{signatureId}.json");
+    static final RouteTemplate SIGNATURE_CANCEL = RouteTemplate.compile("signatures/{signatureId}/cancel.json");
+    static final RouteTemplate SIGNATURE_REMINDER = RouteTemplate.compile("signatures/{signatureId}/reminder.json");
+    static final RouteTemplate SIGNATURE_AUDIT_TRAIL = RouteTemplate.compile("signatures/{signatureId}/documents/{documentId}/download/audit_trail");
+    static final RouteTemplate SIGNATURE_SIGNED_DOCUMENT = RouteTemplate.compile("signatures/{signatureId}/documents/{documentId}/download/signed");
+
+    static final RouteTemplate BRANDING = RouteTemplate.compile("brandings/{brandingId}.json");
+
+    static final RouteTemplate EMAILS = RouteTemplate.compile("emails.json");
+    static final RouteTemplate EMAILS_LIMIT = RouteTemplate.compile("emails.json?limit={limit}");
+    static final RouteTemplate EMAILS_PAGE = RouteTemplate.compile("emails.json?limit={limit}&offset={offset}");
+    static final RouteTemplate EMAILS_COUNT = RouteTemplate.compile("emails/count.json");
+    static final RouteTemplate EMAIL = RouteTemplate.compile("emails/{emailId}.json");
+    static final RouteTemplate EMAIL_AUDIT_TRAIL = RouteTemplate.compile("emails/{emailId}/certificates/{certificateId}/download/audit_trail");
+
+    static final RouteTemplate CONTACT = RouteTemplate.compile("contacts/{contactId}.json");
+
+    static final RouteTemplate PACKAGE = RouteTemplate.compile("packages/{packageId}.json");
+    static final RouteTemplate PACKAGE_AUDIT_TRAIL = RouteTemplate.compile("packages/{packageId}/download/audit_trail");
+
+    static final RouteTemplate USER = RouteTemplate.compile("team/users/{userId}.json");
+    static final RouteTemplate SEAT = RouteTemplate.compile("team/seats/{seatId}.json");
+    static final RouteTemplate GROUP = RouteTemplate.compile("team/groups/{groupId}.json");
+    static final RouteTemplate GROUP_MEMBER = RouteTemplate.compile("team/groups/{groupId}/members/{userId}.json");
+    static final RouteTemplate GROUP_MANAGER = RouteTemplate.compile("team/groups/{groupId}/managers/{userId}.json");
+
+    static final RouteTemplate SUBSCRIPTION = RouteTemplate.compile("subscriptions/{subscriptionId}.json");
+
+    static final RouteTemplate SMS_PAGE = RouteTemplate.compile("sms.json?limit={limit}&offset={offset}");
+    static final RouteTemplate SMS_COUNT = RouteTemplate.compile("sms/count.json");
+    static final RouteTemplate SMS_MESSAGE = RouteTemplate.compile("sms/{smsId}.json");
+    static final RouteTemplate SMS_AUDIT_TRAIL = RouteTemplate.compile("sms/{smsId}/certificates/{certificateId}/download/audit_trail");
+
+    /**
+     * Path segments of the API that are never identifiers
+     */
+    private static final Set<String> LITERALS = new HashSet<String>(Arrays.asList(
+            "audit_trail", "brandings", "cancel", "certificates", "contacts", "count", "documents",
+            "download", "emails", "groups", "managers", "members", "packages", "reminder", "seats",
+            "signatures", "signed", "sms", "subscriptions", "team", "templates", "users"
+    ));
+
+    private static final String JSON = ".json";
+
+    private Routes() {
+    }
+
+    /**
+     * @param path encoded path of a request, such as {@code /v3/signatures/abc/cancel.json}
+     * @return its route relative to the API version, such as {@code signatures/{id}/cancel.json}
+     */
+    static String normalize(String path) {
+        int start = path.indexOf(Client.API_VERSION);
+
+        start = start < 0 ? (path.startsWith("/") ? 1 : 0) : start + Client.API_VERSION.length();
+
+        StringBuilder route = new StringBuilder(path.length());
+
+        for (String segment : path.substring(start).split("/", -1)) {
+            if (route.length() > 0) {
+                route.append('/');
+            }
+
+            String suffix = segment.endsWith(JSON) ? JSON : "";
+            String name = segment.substring(0, segment.length() - suffix.length());
+
+            route.append(LITERALS.contains(name) || name.isEmpty() ? name : "{id}").append(suffix);
+        }
+
+        return route.toString();
+    }
+}
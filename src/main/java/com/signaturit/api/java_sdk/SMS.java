@@ -0,0 +1,89 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Certified SMS with its certificates.
+ */
+public final class SMS {
+
+    static final JsonDecoder<SMS> DECODER = new JsonDecoder<SMS>() {
+        @Override
+        public SMS decode(JsonReader reader) throws IOException {
+            SMS sms = new SMS();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        sms.id = Models.string(reader);
+                        break;
+                    case "created_at":
+                        sms.createdAt = Models.string(reader);
+                        break;
+                    case "certificates":
+                        sms.certificates = Models.list(reader, Certificate.DECODER);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return sms;
+        }
+    };
+
+    private String id;
+
+    private String createdAt;
+
+    private List<Certificate> certificates = Collections.<Certificate>emptyList();
+
+    private SMS() {
+    }
+
+    /**
+     * @param response response of {@link Client#getSingleSMS(String)}, closed once decoded
+     * @return the decoded SMS
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static SMS fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getSMS()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<SMS> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return one certificate per recipient
+     */
+    public List<Certificate> getCertificates() {
+        return certificates;
+    }
+
+    @Override
+    public String toString() {
+        return "SMS{id=" + id + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package com.signaturit.api.java_sdk;
+
+/**
+ * Partition size, parallelism and delivery order of the scans returned by the
+ * {@code scan} methods of {@link Client}.
+ */
+public class ScanOptions {
+
+    /**
+     * Default number of items requested per partition
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Default number of partitions fetched concurrently
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    private boolean ordered = true;
+
+    /**
+     * @param pageSize number of items requested per partition
+     * @return these options
+     */
+    public ScanOptions setPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize < 1: " + pageSize);
+        }
+
+        this.pageSize = pageSize;
+
+        return this;
+    }
+
+    /**
+     * Partitions fetched concurrently, which is also the number of pages held in
+     * memory at most. Requests above {@link ClientOptions#setMaxRequestsPerHost(int)}
+     * wait in the dispatcher, so raise that limit along with this one.
+     *
+     * @param parallelism number of partitions fetched concurrently
+     * @return these options
+     */
+    public ScanOptions setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism < 1: " + parallelism);
+        }
+
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
+    /**
+     * @param ordered true to deliver the items in listing order, false to deliver
+     *                each partition as soon as it arrives
+     * @return these options
+     */
+    public ScanOptions setOrdered(boolean ordered) {
+        this.ordered = ordered;
+
+        return this;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+}
@@ -0,0 +1,102 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signature request with its documents.
+ */
+public final class Signature {
+
+    static final JsonDecoder<Signature> DECODER = new JsonDecoder<Signature>() {
+        @Override
+        public Signature decode(JsonReader reader) throws IOException {
+            Signature signature = new Signature();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        signature.id = Models.string(reader);
+                        break;
+                    case "created_at":
+                        signature.createdAt = Models.string(reader);
+                        break;
+                    case "data":
+                        signature.data = Models.stringMap(reader);
+                        break;
+                    case "documents":
+                        signature.documents = Models.list(reader, Document.DECODER);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return signature;
+        }
+    };
+
+    private String id;
+
+    private String createdAt;
+
+    private Map<String, String> data = Collections.emptyMap();
+
+    private List<Document> documents = Collections.<Document>emptyList();
+
+    private Signature() {
+    }
+
+    /**
+     * @param response response of {@link Client#getSignature(String)}, closed once decoded
+     * @return the decoded signature
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static Signature fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getSignatures()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<Signature> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return custom data sent when the request was created
+     */
+    public Map<String, String> getData() {
+        return data;
+    }
+
+    /**
+     * @return one document per signer and file
+     */
+    public List<Document> getDocuments() {
+        return documents;
+    }
+
+    @Override
+    public String toString() {
+        return "Signature{id=" + id + "}";
+    }
+}
@@ -0,0 +1,232 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Batches single signature lookups into listing requests filtered by {@code ids}.
+ * <p>
+ * The IDs requested within a short window are sent together in one
+ * {@code signatures.json?ids=...} call, or as soon as the batch is full, and each
+ * caller's future completes with its own signature. Lookups of the same ID within
+ * a window share the request. A signature missing from the listing fails its
+ * future with an {@link IOException}; a failed listing fails every future of its
+ * batch.
+ * <p>
+ * Futures complete on a dispatcher thread, see {@link AsyncClient}. Close the
+ * loader to send the pending batch and stop its timer thread.
+ */
+public final class SignatureBatchLoader implements Closeable {
+
+    public static final long DEFAULT_WINDOW_MILLIS = 10;
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final AsyncClient client;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService timer;
+
+    private Map<String, List<CompletableFuture<Signature>>> pending = new LinkedHashMap<String, List<CompletableFuture<Signature>>>();
+
+    private boolean closed = false;
+
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /**
+     * @param client       client sending the listing requests
+     * @param window       time a batch waits for more IDs after its first one
+     * @param unit         unit of the window
+     * @param maxBatchSize IDs sending the batch right away
+     */
+    public SignatureBatchLoader(AsyncClient client, long window, TimeUnit unit, int maxBatchSize) {
+        if (window < 0) {
+            throw new IllegalArgumentException("window < 0: " + window);
+        }
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize < 1: " + maxBatchSize);
+        }
+
+        this.client = client;
+        this.windowNanos = unit.toNanos(window);
+        this.maxBatchSize = maxBatchSize;
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "signaturit-batch-loader");
+                        thread.setDaemon(true);
+
+                        return thread;
+                    }
+                }
+        );
+    }
+
+    /**
+     * @param client client sending the listing requests
+     */
+    public SignatureBatchLoader(AsyncClient client) {
+        this(client, DEFAULT_WINDOW_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param signatureId signature to look up
+     * @return the signature, once the batch holding it has been answered
+     */
+    public CompletableFuture<Signature> load(String signatureId) {
+        CompletableFuture<Signature> future = new CompletableFuture<Signature>();
+        Map<String, List<CompletableFuture<Signature>>> full = null;
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Loader closed");
+            }
+
+            List<CompletableFuture<Signature>> callers = pending.get(signatureId);
+
+            if (callers == null) {
+                callers = new ArrayList<CompletableFuture<Signature>>();
+                pending.put(signatureId, callers);
+
+                if (pending.size() == 1) {
+                    final Map<String, List<CompletableFuture<Signature>>> batch = pending;
+
+                    timer.schedule(
+                            new Runnable() {
+                                @Override
+                                public void run() {
+                                    flush(batch);
+                                }
+                            },
+                            windowNanos, TimeUnit.NANOSECONDS
+                    );
+                }
+            }
+
+            callers.add(future);
+            loadCount.incrementAndGet();
+
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+            }
+        }
+
+        if (full != null) {
+            flush(full);
+        }
+
+        return future;
+    }
+
+    /**
+     * @return signatures requested through {@link #load(String)}
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * @return listing requests sent
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Sends the pending batch and stops the timer, the client is left open.
+     */
+    @Override
+    public void close() {
+        Map<String, List<CompletableFuture<Signature>>> batch;
+
+        synchronized (this) {
+            closed = true;
+            batch = pending;
+        }
+
+        flush(batch);
+        timer.shutdown();
+    }
+
+    /**
+     * Sends a batch unless it was already sent, by the timer or because it was full.
+     */
+    private void flush(Map<String, List<CompletableFuture<Signature>>> batch) {
+        synchronized (this) {
+            if (batch != pending || batch.isEmpty()) {
+                return;
+            }
+
+            pending = new LinkedHashMap<String, List<CompletableFuture<Signature>>>();
+        }
+
+        final Map<String, List<CompletableFuture<Signature>>> callers = batch;
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("ids", callers.keySet().toArray(new String[0]));
+
+        batchCount.incrementAndGet();
+
+        client.getSignatures(callers.size(), 0, parameters).whenComplete(
+                new BiConsumer<Response, Throwable>() {
+                    @Override
+                    public void accept(Response response, Throwable failure) {
+                        if (failure == null) {
+                            try {
+                                complete(callers, Signature.listFromResponse(response));
+
+                                return;
+                            } catch (IOException e) {
+                                failure = e;
+                            } catch (RuntimeException e) {
+                                failure = e;
+                            }
+                        }
+
+                        for (List<CompletableFuture<Signature>> futures : callers.values()) {
+                            for (CompletableFuture<Signature> future : futures) {
+                                future.completeExceptionally(failure);
+                            }
+                        }
+                    }
+                }
+        );
+    }
+
+    private static void complete(Map<String, List<CompletableFuture<Signature>>> callers, List<Signature> signatures) {
+        for (Signature signature : signatures) {
+            List<CompletableFuture<Signature>> futures = callers.remove(signature.getId());
+
+            if (futures != null) {
+                for (CompletableFuture<Signature> future : futures) {
+                    future.complete(signature);
+                }
+            }
+        }
+
+        for (Map.Entry<String, List<CompletableFuture<Signature>>> entry : callers.entrySet()) {
+            for (CompletableFuture<Signature> future : entry.getValue()) {
+                future.completeExceptionally(new IOException("Signature not found: " + entry.getKey()));
+            }
+        }
+    }
+}
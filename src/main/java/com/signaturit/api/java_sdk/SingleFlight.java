@@ -0,0 +1,150 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces concurrent identical GET requests, enabled with
+ * {@link ClientOptions#setCoalesceGets(boolean)}. The first request for a URL and
+ * token goes to the network; the requests arriving while it is in flight wait for
+ * it and each receive their own copy of its body. Downloads are never coalesced,
+ * as sharing them would mean holding whole documents in memory.
+ */
+final class SingleFlight implements Interceptor {
+
+    /**
+     * Period at which a waiting request checks whether its call was cancelled
+     */
+    private static final long CANCEL_CHECK_MILLIS = 100;
+
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<String, Flight>();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * @return requests answered with the response of another in-flight request
+     */
+    long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @param client transport built by {@link RequestHelper#newClient(ClientOptions)}
+     * @return its coalescing interceptor, or null when coalescing is disabled
+     */
+    static SingleFlight of(OkHttpClient client) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (interceptor instanceof SingleFlight) {
+                return (SingleFlight) interceptor;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+
+        if (!request.method().equals("GET") || request.url().encodedPath().contains("/download/")) {
+            return chain.proceed(request);
+        }
+
+        String key = request.header("Authorization") + " " + request.url();
+        Flight flight = new Flight();
+        Flight inFlight = flights.putIfAbsent(key, flight);
+
+        if (inFlight != null) {
+            coalescedCount.incrementAndGet();
+
+            return inFlight.await(chain);
+        }
+
+        try {
+            Response response = chain.proceed(request);
+            ResponseBody body = response.body();
+
+            assert body != null;
+
+            MediaType contentType = body.contentType();
+            byte[] content = body.bytes();
+
+            flight.complete(response, contentType, content);
+
+            return response.newBuilder().body(ResponseBody.create(contentType, content)).build();
+        } catch (IOException e) {
+            flight.fail(e);
+
+            throw e;
+        } catch (RuntimeException e) {
+            flight.fail(e);
+
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private static class Flight {
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private Response response;
+        private MediaType contentType;
+        private byte[] content;
+        private Exception failure;
+
+        void complete(Response response, MediaType contentType, byte[] content) {
+            this.response = response;
+            this.contentType = contentType;
+            this.content = content;
+
+            done.countDown();
+        }
+
+        void fail(Exception failure) {
+            this.failure = failure;
+
+            done.countDown();
+        }
+
+        /**
+         * Waits for the request in flight, giving up as soon as the caller cancels its call.
+         */
+        Response await(Chain chain) throws IOException {
+            Request request = chain.request();
+
+            try {
+                while (!done.await(CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (chain.call().isCanceled()) {
+                        throw new IOException("Canceled");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new InterruptedIOException("Interrupted while waiting for " + request.url());
+            }
+
+            if (failure != null) {
+                throw new IOException("Coalesced request to " + request.url() + " failed", failure);
+            }
+
+            return response.newBuilder()
+                    .request(request)
+                    .body(ResponseBody.create(contentType, content))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Webhook subscription.
+ */
+public final class Subscription {
+
+    static final JsonDecoder<Subscription> DECODER = new JsonDecoder<Subscription>() {
+        @Override
+        public Subscription decode(JsonReader reader) throws IOException {
+            Subscription subscription = new Subscription();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        subscription.id = Models.string(reader);
+                        break;
+                    case "url":
+                        subscription.url = Models.string(reader);
+                        break;
+                    case "created_at":
+                        subscription.createdAt = Models.string(reader);
+                        break;
+                    case "events":
+                        subscription.events = Models.strings(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return subscription;
+        }
+    };
+
+    private String id;
+
+    private String url;
+
+    private String createdAt;
+
+    private List<String> events = Collections.emptyList();
+
+    private Subscription() {
+    }
+
+    /**
+     * @param response response of {@link Client#getSubscription(String)}, closed once decoded
+     * @return the decoded webhook
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static Subscription fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getSubscriptions()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<Subscription> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return URL the events are posted to
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return subscribed event types
+     */
+    public List<String> getEvents() {
+        return events;
+    }
+
+    @Override
+    public String toString() {
+        return "Subscription{id=" + id + "}";
+    }
+}
@@ -18,12 +18,34 @@ public class TLSSocketFactory extends SSLSocketFactory {
     private final SSLSocketFactory internalSSLSocketFactory;
     private final SSLContext internalContext;
 
-    private final String tlsVersion = "TLSv1.2";
+    private final TlsPolicy policy;
+
+    /**
+     * Protocols and cipher suites enabled on every socket, resolved once so that
+     * opening a connection does not sort the supported suites again.
+     */
+    private final String[] enabledProtocols;
+    private final String[] enabledCipherSuites;
 
     public TLSSocketFactory() throws KeyManagementException, NoSuchAlgorithmException {
-        internalContext = SSLContext.getInstance(tlsVersion);
+        this(TlsPolicy.COMPATIBILITY);
+    }
+
+    public TLSSocketFactory(TlsPolicy policy) throws KeyManagementException, NoSuchAlgorithmException {
+        this.policy = policy;
+
+        internalContext = SSLContext.getInstance(policy.getContextProtocol());
         internalContext.init(null, null, null);
         internalSSLSocketFactory = internalContext.getSocketFactory();
+
+        enabledProtocols = getProtocolList();
+        enabledCipherSuites = policy.isRestrictedCipherSuites()
+                ? getCipherList()
+                : internalSSLSocketFactory.getDefaultCipherSuites();
+    }
+
+    public TlsPolicy getPolicy() {
+        return policy;
     }
 
     @Override
@@ -62,15 +84,26 @@ public class TLSSocketFactory extends SSLSocketFactory {
     }
 
     private Socket enableTLSOnSocket(Socket socket) {
-        String[] cypherList = getCipherList();
-
         if (socket instanceof SSLSocket) {
-            ((SSLSocket) socket).setEnabledProtocols(new String[]{tlsVersion});
-            ((SSLSocket) socket).setEnabledCipherSuites(cypherList);
+            ((SSLSocket) socket).setEnabledProtocols(enabledProtocols);
+            ((SSLSocket) socket).setEnabledCipherSuites(enabledCipherSuites);
         }
         return socket;
     }
 
+    protected String[] getProtocolList() {
+        List<String> supported = Arrays.asList(internalContext.getSupportedSSLParameters().getProtocols());
+        List<String> protocols = new ArrayList<String>();
+
+        for (String protocol : policy.getProtocols()) {
+            if (supported.contains(protocol)) {
+                protocols.add(protocol);
+            }
+        }
+
+        return protocols.toArray(new String[0]);
+    }
+
     protected String[] getCipherList() {
         String[] preferredCiphers = {
                 "TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA256",
@@ -0,0 +1,95 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Team of the account with its users and groups.
+ */
+public final class Team {
+
+    static final JsonDecoder<Team> DECODER = new JsonDecoder<Team>() {
+        @Override
+        public Team decode(JsonReader reader) throws IOException {
+            Team team = new Team();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        team.id = Models.string(reader);
+                        break;
+                    case "name":
+                        team.name = Models.string(reader);
+                        break;
+                    case "created_at":
+                        team.createdAt = Models.string(reader);
+                        break;
+                    case "users":
+                        team.users = Models.list(reader, User.DECODER);
+                        break;
+                    case "groups":
+                        team.groups = Models.list(reader, Group.DECODER);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return team;
+        }
+    };
+
+    private String id;
+
+    private String name;
+
+    private String createdAt;
+
+    private List<User> users = Collections.<User>emptyList();
+
+    private List<Group> groups = Collections.<Group>emptyList();
+
+    private Team() {
+    }
+
+    /**
+     * @param response response of {@link Client#getTeam()}, closed once decoded
+     * @return the decoded team
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static Team fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    @Override
+    public String toString() {
+        return "Team{id=" + id + "}";
+    }
+}
@@ -0,0 +1,66 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * TLS and HTTP protocol versions negotiated with the API.
+ */
+public enum TlsPolicy {
+
+    /**
+     * TLS 1.3 with TLS 1.2 fallback, the JDK default cipher suites and ALPN
+     * offering HTTP/2, so concurrent calls can share one multiplexed connection.
+     * TLS 1.3 is only offered when the running JDK supports it.
+     */
+    MODERN("TLS", new String[]{"TLSv1.3", "TLSv1.2"}, false, Protocol.HTTP_2, Protocol.HTTP_1_1),
+
+    /**
+     * TLS 1.2 only with a fixed list of cipher suites over HTTP/1.1, the
+     * behaviour of the SDK up to 1.2.1.
+     */
+    COMPATIBILITY("TLSv1.2", new String[]{"TLSv1.2"}, true, Protocol.HTTP_1_1);
+
+    private final String contextProtocol;
+    private final String[] protocols;
+    private final boolean restrictedCipherSuites;
+    private final List<Protocol> httpProtocols;
+
+    TlsPolicy(String contextProtocol, String[] protocols, boolean restrictedCipherSuites, Protocol... httpProtocols) {
+        this.contextProtocol = contextProtocol;
+        this.protocols = protocols;
+        this.restrictedCipherSuites = restrictedCipherSuites;
+        this.httpProtocols = Collections.unmodifiableList(Arrays.asList(httpProtocols));
+    }
+
+    /**
+     * @return protocol requested to {@link javax.net.ssl.SSLContext#getInstance(String)}
+     */
+    String getContextProtocol() {
+        return contextProtocol;
+    }
+
+    /**
+     * @return TLS versions to enable, in preference order, when supported
+     */
+    String[] getProtocols() {
+        return protocols.clone();
+    }
+
+    /**
+     * @return true when sockets are restricted to {@link TLSSocketFactory#getCipherList()}
+     */
+    boolean isRestrictedCipherSuites() {
+        return restrictedCipherSuites;
+    }
+
+    /**
+     * @return HTTP versions offered through ALPN
+     */
+    List<Protocol> getHttpProtocols() {
+        return httpProtocols;
+    }
+}
@@ -0,0 +1,262 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A document uploaded with a signature, email or SMS request. The content is
+ * streamed straight into the multipart body while the request is written, so
+ * documents generated in memory or read from remote storage need no temporary
+ * file and are never copied whole into a {@code byte[]}: they pass through the
+ * transport's small reusable buffers.
+ * <p>
+ * Streams and channels can only be read once: a request built from them cannot
+ * be retried by the transport and the caller keeps ownership of closing them.
+ */
+public abstract class UploadSource {
+
+    private static final MediaType CONTENT_TYPE = MediaType.parse("*/*");
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final String name;
+
+    private UploadSource(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("name == null");
+        }
+
+        this.name = name;
+    }
+
+    /**
+     * @return file name sent with the document
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return size in bytes, or -1 when unknown
+     */
+    public abstract long contentLength() throws IOException;
+
+    /**
+     * @return body streaming the content into the request
+     */
+    abstract RequestBody toRequestBody();
+
+    public static UploadSource of(final File file) {
+        return new UploadSource(file.getName()) {
+            @Override
+            public long contentLength() {
+                return file.length();
+            }
+
+            @Override
+            RequestBody toRequestBody() {
+                return RequestBody.create(CONTENT_TYPE, file);
+            }
+        };
+    }
+
+    public static UploadSource of(Path path) {
+        return of(path.getFileName().toString(), path);
+    }
+
+    public static UploadSource of(String name, final Path path) {
+        return new UploadSource(name) {
+            @Override
+            public long contentLength() throws IOException {
+                return Files.size(path);
+            }
+
+            @Override
+            RequestBody toRequestBody() {
+                return new SourceBody(false) {
+                    @Override
+                    public long contentLength() throws IOException {
+                        return Files.size(path);
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        Source source = Okio.source(path);
+
+                        try {
+                            sink.writeAll(source);
+                        } finally {
+                            source.close();
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    public static UploadSource of(String name, InputStream inputStream) {
+        return of(name, inputStream, -1);
+    }
+
+    /**
+     * @param name        file name sent with the document
+     * @param inputStream content, read once and left open
+     * @param length      number of bytes in the stream, or -1 when unknown
+     * @return the source
+     */
+    public static UploadSource of(String name, final InputStream inputStream, final long length) {
+        return new UploadSource(name) {
+            @Override
+            public long contentLength() {
+                return length;
+            }
+
+            @Override
+            RequestBody toRequestBody() {
+                return new SourceBody(true) {
+                    @Override
+                    public long contentLength() {
+                        return length;
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        sink.writeAll(Okio.source(inputStream));
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * The remaining bytes of the buffer are copied into the transport's segments
+     * as the request is written, without a full-size {@code byte[]} copy of the
+     * content, so direct and memory-mapped buffers need not fit in the heap.
+     * The position of the buffer is left untouched.
+     *
+     * @param name   file name sent with the document
+     * @param buffer content
+     * @return the source
+     */
+    public static UploadSource of(String name, final ByteBuffer buffer) {
+        return new UploadSource(name) {
+            @Override
+            public long contentLength() {
+                return buffer.remaining();
+            }
+
+            @Override
+            RequestBody toRequestBody() {
+                return new SourceBody(false) {
+                    @Override
+                    public long contentLength() {
+                        return buffer.remaining();
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        ByteBuffer content = buffer.duplicate();
+
+                        while (content.hasRemaining()) {
+                            sink.write(content);
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    public static UploadSource of(String name, ReadableByteChannel channel) {
+        return of(name, channel, -1);
+    }
+
+    /**
+     * @param name    file name sent with the document
+     * @param channel content, read once and left open
+     * @param length  number of bytes in the channel, or -1 when unknown
+     * @return the source
+     */
+    public static UploadSource of(String name, final ReadableByteChannel channel, final long length) {
+        return new UploadSource(name) {
+            @Override
+            public long contentLength() {
+                return length;
+            }
+
+            @Override
+            RequestBody toRequestBody() {
+                return new SourceBody(true) {
+                    @Override
+                    public long contentLength() {
+                        return length;
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+
+                        while (channel.read(chunk) != -1) {
+                            chunk.flip();
+
+                            while (chunk.hasRemaining()) {
+                                sink.write(chunk);
+                            }
+
+                            chunk.clear();
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * @param files files to upload, may be null
+     * @return one source per file, or null
+     */
+    static List<UploadSource> fromFiles(List<File> files) {
+        if (files == null) {
+            return null;
+        }
+
+        List<UploadSource> sources = new ArrayList<UploadSource>(files.size());
+
+        for (File file : files) {
+            sources.add(of(file));
+        }
+
+        return sources;
+    }
+
+    private abstract static class SourceBody extends RequestBody {
+
+        private final boolean oneShot;
+
+        SourceBody(boolean oneShot) {
+            this.oneShot = oneShot;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return oneShot;
+        }
+    }
+}
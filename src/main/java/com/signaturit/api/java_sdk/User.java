@@ -0,0 +1,124 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Member of the team.
+ */
+public final class User {
+
+    static final JsonDecoder<User> DECODER = new JsonDecoder<User>() {
+        @Override
+        public User decode(JsonReader reader) throws IOException {
+            User user = new User();
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        user.id = Models.string(reader);
+                        break;
+                    case "email":
+                        user.email = Models.string(reader);
+                        break;
+                    case "name":
+                        user.name = Models.string(reader);
+                        break;
+                    case "position":
+                        user.position = Models.string(reader);
+                        break;
+                    case "role":
+                        user.role = Models.string(reader);
+                        break;
+                    case "status":
+                        user.status = Models.string(reader);
+                        break;
+                    case "created_at":
+                        user.createdAt = Models.string(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            return user;
+        }
+    };
+
+    private String id;
+
+    private String email;
+
+    private String name;
+
+    private String position;
+
+    private String role;
+
+    private String status;
+
+    private String createdAt;
+
+    private User() {
+    }
+
+    /**
+     * @param response response of {@link Client#getUser(String)}, closed once decoded
+     * @return the decoded member
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static User fromResponse(Response response) throws IOException {
+        return Models.fromResponse(response, DECODER);
+    }
+
+    /**
+     * @param response response of {@link Client#getUsers()}, closed once decoded
+     * @return the decoded items, read one by one from the body
+     * @throws IOException when the response is not successful or the body is malformed
+     */
+    public static List<User> listFromResponse(Response response) throws IOException {
+        return Models.listFromResponse(response, DECODER);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    /**
+     * @return {@code admin} or {@code member}
+     */
+    public String getRole() {
+        return role;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "User{id=" + id + "}";
+    }
+}
@@ -0,0 +1,110 @@
+package com.signaturit.api.java_sdk;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Access to JDK 21+ virtual threads while the SDK itself still targets Java 8.
+ * <p>
+ * Blocking {@link Client} calls run on the calling thread, so running each of them
+ * on its own virtual thread gives very high concurrency without sizing a thread
+ * pool. The pooled connections still bound how many requests hit the network at
+ * once, tune them through {@link ClientOptions}.
+ */
+public final class VirtualThreads {
+
+    private static final Method NEW_EXECUTOR = lookupExecutorFactory();
+
+    private VirtualThreads() {
+        // left blank intentionally
+    }
+
+    /**
+     * @return true when the running JDK provides virtual threads without preview flags
+     */
+    public static boolean isSupported() {
+        return NEW_EXECUTOR != null;
+    }
+
+    /**
+     * @return an executor starting one new virtual thread per task
+     * @throws UnsupportedOperationException when the running JDK has no virtual threads
+     */
+    public static ExecutorService newExecutor() {
+        if (NEW_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or newer, running " + System.getProperty("java.version"));
+        }
+
+        try {
+            return (ExecutorService) NEW_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException(e);
+        } catch (InvocationTargetException e) {
+            throw new UnsupportedOperationException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs every operation on its own virtual thread and waits for all of them to
+     * finish, as {@link ExecutorService#invokeAll(Collection)} does. A failing
+     * operation does not stop the others, its exception is reported by its future.
+     *
+     * @param operations blocking operations, typically calls on a shared {@link Client}
+     * @param <T>        result type
+     * @return the completed futures, in the order of the operations
+     * @throws InterruptedException          if interrupted while waiting
+     * @throws UnsupportedOperationException when the running JDK has no virtual threads
+     */
+    public static <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> operations) throws InterruptedException {
+        ExecutorService executor = newExecutor();
+
+        try {
+            return executor.invokeAll(operations);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Runs every operation on a fixed pool of platform threads, the counterpart of
+     * {@link #invokeAll(Collection)} for JDKs without virtual threads.
+     *
+     * @param operations blocking operations
+     * @param threads    size of the pool
+     * @param <T>        result type
+     * @return the completed futures, in the order of the operations
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> operations, int threads) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, operations.size())));
+
+        try {
+            return executor.invokeAll(operations);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Method lookupExecutorFactory() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+            // preview builds (JDK 19 and 20) expose the method but refuse to run it
+            ((ExecutorService) method.invoke(null)).shutdown();
+
+            return method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (InvocationTargetException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class AsyncClientTest {
+
+    private static final String token = "token";
+
+    private static final MockWebServer server = new MockWebServer();
+    private static final AsyncClient client = new AsyncClient(token);
+
+    @BeforeClass
+    public static void executedBeforeAll() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("slow")) {
+                            return new MockResponse().setResponseCode(200).setHeadersDelay(2, TimeUnit.SECONDS);
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(request.getMethod());
+                    }
+                }
+        );
+
+        setUrl(client);
+    }
+
+    @AfterClass
+    public static void executedAfterAll() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testCountSignatures() throws Exception {
+        Response response = client.countSignatures().get();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("GET", response.body().string());
+        assertEquals("GET", recordedRequest.getMethod());
+        assertEquals("/v3/signatures/count.json", recordedRequest.getPath());
+    }
+
+    @Test
+    public void testGetSignaturesWithLimitAndOffset() throws Exception {
+        client.getSignatures(5, 2).get().close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("GET", recordedRequest.getMethod());
+        assertEquals("/v3/signatures.json?limit=5&offset=2", recordedRequest.getPath());
+    }
+
+    @Test
+    public void testCreateSignature() throws Exception {
+        ArrayList<File> files = new ArrayList<File>();
+        files.add(new File("document.pdf"));
+
+        HashMap<String, Object> recipient = new HashMap<String, Object>();
+        recipient.put("email", "foo");
+
+        ArrayList<HashMap<String, Object>> recipients = new ArrayList<HashMap<String, Object>>();
+        recipients.add(recipient);
+
+        client.createSignature(files, recipients).get().close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("POST", recordedRequest.getMethod());
+        assertEquals("/v3/signatures.json", recordedRequest.getPath());
+    }
+
+    @Test
+    public void testCancelSignature() throws Exception {
+        client.cancelSignature("foo").get().close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("PATCH", recordedRequest.getMethod());
+        assertEquals("/v3/signatures/foo/cancel.json", recordedRequest.getPath());
+        assertEquals("=", recordedRequest.getBody().readUtf8());
+    }
+
+    @Test
+    public void testDeleteContact() throws Exception {
+        client.deleteContact("foo").get().close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("DELETE", recordedRequest.getMethod());
+        assertEquals("/v3/contacts/foo.json", recordedRequest.getPath());
+    }
+
+    @Test
+    public void testDownloadSmsAuditTrail() throws Exception {
+        Response response = client.downloadSmsAuditTrail("foo", "bar").get();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("GET", response.body().string());
+        assertEquals("/v3/sms/foo/certificates/bar/download/audit_trail", recordedRequest.getPath());
+    }
+
+    @Test
+    public void testDownloadSignedDocumentToOutputStream() throws Exception {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        DownloadResult result = client.downloadSignedDocument("foo", "bar", target).get();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("/v3/signatures/foo/documents/bar/download/signed", recordedRequest.getPath());
+        assertEquals(3, result.getBytes());
+        assertEquals("GET", target.toString("UTF-8"));
+    }
+
+    @Test
+    public void testManyCallsInFlight() throws Exception {
+        ArrayList<CompletableFuture<Response>> futures = new ArrayList<CompletableFuture<Response>>();
+
+        for (int i = 0; i < 20; ++i) {
+            futures.add(client.getSignature("id" + i));
+        }
+
+        for (CompletableFuture<Response> future : futures) {
+            Response response = future.get();
+
+            assertEquals(200, response.code());
+
+            response.close();
+            server.takeRequest();
+        }
+    }
+
+    @Test
+    public void testCancelCancelsCall() throws Exception {
+        AsyncClient cancellable = new AsyncClient(token);
+        setUrl(cancellable);
+
+        CompletableFuture<Response> future = cancellable.getSignature("slow");
+
+        server.takeRequest();
+
+        assertTrue(future.cancel(true));
+        assertTrue(future.isCancelled());
+
+        OkHttpClient httpClient = getHttpClient(cancellable);
+
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (httpClient.dispatcher().runningCallsCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, httpClient.dispatcher().runningCallsCount());
+
+        cancellable.close();
+    }
+
+    @Test
+    public void testFailureCompletesExceptionally() throws Exception {
+        AsyncClient unreachable = new AsyncClient(token);
+
+        Field field = unreachable.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(unreachable, "http://localhost:1/v3/");
+
+        try {
+            unreachable.getSignature("foo").get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+
+        unreachable.close();
+    }
+
+    @Test
+    public void testClientAsyncSharesTransport() throws Exception {
+        Client blocking = new Client(token);
+
+        Field field = blocking.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(blocking, server.url(Client.API_VERSION).toString());
+
+        AsyncClient async = blocking.async();
+
+        async.getSignature("foo").get().close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("/v3/signatures/foo.json", recordedRequest.getPath());
+        assertSame(getHttpClient(async), getField(blocking, "httpClient"));
+
+        blocking.close();
+    }
+
+    @Test
+    public void testClosingViewLeavesClientOpen() throws Exception {
+        Client blocking = new Client(token);
+
+        Field field = blocking.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(blocking, server.url(Client.API_VERSION).toString());
+
+        blocking.async().close();
+
+        blocking.getSignature("foo").close();
+
+        assertEquals("/v3/signatures/foo.json", server.takeRequest().getPath());
+        assertFalse(getHttpClient(blocking.async()).dispatcher().executorService().isShutdown());
+
+        blocking.close();
+    }
+
+    private static void setUrl(AsyncClient asyncClient) throws NoSuchFieldException, IllegalAccessException {
+        String url = server.url(Client.API_VERSION).toString();
+
+        Field field = asyncClient.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(asyncClient, url);
+    }
+
+    private static OkHttpClient getHttpClient(AsyncClient asyncClient) throws NoSuchFieldException, IllegalAccessException {
+        return (OkHttpClient) getField(asyncClient, "httpClient");
+    }
+
+    private static Object getField(Object target, String name) throws NoSuchFieldException, IllegalAccessException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+
+        return field.get(target);
+    }
+}
@@ -0,0 +1,154 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BulkDownloaderTest {
+
+    private static final MockWebServer server = new MockWebServer();
+    private static final Client client = new Client("token", false, new ClientOptions().setMaxIdleConnections(4));
+
+    @BeforeClass
+    public static void executedBeforeAll() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        String path = request.getPath();
+
+                        if (path.contains("missing")) {
+                            return new MockResponse().setResponseCode(404);
+                        }
+
+                        if (path.endsWith("/signatures/sig.json")) {
+                            return new MockResponse().setResponseCode(200).setBody(
+                                    "{\"id\": \"sig\", \"data\": {\"id\": \"ignored\"}, \"documents\": ["
+                                            + "{\"id\": \"doc1\", \"events\": [{\"id\": \"ignored\"}]},"
+                                            + "{\"file\": {\"name\": \"b.pdf\"}, \"id\": \"doc2\"}]}"
+                            );
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(path);
+                    }
+                }
+        );
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @AfterClass
+    public static void executedAfterAll() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testDownloadSignedDocuments() throws Exception {
+        Path directory = Files.createTempDirectory("bulk");
+        List<BulkDownloadResult> results = new BulkDownloader(client, directory, 2).downloadSignedDocuments(
+                Arrays.asList(DocumentRef.of("a", "1"), DocumentRef.of("missing", "2"), DocumentRef.of("b", "3"))
+        );
+
+        assertEquals(3, results.size());
+
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals(directory.resolve("a_1_signed.pdf"), results.get(0).getTarget());
+        assertEquals("/v3/signatures/a/documents/1/download/signed", read(results.get(0).getTarget()));
+        assertEquals(results.get(0).getResult().getBytes(), Files.size(results.get(0).getTarget()));
+
+        assertFalse(results.get(1).isSuccessful());
+        assertEquals("missing", results.get(1).getParentId());
+        assertTrue(results.get(1).getError() instanceof IOException);
+        assertFalse(Files.exists(directory.resolve("missing_2_signed.pdf")));
+
+        assertTrue(results.get(2).isSuccessful());
+        assertEquals("/v3/signatures/b/documents/3/download/signed", read(results.get(2).getTarget()));
+    }
+
+    @Test
+    public void testDownloadSignatures() throws Exception {
+        Path directory = Files.createTempDirectory("bulk");
+        List<BulkDownloadResult> results = new BulkDownloader(client, directory, 4).downloadSignatures(
+                Arrays.asList("sig", "missing")
+        );
+
+        assertEquals(5, results.size());
+
+        assertEquals(BulkDownloadResult.Kind.SIGNED_DOCUMENT, results.get(0).getKind());
+        assertEquals("doc1", results.get(0).getDocumentId());
+        assertEquals("/v3/signatures/sig/documents/doc1/download/signed", read(directory.resolve("sig_doc1_signed.pdf")));
+
+        assertEquals(BulkDownloadResult.Kind.AUDIT_TRAIL, results.get(1).getKind());
+        assertEquals("/v3/signatures/sig/documents/doc1/download/audit_trail", read(directory.resolve("sig_doc1_audit_trail.pdf")));
+
+        assertEquals("doc2", results.get(2).getDocumentId());
+        assertEquals("doc2", results.get(3).getDocumentId());
+        assertTrue(results.get(3).isSuccessful());
+
+        assertEquals("missing", results.get(4).getParentId());
+        assertNull(results.get(4).getDocumentId());
+        assertFalse(results.get(4).isSuccessful());
+    }
+
+    @Test
+    public void testDownloadEmailSmsAndPackageAuditTrails() throws Exception {
+        Path directory = Files.createTempDirectory("bulk");
+        BulkDownloader downloader = new BulkDownloader(client, directory, 2);
+
+        BulkDownloadResult email = downloader.downloadEmailAuditTrails(Collections.singletonList(DocumentRef.of("e", "c"))).get(0);
+        BulkDownloadResult sms = downloader.downloadSmsAuditTrails(Collections.singletonList(DocumentRef.of("s", "c"))).get(0);
+        BulkDownloadResult pack = downloader.downloadPackageAuditTrails(Collections.singletonList("p")).get(0);
+
+        assertEquals("/v3/emails/e/certificates/c/download/audit_trail", read(email.getTarget()));
+        assertEquals("/v3/sms/s/certificates/c/download/audit_trail", read(sms.getTarget()));
+        assertEquals(directory.resolve("p_audit_trail.pdf"), pack.getTarget());
+        assertTrue(pack.isSuccessful());
+    }
+
+    @Test
+    public void testInvalidIdFailsItem() throws Exception {
+        Path directory = Files.createTempDirectory("bulk");
+        List<BulkDownloadResult> results = new BulkDownloader(client, directory, 1).downloadAuditTrails(
+                Arrays.asList(DocumentRef.of("../a", "1"), DocumentRef.of("a", "1"))
+        );
+
+        assertTrue(results.get(0).getError() instanceof IllegalArgumentException);
+        assertNull(results.get(0).getTarget());
+        assertTrue(results.get(1).isSuccessful());
+    }
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        Path directory = Files.createTempDirectory("bulk");
+
+        assertTrue(new BulkDownloader(client, directory, 2).downloadSignatures(Collections.<String>emptyList()).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() throws IOException {
+        new BulkDownloader(client, Files.createTempDirectory("bulk"), 0);
+    }
+
+    private static String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), "UTF-8");
+    }
+}
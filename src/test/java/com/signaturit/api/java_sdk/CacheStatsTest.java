@@ -0,0 +1,164 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CacheStatsTest {
+
+    private static final String LAST_MODIFIED = "Wed, 01 Jan 2020 00:00:00 GMT";
+
+    private MockWebServer server;
+    private Client client;
+
+    private final AtomicInteger version = new AtomicInteger(1);
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        String path = request.getPath();
+                        String etag = "\"v" + version.get() + "\"";
+
+                        if (path.endsWith("brandings.json")) {
+                            // always revalidated, answered 304 while the ETag matches
+                            if (etag.equals(request.getHeader("If-None-Match"))) {
+                                return new MockResponse().setResponseCode(304).setHeader("ETag", etag);
+                            }
+
+                            return new MockResponse().setResponseCode(200)
+                                    .setHeader("Cache-Control", "no-cache")
+                                    .setHeader("ETag", etag)
+                                    .setBody("[{\"id\": \"branding" + version.get() + "\"}]");
+                        }
+
+                        if (path.endsWith("team/users.json")) {
+                            if (LAST_MODIFIED.equals(request.getHeader("If-Modified-Since"))) {
+                                return new MockResponse().setResponseCode(304);
+                            }
+
+                            return new MockResponse().setResponseCode(200)
+                                    .setHeader("Cache-Control", "no-cache")
+                                    .setHeader("Last-Modified", LAST_MODIFIED)
+                                    .setBody("[{\"id\": \"user\"}]");
+                        }
+
+                        if (path.endsWith("templates.json")) {
+                            return new MockResponse().setResponseCode(200)
+                                    .setHeader("Cache-Control", "max-age=60")
+                                    .setBody("[{\"id\": \"template\"}]");
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(request.getMethod());
+                    }
+                }
+        );
+
+        File directory = Files.createTempDirectory("http-cache").toFile();
+
+        client = new Client("token", false, new ClientOptions().setCache(directory, 1024 * 1024));
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testRevalidatesWithETag() throws IOException, InterruptedException {
+        assertEquals("[{\"id\": \"branding1\"}]", body(client.getBrandings()));
+        assertNull(server.takeRequest().getHeader("If-None-Match"));
+
+        Response response = client.getBrandings();
+
+        assertEquals(200, response.code());
+        assertEquals(304, response.networkResponse().code());
+        assertEquals("[{\"id\": \"branding1\"}]", body(response));
+        assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+
+        CacheStats stats = client.getCacheStats();
+
+        assertEquals(2, stats.getRequestCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getRevalidationCount());
+        assertEquals(0, stats.getHitCount());
+    }
+
+    @Test
+    public void testChangedResourceIsDownloaded() throws IOException {
+        body(client.getBrandings());
+
+        version.incrementAndGet();
+
+        assertEquals("[{\"id\": \"branding2\"}]", body(client.getBrandings()));
+        assertEquals(2, client.getCacheStats().getMissCount());
+        assertEquals(0, client.getCacheStats().getRevalidationCount());
+    }
+
+    @Test
+    public void testRevalidatesWithLastModified() throws IOException, InterruptedException {
+        body(client.getUsers());
+        server.takeRequest();
+
+        assertEquals("[{\"id\": \"user\"}]", body(client.getUsers()));
+        assertEquals(LAST_MODIFIED, server.takeRequest().getHeader("If-Modified-Since"));
+        assertEquals(1, client.getCacheStats().getRevalidationCount());
+    }
+
+    @Test
+    public void testFreshResponseServedFromCache() throws IOException {
+        body(client.getTemplates());
+
+        assertEquals("[{\"id\": \"template\"}]", body(client.getTemplates()));
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, client.getCacheStats().getHitCount());
+        assertEquals(1, client.getCacheStats().getMissCount());
+    }
+
+    @Test
+    public void testWritesAreNotCounted() throws IOException {
+        client.deleteContact("id").close();
+
+        assertEquals(0, client.getCacheStats().getRequestCount());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Client uncached = new Client("token");
+
+        assertNull(uncached.getCacheStats());
+
+        uncached.close();
+    }
+
+    private static String body(Response response) throws IOException {
+        try {
+            return response.body().string();
+        } finally {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    private volatile int status = 500;
+    private volatile long delayMillis = 0;
+
+    private final List<String> events = new ArrayList<String>();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("emails")) {
+                            return new MockResponse().setResponseCode(200);
+                        }
+
+                        return new MockResponse().setResponseCode(status).setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS);
+                    }
+                }
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+
+        server.shutdown();
+    }
+
+    @Test
+    public void testOpensOnFailureRate() throws Exception {
+        client(new ClientOptions().setCircuitBreakerPolicy(policy().setOpenDuration(1, TimeUnit.HOURS)));
+
+        for (int i = 0; i < 4; ++i) {
+            client.getSignature("id").close();
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitBreaker().getState(EndpointFamily.SIGNATURES));
+
+        try {
+            client.getSignature("id");
+            fail();
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals(EndpointFamily.SIGNATURES, e.getFamily());
+        }
+
+        assertEquals(4, server.getRequestCount());
+        assertEquals(1, client.getCircuitBreaker().getRejectedCount());
+        assertEquals(Arrays.asList("SIGNATURES CLOSED>OPEN"), events);
+
+        // other families are not affected
+        assertEquals(200, client.getEmails().code());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker().getState(EndpointFamily.EMAILS));
+    }
+
+    @Test
+    public void testHalfOpenCloses() throws Exception {
+        client(new ClientOptions().setCircuitBreakerPolicy(policy().setOpenDuration(100, TimeUnit.MILLISECONDS)));
+
+        for (int i = 0; i < 4; ++i) {
+            client.getSignature("id").close();
+        }
+
+        Thread.sleep(150);
+
+        status = 200;
+
+        client.getSignature("id").close();
+        client.getSignature("id").close();
+
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker().getState(EndpointFamily.SIGNATURES));
+        assertEquals(Arrays.asList(
+                "SIGNATURES CLOSED>OPEN",
+                "SIGNATURES OPEN>HALF_OPEN",
+                "SIGNATURES HALF_OPEN>CLOSED"
+        ), events);
+    }
+
+    @Test
+    public void testHalfOpenReopens() throws Exception {
+        client(new ClientOptions().setCircuitBreakerPolicy(policy().setOpenDuration(100, TimeUnit.MILLISECONDS)));
+
+        for (int i = 0; i < 4; ++i) {
+            client.getSignature("id").close();
+        }
+
+        Thread.sleep(150);
+
+        client.getSignature("id").close();
+
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitBreaker().getState(EndpointFamily.SIGNATURES));
+        assertEquals(5, server.getRequestCount());
+    }
+
+    @Test
+    public void testOpensOnSlowCallRate() throws Exception {
+        status = 200;
+        delayMillis = 100;
+
+        client(new ClientOptions().setCircuitBreakerPolicy(
+                policy().setSlowCallDuration(50, TimeUnit.MILLISECONDS).setOpenDuration(1, TimeUnit.HOURS)
+        ));
+
+        for (int i = 0; i < 4; ++i) {
+            client.getSignature("id").close();
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitBreaker().getState(EndpointFamily.SIGNATURES));
+    }
+
+    @Test
+    public void testOpenCircuitIsNotRetried() throws Exception {
+        status = 503;
+
+        client(new ClientOptions()
+                .setCircuitBreakerPolicy(policy().setOpenDuration(1, TimeUnit.HOURS))
+                .setRetryPolicy(new RetryPolicy().setMaxAttempts(4).setBackoff(0, 0, TimeUnit.MILLISECONDS)));
+
+        client.getSignature("id").close();
+
+        // the four attempts of the first call opened the circuit
+        assertEquals(4, server.getRequestCount());
+
+        try {
+            client.getSignature("id");
+            fail();
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals(3, client.getRetryStats().getRetryCount("signatures/{id}.json"));
+        }
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Client plain = new Client("token");
+
+        assertNull(plain.getCircuitBreaker());
+
+        plain.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWindow() {
+        new CircuitBreakerPolicy().setWindow(5, 10);
+    }
+
+    private static CircuitBreakerPolicy policy() {
+        return new CircuitBreakerPolicy().setWindow(4, 4).setHalfOpenCalls(2);
+    }
+
+    private void client(ClientOptions options) throws NoSuchFieldException, IllegalAccessException {
+        client = new Client("token", false, options);
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+
+        client.getCircuitBreaker().addListener(
+                new CircuitBreaker.Listener() {
+                    @Override
+                    public void onStateChange(EndpointFamily family, CircuitBreaker.State from, CircuitBreaker.State to) {
+                        events.add(family + " " + from + ">" + to);
+                    }
+                }
+        );
+    }
+}
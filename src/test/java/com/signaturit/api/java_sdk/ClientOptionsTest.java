@@ -0,0 +1,58 @@
+package com.signaturit.api.java_sdk;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class ClientOptionsTest {
+
+    @Test
+    public void testDefaults() {
+        ClientOptions options = new ClientOptions();
+
+        assertEquals(ClientOptions.DEFAULT_MAX_IDLE_CONNECTIONS, options.getMaxIdleConnections());
+        assertEquals(TimeUnit.SECONDS.toMillis(ClientOptions.DEFAULT_KEEP_ALIVE_DURATION), options.getKeepAliveDurationMillis());
+        assertEquals(ClientOptions.DEFAULT_MAX_REQUESTS, options.getMaxRequests());
+        assertEquals(ClientOptions.DEFAULT_MAX_REQUESTS_PER_HOST, options.getMaxRequestsPerHost());
+        assertEquals(TimeUnit.SECONDS.toMillis(RequestHelper.TIMEOUT), options.getTimeoutMillis());
+    }
+
+    @Test
+    public void testSetters() {
+        ClientOptions options = new ClientOptions()
+                .setMaxIdleConnections(20)
+                .setKeepAliveDuration(1, TimeUnit.MINUTES)
+                .setMaxRequests(128)
+                .setMaxRequestsPerHost(32)
+                .setTimeout(30, TimeUnit.SECONDS);
+
+        assertEquals(20, options.getMaxIdleConnections());
+        assertEquals(60000, options.getKeepAliveDurationMillis());
+        assertEquals(128, options.getMaxRequests());
+        assertEquals(32, options.getMaxRequestsPerHost());
+        assertEquals(30000, options.getTimeoutMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxRequestsPerHost() {
+        new ClientOptions().setMaxRequestsPerHost(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCacheSize() {
+        new ClientOptions().setCache(new File("cache"), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRateLimit() {
+        new ClientOptions().setRateLimit(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRateLimitBurst() {
+        new ClientOptions().setRateLimit(EndpointFamily.SIGNATURES, 10, 0);
+    }
+}
@@ -1,5 +1,6 @@
 package com.signaturit.api.java_sdk;
 
+import okhttp3.OkHttpClient;
 import okhttp3.Response;
 import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
@@ -9,10 +10,16 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -23,6 +30,7 @@ public class ClientTest {
     private static final String token = "token";
     private static final String recipientEmail = "foo";
     private static final String recipientPhone = "34555555555";
+    private static final String documentContent = "%PDF-1.4 signed";
 
     private static final MockWebServer server = new MockWebServer();
     private static final Client client = new Client(token);
@@ -35,6 +43,14 @@ public class ClientTest {
                 new Dispatcher() {
                     @Override
                     public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("missing")) {
+                            return new MockResponse().setResponseCode(404);
+                        }
+
+                        if (request.getPath().contains("/download/")) {
+                            return new MockResponse().setResponseCode(200).setBody(documentContent);
+                        }
+
                         return new MockResponse().setResponseCode(200);
                     }
                 }
@@ -75,7 +91,7 @@ public class ClientTest {
 
         assertNotNull(response);
         assertEquals("GET", recordedRequest.getMethod());
-        assertEquals("/v3/signatures/count.json?&foo=bar", recordedRequest.getPath());
+        assertEquals("/v3/signatures/count.json?foo=bar", recordedRequest.getPath());
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
@@ -138,7 +154,7 @@ public class ClientTest {
 
         assertNotNull(response);
         assertEquals("GET", recordedRequest.getMethod());
-        assertEquals("/v3/signatures.json?&foo=bar", recordedRequest.getPath());
+        assertEquals("/v3/signatures.json?foo=bar", recordedRequest.getPath());
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
@@ -181,6 +197,70 @@ public class ClientTest {
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
+    @Test
+    public void testDownloadSignedDocumentToPath() throws IOException, InterruptedException {
+        Path target = Files.createTempFile("signed", ".pdf");
+
+        DownloadResult result = client.downloadSignedDocument("foo", "bar", target);
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("/v3/signatures/foo/documents/bar/download/signed", recordedRequest.getPath());
+        assertEquals(documentContent.length(), result.getBytes());
+        assertTrue(result.getDurationNanos() > 0);
+        assertEquals(documentContent, new String(Files.readAllBytes(target), "UTF-8"));
+
+        Files.delete(target);
+    }
+
+    @Test
+    public void testDownloadAuditTrailToOutputStream() throws IOException, InterruptedException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        DownloadResult result = client.downloadAuditTrail("foo", "bar", target);
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("/v3/signatures/foo/documents/bar/download/audit_trail", recordedRequest.getPath());
+        assertEquals(documentContent.length(), result.getBytes());
+        assertEquals(documentContent, target.toString("UTF-8"));
+    }
+
+    @Test
+    public void testDownloadEmailAuditTrailToChannel() throws IOException, InterruptedException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        DownloadResult result = client.downloadEmailAuditTrail("foo", "bar", Channels.newChannel(target));
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals("/v3/emails/foo/certificates/bar/download/audit_trail", recordedRequest.getPath());
+        assertEquals(documentContent.length(), result.getBytes());
+        assertEquals(documentContent, target.toString("UTF-8"));
+    }
+
+    @Test
+    public void testDownloadFailureReleasesConnection() throws IOException, InterruptedException, NoSuchFieldException, IllegalAccessException {
+        Path target = Files.createTempFile("missing", ".pdf");
+        Files.delete(target);
+
+        try {
+            client.downloadPackageAuditTrail("missing", target);
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("404"));
+        }
+
+        server.takeRequest();
+
+        Field field = client.getClass().getDeclaredField("httpClient");
+        field.setAccessible(true);
+        OkHttpClient httpClient = (OkHttpClient) field.get(client);
+
+        assertFalse(Files.exists(target));
+        assertTrue(httpClient.connectionPool().idleConnectionCount() > 0);
+    }
+
     @Test
     public void testCreateSignature() throws IOException, InterruptedException {
         ArrayList<File> files = getFiles();
@@ -212,6 +292,56 @@ public class ClientTest {
         // assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
+    @Test
+    public void testCreateSignatureFromSources() throws IOException, InterruptedException {
+        ArrayList<UploadSource> documents = new ArrayList<UploadSource>();
+        documents.add(UploadSource.of("in-memory.pdf", ByteBuffer.wrap("%PDF-1.4".getBytes("UTF-8"))));
+        documents.add(UploadSource.of("stream.pdf", new ByteArrayInputStream("%PDF-1.5".getBytes("UTF-8"))));
+
+        Response response = client.createSignatureFromSources(documents, getRecipients(), null);
+
+        RecordedRequest recordedRequest = server.takeRequest();
+        String body = recordedRequest.getBody().readUtf8();
+
+        assertNotNull(response);
+        assertEquals("POST", recordedRequest.getMethod());
+        assertEquals("/v3/signatures.json", recordedRequest.getPath());
+        assertEquals("chunked", recordedRequest.getHeader("Transfer-Encoding"));
+        assertTrue(body.contains("name=\"files[0]\"; filename=\"in-memory.pdf\""));
+        assertTrue(body.contains("%PDF-1.4"));
+        assertTrue(body.contains("name=\"files[1]\"; filename=\"stream.pdf\""));
+        assertTrue(body.contains("%PDF-1.5"));
+    }
+
+    @Test
+    public void testCreateEmailFromSources() throws IOException, InterruptedException {
+        ArrayList<UploadSource> documents = new ArrayList<UploadSource>();
+        documents.add(UploadSource.of(new File("document.pdf").toPath()));
+
+        Response response = client.createEmailFromSources(documents, getRecipients(), "subject", "body", null);
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertNotNull(response);
+        assertEquals("POST", recordedRequest.getMethod());
+        assertEquals("/v3/emails.json", recordedRequest.getPath());
+        assertNotNull(recordedRequest.getHeader("Content-Length"));
+    }
+
+    @Test
+    public void testCreateSMSFromSources() throws IOException, InterruptedException {
+        ArrayList<UploadSource> documents = new ArrayList<UploadSource>();
+        documents.add(UploadSource.of(new File("document.pdf")));
+
+        Response response = client.createSMSFromSources(documents, getRecipients(), "foo", null);
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertNotNull(response);
+        assertEquals("POST", recordedRequest.getMethod());
+        assertEquals("/v3/sms.json", recordedRequest.getPath());
+    }
+
     @Test
     public void testCancelSignature() throws IOException, InterruptedException {
         Response response = client.cancelSignature("foo");
@@ -349,7 +479,7 @@ public class ClientTest {
 
         assertNotNull(response);
         assertEquals("GET", recordedRequest.getMethod());
-        assertEquals("/v3/emails.json?&foo=bar", recordedRequest.getPath());
+        assertEquals("/v3/emails.json?foo=bar", recordedRequest.getPath());
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
@@ -391,7 +521,7 @@ public class ClientTest {
 
         assertNotNull(response);
         assertEquals("GET", recordedRequest.getMethod());
-        assertEquals("/v3/emails/count.json?&foo=bar", recordedRequest.getPath());
+        assertEquals("/v3/emails/count.json?foo=bar", recordedRequest.getPath());
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
@@ -864,6 +994,20 @@ public class ClientTest {
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
+    @Test
+    public void testGetSMSWithLimitOffsetAndParameters() throws IOException, InterruptedException {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("crm_id", "CUSTOM_ID");
+
+        Response response = client.getSMS(10, 20, parameters);
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertNotNull(response);
+        assertEquals("GET", recordedRequest.getMethod());
+        assertEquals("/v3/sms.json?limit=10&offset=20&crm_id=CUSTOM_ID", recordedRequest.getPath());
+    }
+
     @Test
     public void testGetSingleSMS() throws IOException, InterruptedException {
         Response response = client.getSingleSMS("foo");
@@ -899,7 +1043,7 @@ public class ClientTest {
 
         assertNotNull(response);
         assertEquals("GET", recordedRequest.getMethod());
-        assertEquals("/v3/sms/count.json?&foo=bar", recordedRequest.getPath());
+        assertEquals("/v3/sms/count.json?foo=bar", recordedRequest.getPath());
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
@@ -931,6 +1075,25 @@ public class ClientTest {
         assertEquals("", recordedRequest.getBody().readUtf8());
     }
 
+    @Test
+    public void testClientReusesPooledConnections() throws IOException, InterruptedException, NoSuchFieldException, IllegalAccessException {
+        Client pooledClient = new Client(token, false, new ClientOptions().setMaxIdleConnections(2));
+
+        Field field = pooledClient.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(pooledClient, server.url(Client.API_VERSION).toString());
+
+        pooledClient.getSignature("foo").close();
+        server.takeRequest();
+
+        pooledClient.getSignature("bar").close();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertEquals(1, recordedRequest.getSequenceNumber());
+
+        pooledClient.close();
+    }
+
     private ArrayList<HashMap<String, Object>> getRecipients() {
         HashMap<String, Object> recipient = new HashMap<String, Object>();
         recipient.put("email", recipientEmail);
@@ -0,0 +1,117 @@
+package com.signaturit.api.java_sdk;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class DownloadTargetTest {
+
+    private static final byte[] content = getContent();
+
+    @Test
+    public void testPath() throws IOException {
+        Path path = Files.createTempFile("download", ".pdf");
+        Files.write(path, new byte[]{1, 2, 3});
+
+        long bytes = DownloadTarget.of(path).transfer(getSource());
+
+        assertEquals(content.length, bytes);
+        assertArrayEquals(content, Files.readAllBytes(path));
+
+        Files.delete(path);
+    }
+
+    @Test
+    public void testPathDeletedOnFailure() throws IOException {
+        Path path = Files.createTempFile("download", ".pdf");
+
+        BufferedSource failing = Okio.buffer(new ForwardingSource(new Buffer().write(content)) {
+            private long read = 0;
+
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                if (read > 0) {
+                    throw new IOException("connection reset");
+                }
+
+                read = super.read(sink, byteCount);
+
+                return read;
+            }
+        });
+
+        try {
+            DownloadTarget.of(path).transfer(failing);
+            fail();
+        } catch (IOException e) {
+            assertFalse(Files.exists(path));
+        }
+    }
+
+    @Test
+    public void testOutputStream() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long bytes = DownloadTarget.of(outputStream).transfer(getSource());
+
+        assertEquals(content.length, bytes);
+        assertArrayEquals(content, outputStream.toByteArray());
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long bytes = DownloadTarget.of(Channels.newChannel(outputStream)).transfer(getSource());
+
+        assertEquals(content.length, bytes);
+        assertArrayEquals(content, outputStream.toByteArray());
+    }
+
+    @Test
+    public void testFileChannelAppendsAtPosition() throws IOException {
+        Path path = Files.createTempFile("download", ".pdf");
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.position(2);
+
+        long bytes = DownloadTarget.of(channel).transfer(getSource());
+
+        assertEquals(content.length, bytes);
+        assertEquals(2 + content.length, channel.position());
+
+        channel.close();
+
+        byte[] written = Files.readAllBytes(path);
+
+        assertArrayEquals(content, Arrays.copyOfRange(written, 2, written.length));
+
+        Files.delete(path);
+    }
+
+    private static BufferedSource getSource() {
+        return new Buffer().write(content);
+    }
+
+    private static byte[] getContent() {
+        byte[] bytes = new byte[3 * 1024 * 1024 + 17];
+
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,218 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.FormBody;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class FormEncoderTest {
+
+    private static final String BOUNDARY = "a1b2c3d4-boundary";
+
+    @Test
+    public void testMultipartRecipients() throws IOException {
+        assertMultipart(signatureParameters(3), null);
+    }
+
+    @Test
+    public void testMultipartManyRecipients() throws IOException {
+        assertMultipart(signatureParameters(10000), null);
+    }
+
+    @Test
+    public void testMultipartValues() throws IOException {
+        HashMap<String, Object> parameters = new LinkedHashMap<String, Object>();
+        parameters.put("subject", "Contrato ñ € 😀 \uD800 \"quoted\"\r\nline");
+        parameters.put("expire_time", 7);
+        parameters.put("ratio", 1.5);
+        parameters.put("scale", 0.25f);
+        parameters.put("events", new String[]{"email_opened", "email_delivered"});
+        parameters.put("pages", new int[]{1, 20, 300});
+        parameters.put("ignored", Boolean.TRUE);
+        parameters.put("na\"me\nwith\rbreaks", "value");
+        parameters.put("", "");
+
+        HashMap<String, Object> data = new HashMap<String, Object>();
+        data.put("crm_id", "CUSTOM_ID");
+        data.put("nested", new ArrayList<Object>(Arrays.asList("a", 2, new int[]{3})));
+        parameters.put("data", data);
+
+        assertMultipart(parameters, null);
+    }
+
+    @Test
+    public void testMultipartFiles() throws IOException {
+        List<UploadSource> sources = new ArrayList<UploadSource>();
+        sources.add(UploadSource.of("contract.pdf", ByteBuffer.wrap("%PDF-1.4 contract".getBytes())));
+        sources.add(UploadSource.of("annex \"1\".pdf", ByteBuffer.wrap("%PDF-1.4 annex".getBytes())));
+
+        assertMultipart(signatureParameters(2), sources);
+        assertMultipart(null, sources);
+    }
+
+    @Test
+    public void testMultipartStreamedFile() throws IOException {
+        List<UploadSource> sources = new ArrayList<UploadSource>();
+        sources.add(UploadSource.of("stream.pdf", new ByteArrayInputStream("%PDF-1.4 stream".getBytes())));
+
+        RequestBody body = FormEncoder.multipart(signatureParameters(1), sources, BOUNDARY);
+
+        assertTrue(body.isOneShot());
+        assertEquals(-1, body.contentLength());
+
+        List<UploadSource> expectedSources = new ArrayList<UploadSource>();
+        expectedSources.add(UploadSource.of("stream.pdf", new ByteArrayInputStream("%PDF-1.4 stream".getBytes())));
+
+        assertEquals(bytes(multipartBody(signatureParameters(1), expectedSources)), bytes(body));
+    }
+
+    @Test
+    public void testMultipartWithoutParameters() throws IOException {
+        assertMultipart(null, null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMultipartWithoutParts() {
+        FormEncoder.multipart(new HashMap<String, Object>(), null, BOUNDARY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultipartInvalidName() {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("nombre_ñ", "value");
+
+        FormEncoder.multipart(parameters, null, BOUNDARY);
+    }
+
+    @Test
+    public void testFormRecipients() throws IOException {
+        assertForm(signatureParameters(3));
+        assertForm(signatureParameters(10000));
+    }
+
+    @Test
+    public void testFormValues() throws IOException {
+        HashMap<String, Object> parameters = new LinkedHashMap<String, Object>();
+        parameters.put("name", "Equipo ñ € 😀 \uD800 a+b c&d=e%20\t\r\n~!");
+        parameters.put("url", "https://example.com/hook?a=1&b=[2]");
+        parameters.put("expire_time", 7);
+        parameters.put("ignored", 1.5);
+        parameters.put("events", new String[]{"email_opened", "email_delivered"});
+        parameters.put("pages", new int[]{1, 20});
+        parameters.put("key with spaces/ñ", "value");
+
+        HashMap<String, Object> data = new HashMap<String, Object>();
+        data.put("crm_id", "CUSTOM_ID");
+        data.put("flags", new String[]{"x"});
+        parameters.put("data", data);
+
+        assertForm(parameters);
+    }
+
+    @Test
+    public void testFormEmpty() throws IOException {
+        assertForm(null);
+        assertForm(new HashMap<String, Object>());
+    }
+
+    @Test
+    public void testRewrite() throws IOException {
+        RequestBody body = FormEncoder.multipart(signatureParameters(5), null, BOUNDARY);
+
+        assertEquals(bytes(body), bytes(body));
+        assertFalse(body.isOneShot());
+    }
+
+    private static HashMap<String, Object> signatureParameters(int recipientCount) {
+        ArrayList<HashMap<String, Object>> recipients = new ArrayList<HashMap<String, Object>>();
+
+        for (int i = 0; i < recipientCount; ++i) {
+            HashMap<String, Object> recipient = new HashMap<String, Object>();
+            recipient.put("name", "Recipient " + i);
+            recipient.put("email", "recipient" + i + "@example.com");
+            recipient.put("phone", "34" + (600000000 + i));
+
+            recipients.add(recipient);
+        }
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("recipients", recipients);
+        parameters.put("subject", "Contract");
+        parameters.put("delivery_type", "email");
+
+        return parameters;
+    }
+
+    private static void assertMultipart(HashMap<String, Object> parameters, List<UploadSource> sources) throws IOException {
+        RequestBody body = FormEncoder.multipart(parameters, sources, BOUNDARY);
+        MultipartBody expected = multipartBody(parameters, sources);
+
+        assertEquals(expected.contentType(), body.contentType());
+        assertEquals(expected.contentLength(), body.contentLength());
+        assertEquals(bytes(expected), bytes(body));
+    }
+
+    /**
+     * Parts added as requests were built before the encoder streamed them
+     */
+    private static MultipartBody multipartBody(HashMap<String, Object> parameters, List<UploadSource> sources) {
+        MultipartBody.Builder builder = new MultipartBody.Builder(BOUNDARY).setType(MultipartBody.FORM);
+
+        if (parameters != null) {
+            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                RequestHelper.parseParameters(builder, entry.getValue(), entry.getKey());
+            }
+        }
+
+        if (sources != null) {
+            for (int i = 0; i < sources.size(); ++i) {
+                builder.addFormDataPart("files[" + i + "]", sources.get(i).getName(), sources.get(i).toRequestBody());
+            }
+        }
+
+        if (parameters == null && sources == null) {
+            builder.addFormDataPart("", "");
+        }
+
+        return builder.build();
+    }
+
+    private static void assertForm(HashMap<String, Object> parameters) throws IOException {
+        FormBody.Builder builder = new FormBody.Builder();
+
+        if (parameters != null) {
+            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                RequestHelper.parseParametersPatch(builder, entry.getValue(), entry.getKey());
+            }
+        } else {
+            builder.addEncoded("", "");
+        }
+
+        FormBody expected = builder.build();
+        RequestBody body = FormEncoder.form(parameters);
+
+        assertEquals(expected.contentType(), body.contentType());
+        assertEquals(expected.contentLength(), body.contentLength());
+        assertEquals(bytes(expected), bytes(body));
+    }
+
+    private static String bytes(RequestBody body) throws IOException {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+
+        return buffer.readByteString().hex();
+    }
+}
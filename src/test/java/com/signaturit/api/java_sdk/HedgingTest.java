@@ -0,0 +1,249 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class HedgingTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    /**
+     * Requests answered after a delay, the next ones are answered right away
+     */
+    private final AtomicInteger slow = new AtomicInteger();
+
+    /**
+     * Requests answered 503 after a shorter delay, before the slow ones
+     */
+    private final AtomicInteger failing = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (failing.getAndDecrement() > 0) {
+                            return new MockResponse().setResponseCode(503)
+                                    .setHeadersDelay(150, TimeUnit.MILLISECONDS);
+                        }
+
+                        if (slow.getAndDecrement() > 0) {
+                            return new MockResponse().setResponseCode(200).setBody("slow")
+                                    .setHeadersDelay(300, TimeUnit.MILLISECONDS);
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody("fast");
+                    }
+                }
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+
+        server.shutdown();
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(50, TimeUnit.MILLISECONDS).setMaxExtraLoad(1));
+
+        slow.set(1);
+
+        Response response = client.getSignature("id");
+
+        assertEquals("fast", response.body().string());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, client.getHedgingStats().getHedgeCount());
+        assertEquals(1, client.getHedgingStats().getHedgeWinCount());
+    }
+
+    @Test
+    public void testErrorDoesNotBeatHedge() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(50, TimeUnit.MILLISECONDS).setMaxExtraLoad(1));
+
+        failing.set(1);
+        slow.set(1);
+
+        // the request fails while its hedge is still running, the hedge answers
+        Response response = client.getSignature("id");
+
+        assertEquals(200, response.code());
+        assertEquals("slow", body(response));
+        assertEquals(1, client.getHedgingStats().getHedgeWinCount());
+    }
+
+    @Test
+    public void testErrorIsReturnedWithoutHedge() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(1, TimeUnit.SECONDS).setMaxExtraLoad(1));
+
+        failing.set(1);
+
+        Response response = client.getSignature("id");
+
+        assertEquals(503, response.code());
+        assertEquals(0, client.getHedgingStats().getHedgeCount());
+
+        response.close();
+    }
+
+    @Test
+    public void testRequestsAreNotQueuedBehindLimits() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(5, TimeUnit.SECONDS).setMaxExtraLoad(0));
+
+        int callers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<String>> bodies = new ArrayList<Future<String>>();
+
+        slow.set(callers);
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < callers; ++i) {
+            bodies.add(executor.submit(
+                    new Callable<String>() {
+                        @Override
+                        public String call() throws IOException {
+                            return body(client.getSignature("id"));
+                        }
+                    }
+            ));
+        }
+
+        for (Future<String> body : bodies) {
+            assertEquals("slow", body.get(5, TimeUnit.SECONDS));
+        }
+
+        // four rounds of 300 ms if the requests waited for the five slots per host
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(900));
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void testFastRequestIsNotHedged() throws Exception {
+        client(new HedgingPolicy().setMaxExtraLoad(1));
+
+        for (int i = 0; i < 5; ++i) {
+            assertEquals("fast", body(client.getSignature("id")));
+        }
+
+        assertEquals(5, server.getRequestCount());
+        assertEquals(5, client.getHedgingStats().getRequestCount());
+        assertEquals(0, client.getHedgingStats().getHedgeCount());
+    }
+
+    @Test
+    public void testExtraLoadIsCapped() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(20, TimeUnit.MILLISECONDS).setMaxExtraLoad(0.5));
+
+        for (int i = 0; i < 4; ++i) {
+            slow.set(10);
+
+            body(client.getSignature("id"));
+        }
+
+        assertEquals(2, client.getHedgingStats().getHedgeCount());
+    }
+
+    @Test
+    public void testWritesAreNotHedged() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(20, TimeUnit.MILLISECONDS).setMaxExtraLoad(1));
+
+        slow.set(1);
+
+        assertEquals("slow", body(client.deleteContact("id")));
+        assertEquals(1, server.getRequestCount());
+        assertEquals(0, client.getHedgingStats().getRequestCount());
+    }
+
+    @Test
+    public void testDelayFollowsPercentile() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(5, TimeUnit.SECONDS).setMinDelay(1, TimeUnit.MILLISECONDS));
+
+        for (int i = 0; i < 30; ++i) {
+            body(client.getEmail("id"));
+        }
+
+        assertTrue(client.getHedgingStats().getDelayMillis() < 1000);
+    }
+
+    @Test
+    public void testCancelBeforeHedge() throws Exception {
+        client(new HedgingPolicy().setInitialDelay(200, TimeUnit.MILLISECONDS).setMaxExtraLoad(1));
+
+        slow.set(1);
+
+        CompletableFuture<Response> future = client.async().getSignature("id");
+
+        Thread.sleep(50);
+        future.cancel(true);
+        Thread.sleep(400);
+
+        assertTrue(future.isCancelled());
+        assertTrue(server.getRequestCount() <= 1);
+        assertEquals(0, client.getHedgingStats().getHedgeCount());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Client plain = new Client("token");
+
+        assertNull(plain.getHedgingStats());
+
+        plain.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new HedgingPolicy().setPercentile(1);
+    }
+
+    private void client(HedgingPolicy policy) {
+        client = new Client("token", false, new ClientOptions().setHedgingPolicy(policy));
+
+        try {
+            Field field = client.getClass().getDeclaredField("url");
+            field.setAccessible(true);
+            field.set(client, server.url(Client.API_VERSION).toString());
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String body(Response response) throws IOException {
+        try {
+            return response.body().string();
+        } finally {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.signaturit.api.java_sdk;
+
+import okio.Buffer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class JsonReaderTest {
+
+    @Test
+    public void testTokens() throws IOException {
+        JsonReader reader = reader(" {\"id\": \"foo\", \"count\": 12, \"ratio\": -1.5e2, \"open\": true, \"closed\": false, \"tags\": [], \"parent\": null} ");
+
+        reader.beginObject();
+        assertEquals("id", reader.nextName());
+        assertEquals("foo", reader.nextString());
+        assertEquals("count", reader.nextName());
+        assertEquals(JsonReader.Token.NUMBER, reader.peek());
+        assertEquals(12, reader.nextInt());
+        assertEquals("ratio", reader.nextName());
+        assertEquals(-150.0, reader.nextDouble(), 0);
+        assertEquals("open", reader.nextName());
+        assertTrue(reader.nextBoolean());
+        assertEquals("closed", reader.nextName());
+        assertFalse(reader.nextBoolean());
+        assertEquals("tags", reader.nextName());
+        reader.beginArray();
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("parent", reader.nextName());
+        assertNull(reader.nextStringOrNull());
+        reader.endObject();
+
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void testEscapes() throws IOException {
+        JsonReader reader = reader("[\"a\\\"b\\\\c\\/d\\n\\u00e9\", \"café\"]");
+
+        reader.beginArray();
+        assertEquals("a\"b\\c/d\né", reader.nextString());
+        assertEquals("café", reader.nextString());
+        reader.endArray();
+    }
+
+    @Test
+    public void testSkipValue() throws IOException {
+        JsonReader reader = reader("{\"skipped\": {\"a\": [1, {\"b\": \"}\"}], \"c\": null}, \"kept\": 3}");
+
+        reader.beginObject();
+        assertEquals("skipped", reader.nextName());
+        reader.skipValue();
+        assertEquals("kept", reader.nextName());
+        assertEquals(3L, reader.nextLong());
+        reader.endObject();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadValue() throws IOException {
+        Map<String, Object> value = (Map<String, Object>) reader("{\"id\": \"foo\", \"count\": 2, \"ratio\": 0.5, \"list\": [true, null]}").readValue();
+
+        assertEquals("foo", value.get("id"));
+        assertEquals(2L, value.get("count"));
+        assertEquals(0.5, value.get("ratio"));
+        assertEquals(Arrays.asList(true, null), value.get("list"));
+    }
+
+    @Test
+    public void testMalformed() throws IOException {
+        List<String> documents = Arrays.asList("{\"id\" \"foo\"}", "[1 2]", "{\"id\": \"foo", "{id: 1}", "");
+
+        for (String document : documents) {
+            try {
+                reader(document).readValue();
+                fail(document);
+            } catch (IOException e) {
+                assertTrue(e.getMessage().startsWith("Malformed JSON"));
+            }
+        }
+    }
+
+    @Test
+    public void testTrailingContent() throws IOException {
+        JsonReader reader = reader("{} {}");
+
+        reader.readValue();
+
+        try {
+            reader.peek();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("Malformed JSON"));
+        }
+    }
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new Buffer().writeUtf8(json));
+    }
+}
@@ -0,0 +1,588 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import javax.net.ServerSocketFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Load test of one {@link Client} against a local {@link MockWebServer}: N workers
+ * send a mix of listings, point reads, signature requests with a file and
+ * downloads for a while, and the run reports throughput, latency percentiles,
+ * allocation rate of the calling threads and connections opened.
+ * <p>
+ * Run with {@code mvn -Pload-test test-compile exec:java}, setting the
+ * {@code loadtest.*} system properties read by {@link #main(String[])}.
+ */
+public class LoadHarness {
+
+    /**
+     * Kept referenced so that the server does not log every request again
+     */
+    private static final Logger SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+    public enum Operation {
+        LIST(30),
+        READ(50),
+        CREATE(10),
+        DOWNLOAD(10);
+
+        /**
+         * Share of the calls, in percent
+         */
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int percent) {
+            for (Operation operation : values()) {
+                if (percent < operation.weight) {
+                    return operation;
+                }
+
+                percent -= operation.weight;
+            }
+
+            return READ;
+        }
+    }
+
+    private int workers = 16;
+    private long warmupMillis = TimeUnit.SECONDS.toMillis(5);
+    private long durationMillis = TimeUnit.SECONDS.toMillis(30);
+    private long latencyMillis = 20;
+    private int bodySize = 4096;
+    private int uploadSize = 64 * 1024;
+    private int downloadSize = 1024 * 1024;
+    private ClientOptions options = new ClientOptions();
+
+    public static void main(String[] args) throws Exception {
+        LoadHarness harness = new LoadHarness()
+                .setWorkers(Integer.getInteger("loadtest.workers", 16))
+                .setWarmup(Long.getLong("loadtest.warmup", 5), TimeUnit.SECONDS)
+                .setDuration(Long.getLong("loadtest.duration", 30), TimeUnit.SECONDS)
+                .setLatency(Long.getLong("loadtest.latency", 20), TimeUnit.MILLISECONDS)
+                .setBodySize(Integer.getInteger("loadtest.bodySize", 4096))
+                .setUploadSize(Integer.getInteger("loadtest.uploadSize", 64 * 1024))
+                .setDownloadSize(Integer.getInteger("loadtest.downloadSize", 1024 * 1024));
+
+        ClientOptions options = new ClientOptions();
+
+        if (Integer.getInteger("loadtest.maxIdleConnections") != null) {
+            options.setMaxIdleConnections(Integer.getInteger("loadtest.maxIdleConnections"));
+        }
+
+        System.out.println(harness.setOptions(options).run());
+    }
+
+    public LoadHarness setWorkers(int workers) {
+        this.workers = workers;
+
+        return this;
+    }
+
+    public LoadHarness setWarmup(long warmup, TimeUnit unit) {
+        this.warmupMillis = unit.toMillis(warmup);
+
+        return this;
+    }
+
+    public LoadHarness setDuration(long duration, TimeUnit unit) {
+        this.durationMillis = unit.toMillis(duration);
+
+        return this;
+    }
+
+    /**
+     * @param latency time the server waits before answering each call
+     * @param unit    unit of the latency
+     * @return this harness
+     */
+    public LoadHarness setLatency(long latency, TimeUnit unit) {
+        this.latencyMillis = unit.toMillis(latency);
+
+        return this;
+    }
+
+    /**
+     * @param bodySize bytes of the listing and point read responses
+     * @return this harness
+     */
+    public LoadHarness setBodySize(int bodySize) {
+        this.bodySize = bodySize;
+
+        return this;
+    }
+
+    /**
+     * @param uploadSize bytes of the file sent with each signature request
+     * @return this harness
+     */
+    public LoadHarness setUploadSize(int uploadSize) {
+        this.uploadSize = uploadSize;
+
+        return this;
+    }
+
+    /**
+     * @param downloadSize bytes of each downloaded document
+     * @return this harness
+     */
+    public LoadHarness setDownloadSize(int downloadSize) {
+        this.downloadSize = downloadSize;
+
+        return this;
+    }
+
+    /**
+     * @param options options of the client under test, a metrics listener is added to them
+     * @return this harness
+     */
+    public LoadHarness setOptions(ClientOptions options) {
+        this.options = options;
+
+        return this;
+    }
+
+    public Report run() throws Exception {
+        final byte[] json = jsonBody(bodySize);
+        final byte[] document = new byte[downloadSize];
+
+        SERVER_LOGGER.setLevel(Level.WARNING);
+
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                        byte[] body = request.getPath().contains("/download/") ? document : json;
+
+                        TimeUnit.MILLISECONDS.sleep(latencyMillis);
+
+                        return new MockResponse()
+                                .setResponseCode(200)
+                                .setBody(new Buffer().write(body));
+                    }
+                }
+        );
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.start();
+
+        File upload = File.createTempFile("load", ".pdf");
+        Files.write(upload.toPath(), new byte[uploadSize]);
+
+        final SocketTracker sockets = new SocketTracker();
+        options.addMetricsListener(sockets);
+
+        Client client = new Client("token", false, options);
+
+        Field field = Client.class.getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+        long measureTo = measureFrom + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+        Worker[] running = new Worker[workers];
+        CountDownLatch done = new CountDownLatch(workers);
+
+        try {
+            for (int i = 0; i < workers; ++i) {
+                running[i] = new Worker(client, upload, measureFrom, measureTo, done);
+
+                Thread thread = new Thread(running[i], "load-worker-" + i);
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            done.await();
+        } finally {
+            client.close();
+            server.shutdown();
+            upload.delete();
+        }
+
+        return new Report(workers, durationMillis, running, sockets);
+    }
+
+    private static byte[] jsonBody(int size) {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; builder.length() < size - 64; ++i) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":\"6f6c974e-2910-11e4-b3d4-0aa7697eb4").append(String.format("%02d", i % 100)).append("\"}");
+        }
+
+        return builder.append("]").toString().getBytes();
+    }
+
+    /**
+     * The server writes the headers and the body of a response apart: with Nagle's
+     * algorithm the body would wait for the delayed ACK of the headers, adding 40 ms
+     * to every call that a real server does not.
+     */
+    private static class NoDelayServerSocketFactory extends ServerSocketFactory {
+
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new ServerSocket() {
+                @Override
+                public Socket accept() throws IOException {
+                    Socket socket = super.accept();
+                    socket.setTcpNoDelay(true);
+
+                    return socket;
+                }
+            };
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Keeps the highest number of connections the client had open.
+     */
+    private static class SocketTracker implements MetricsListener {
+
+        private final AtomicInteger maxConnections = new AtomicInteger();
+        private volatile int connections;
+
+        @Override
+        public void requestStarted(String method, String route) {
+        }
+
+        @Override
+        public void requestFinished(RequestEvent event) {
+            int current;
+
+            connections = event.getConnectionCount();
+
+            while ((current = maxConnections.get()) < event.getConnectionCount()
+                    && !maxConnections.compareAndSet(current, event.getConnectionCount())) {
+                // lost the race, read the new maximum
+            }
+        }
+    }
+
+    private static class Worker implements Runnable {
+
+        private final Client client;
+        private final File upload;
+        private final long measureFrom;
+        private final long measureTo;
+        private final CountDownLatch done;
+
+        private final long[][] latencies = new long[Operation.values().length][];
+        private final int[] counts = new int[Operation.values().length];
+        private int errors = 0;
+        private long allocatedBytes = -1;
+
+        Worker(Client client, File upload, long measureFrom, long measureTo, CountDownLatch done) {
+            this.client = client;
+            this.upload = upload;
+            this.measureFrom = measureFrom;
+            this.measureTo = measureTo;
+            this.done = done;
+
+            for (int i = 0; i < latencies.length; ++i) {
+                latencies[i] = new long[1024];
+            }
+        }
+
+        @Override
+        public void run() {
+            long allocatedFrom = -1;
+
+            try {
+                long now;
+
+                while ((now = System.nanoTime()) < measureTo) {
+                    boolean measured = now >= measureFrom;
+
+                    if (measured && allocatedFrom == -1) {
+                        allocatedFrom = allocatedBytes();
+                    }
+
+                    Operation operation = Operation.pick(ThreadLocalRandom.current().nextInt(100));
+                    boolean failed = false;
+
+                    try {
+                        call(operation);
+                    } catch (IOException e) {
+                        failed = true;
+                    }
+
+                    if (measured) {
+                        record(operation, System.nanoTime() - now, failed);
+                    }
+                }
+
+                if (allocatedFrom != -1) {
+                    allocatedBytes = allocatedBytes() - allocatedFrom;
+                }
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void call(Operation operation) throws IOException {
+            String id = "6f6c974e-2910-11e4-b3d4-0aa7697eb409";
+
+            switch (operation) {
+                case LIST:
+                    HashMap<String, Object> query = new HashMap<String, Object>();
+                    query.put("status", "completed");
+
+                    consume(client.getSignatures(100, 0, query));
+                    break;
+                case READ:
+                    consume(client.getSignature(id));
+                    break;
+                case CREATE:
+                    ArrayList<File> files = new ArrayList<File>();
+                    files.add(upload);
+
+                    ArrayList<HashMap<String, Object>> recipients = new ArrayList<HashMap<String, Object>>();
+                    HashMap<String, Object> recipient = new HashMap<String, Object>();
+                    recipient.put("name", "Recipient");
+                    recipient.put("email", "recipient@example.com");
+                    recipients.add(recipient);
+
+                    consume(client.createSignature(files, recipients, new HashMap<String, Object>()));
+                    break;
+                case DOWNLOAD:
+                    client.downloadSignedDocument(id, id, new OutputStream() {
+                        @Override
+                        public void write(int b) {
+                        }
+
+                        @Override
+                        public void write(byte[] b, int off, int len) {
+                        }
+                    });
+                    break;
+            }
+        }
+
+        private static void consume(Response response) throws IOException {
+            try {
+                response.body().bytes();
+
+                if (!response.isSuccessful()) {
+                    throw new IOException("Unexpected status " + response.code());
+                }
+            } finally {
+                response.close();
+            }
+        }
+
+        private void record(Operation operation, long nanos, boolean failed) {
+            int index = operation.ordinal();
+
+            if (counts[index] == latencies[index].length) {
+                latencies[index] = Arrays.copyOf(latencies[index], counts[index] * 2);
+            }
+
+            latencies[index][counts[index]++] = nanos;
+
+            if (failed) {
+                errors++;
+            }
+        }
+
+        /**
+         * @return bytes allocated so far by the current thread, which runs the interceptors and I/O of its calls
+         */
+        private static long allocatedBytes() {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+            if (threads instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+                return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+
+            return 0;
+        }
+    }
+
+    public static final class Report {
+
+        private final int workers;
+        private final long durationMillis;
+        private final long[][] latencies = new long[Operation.values().length][];
+        private final long[] all;
+        private final long errors;
+        private final long allocatedBytes;
+        private final int maxConnections;
+        private final int connections;
+
+        Report(int workers, long durationMillis, Worker[] running, SocketTracker sockets) {
+            this.workers = workers;
+            this.durationMillis = durationMillis;
+
+            long errorCount = 0;
+            long allocated = 0;
+
+            for (Operation operation : Operation.values()) {
+                int index = operation.ordinal();
+                int size = 0;
+
+                for (Worker worker : running) {
+                    size += worker.counts[index];
+                }
+
+                latencies[index] = new long[size];
+                size = 0;
+
+                for (Worker worker : running) {
+                    System.arraycopy(worker.latencies[index], 0, latencies[index], size, worker.counts[index]);
+                    size += worker.counts[index];
+                }
+
+                Arrays.sort(latencies[index]);
+            }
+
+            for (Worker worker : running) {
+                errorCount += worker.errors;
+                allocated += Math.max(0, worker.allocatedBytes);
+            }
+
+            int total = 0;
+
+            for (long[] operation : latencies) {
+                total += operation.length;
+            }
+
+            this.all = new long[total];
+            total = 0;
+
+            for (long[] operation : latencies) {
+                System.arraycopy(operation, 0, all, total, operation.length);
+                total += operation.length;
+            }
+
+            Arrays.sort(all);
+
+            this.errors = errorCount;
+            this.allocatedBytes = allocated;
+            this.maxConnections = sockets.maxConnections.get();
+            this.connections = sockets.connections;
+        }
+
+        /**
+         * @return calls measured, failed ones included
+         */
+        public long getCallCount() {
+            return all.length;
+        }
+
+        public long getErrorCount() {
+            return errors;
+        }
+
+        public double getCallsPerSecond() {
+            return all.length * 1000.0 / durationMillis;
+        }
+
+        /**
+         * @param percentile percentile between 0 and 1
+         * @return latency of the calls at the percentile, in microseconds
+         */
+        public long getLatencyMicros(double percentile) {
+            return percentile(all, percentile);
+        }
+
+        public long getLatencyMicros(Operation operation, double percentile) {
+            return percentile(latencies[operation.ordinal()], percentile);
+        }
+
+        /**
+         * @return bytes allocated per second by the worker threads
+         */
+        public double getAllocationRate() {
+            return allocatedBytes * 1000.0 / durationMillis;
+        }
+
+        /**
+         * @return highest number of connections open at once
+         */
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+
+            builder.append(String.format("workers=%d, duration=%ds%n", workers, TimeUnit.MILLISECONDS.toSeconds(durationMillis)));
+            builder.append(String.format("calls=%d, errors=%d, throughput=%.1f calls/s%n", getCallCount(), errors, getCallsPerSecond()));
+            builder.append(String.format("%-9s %8s %8s %8s %8s %8s   (microseconds)%n", "", "p50", "p90", "p99", "p99.9", "max"));
+            builder.append(row("ALL", all));
+
+            for (Operation operation : Operation.values()) {
+                builder.append(row(operation.name(), latencies[operation.ordinal()]));
+            }
+
+            builder.append(String.format("allocation=%.1f MB/s, %d bytes/call%n",
+                    getAllocationRate() / (1024 * 1024), all.length == 0 ? 0 : allocatedBytes / all.length));
+            builder.append(String.format("connections=%d open after the last call, %d at most%n", connections, maxConnections));
+
+            return builder.toString();
+        }
+
+        private static String row(String name, long[] sorted) {
+            return String.format("%-9s %8d %8d %8d %8d %8d%n", name,
+                    percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), percentile(sorted, 1));
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+
+            int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+
+            return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(0, rank)]);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.signaturit.api.java_sdk;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class LoadHarnessTest {
+
+    @Test
+    public void testShortRun() throws Exception {
+        LoadHarness.Report report = new LoadHarness()
+                .setWorkers(4)
+                .setWarmup(100, TimeUnit.MILLISECONDS)
+                .setDuration(500, TimeUnit.MILLISECONDS)
+                .setLatency(1, TimeUnit.MILLISECONDS)
+                .setBodySize(512)
+                .setUploadSize(1024)
+                .setDownloadSize(4096)
+                .run();
+
+        assertTrue(report.getCallCount() > 0);
+        assertEquals(0, report.getErrorCount());
+        assertTrue(report.getCallsPerSecond() > 0);
+        assertTrue(report.getLatencyMicros(0.5) <= report.getLatencyMicros(0.99));
+        assertTrue(report.getLatencyMicros(0.99) <= report.getLatencyMicros(1));
+        assertTrue(report.getMaxConnections() >= 1);
+        assertTrue(report.getMaxConnections() <= 4);
+    }
+
+    @Test
+    public void testOperationMix() {
+        assertEquals(LoadHarness.Operation.LIST, LoadHarness.Operation.pick(0));
+        assertEquals(LoadHarness.Operation.READ, LoadHarness.Operation.pick(30));
+        assertEquals(LoadHarness.Operation.CREATE, LoadHarness.Operation.pick(80));
+        assertEquals(LoadHarness.Operation.DOWNLOAD, LoadHarness.Operation.pick(99));
+    }
+}
@@ -0,0 +1,169 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class MetricsTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    private final RouteMetrics metrics = new RouteMetrics();
+    private final List<RequestEvent> events = new CopyOnWriteArrayList<RequestEvent>();
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("broken")) {
+                            return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+                        }
+
+                        if (request.getPath().contains("missing")) {
+                            return new MockResponse().setResponseCode(404);
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(request.getMethod());
+                    }
+                }
+        );
+
+        ClientOptions options = new ClientOptions()
+                .addMetricsListener(metrics)
+                .addMetricsListener(
+                        new MetricsListener() {
+                            @Override
+                            public void requestStarted(String method, String route) {
+                                throw new IllegalStateException("broken listener");
+                            }
+
+                            @Override
+                            public void requestFinished(RequestEvent event) {
+                                events.add(event);
+                            }
+                        }
+                );
+
+        client = new Client("token", false, options);
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testRoutesAreNormalized() throws IOException {
+        body(client.getSignature("first"));
+        body(client.getSignature("second"));
+        body(client.getSignature("missing"));
+
+        RouteMetrics.Route route = metrics.getRoute("GET", "signatures/{id}.json");
+
+        assertEquals(3, route.getLatency().getCount());
+        assertEquals(Long.valueOf(2), route.getStatusCounts().get(200));
+        assertEquals(Long.valueOf(1), route.getStatusCounts().get(404));
+        assertEquals(6, route.getResponseBytes());
+        assertEquals(1, metrics.getRoutes().size());
+    }
+
+    @Test
+    public void testEvent() throws IOException {
+        body(client.createContact("bob@example.com", "Bob"));
+
+        assertEquals(1, events.size());
+
+        RequestEvent event = events.get(0);
+
+        assertEquals("POST", event.getMethod());
+        assertEquals("contacts.json", event.getRoute());
+        assertEquals(EndpointFamily.CONTACTS, event.getFamily());
+        assertEquals(200, event.getStatusCode());
+        assertNull(event.getFailure());
+        assertTrue(event.getRequestBytes() > 0);
+        assertEquals(4, event.getResponseBytes());
+        assertTrue(event.getDurationNanos() >= event.getHeadersNanos());
+        assertEquals(0, event.getInFlight());
+        assertEquals(1, event.getConnectionCount());
+    }
+
+    @Test
+    public void testFinishedWhenBodyIsClosed() throws IOException {
+        Response response = client.getEmails();
+
+        assertEquals(1, metrics.getInFlight());
+        assertTrue(events.isEmpty());
+
+        response.close();
+
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(1, events.size());
+        assertEquals(0, events.get(0).getResponseBytes());
+    }
+
+    @Test
+    public void testFailure() {
+        try {
+            client.getSignature("broken");
+            fail();
+        } catch (IOException e) {
+            RouteMetrics.Route route = metrics.getRoute("GET", "signatures/{id}.json");
+
+            assertEquals(1, route.getFailureCount());
+            assertEquals(e, events.get(0).getFailure());
+            assertEquals(0, events.get(0).getStatusCode());
+        }
+    }
+
+    @Test
+    public void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < 98; ++i) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(150));
+        histogram.record(TimeUnit.MINUTES.toNanos(5));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5, histogram.getPercentileMillis(0.5));
+        assertEquals(200, histogram.getPercentileMillis(0.99));
+        assertEquals(TimeUnit.MINUTES.toMillis(5), histogram.getPercentileMillis(1));
+        assertEquals(98, histogram.getBucketCounts()[2]);
+        assertEquals(0, new LatencyHistogram().getPercentileMillis(0.99));
+    }
+
+    private static void body(Response response) throws IOException {
+        try {
+            response.body().string();
+        } finally {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ModelsTest {
+
+    @Test
+    public void testSignature() throws IOException {
+        Signature signature = Signature.fromResponse(response(200,
+                "{\"id\": \"sig\", \"created_at\": \"2020-01-01T00:00:00+0000\", \"url\": \"ignored\","
+                        + " \"data\": {\"crm_id\": \"42\", \"amount\": 12.5, \"nested\": {\"a\": 1}},"
+                        + " \"documents\": [{\"id\": \"doc\", \"email\": \"john@example.com\", \"name\": \"John\","
+                        + " \"status\": \"completed\", \"events\": [{\"type\": \"email_processed\"}],"
+                        + " \"file\": {\"name\": \"contract.pdf\", \"pages\": 3, \"size\": 12345}}]}"
+        ));
+
+        assertEquals("sig", signature.getId());
+        assertEquals("2020-01-01T00:00:00+0000", signature.getCreatedAt());
+        assertEquals("42", signature.getData().get("crm_id"));
+        assertEquals("12.5", signature.getData().get("amount"));
+        assertEquals("{a=1}", signature.getData().get("nested"));
+
+        Document document = signature.getDocuments().get(0);
+
+        assertEquals("doc", document.getId());
+        assertEquals("john@example.com", document.getEmail());
+        assertEquals("John", document.getName());
+        assertEquals("completed", document.getStatus());
+        assertEquals("contract.pdf", document.getFile().getName());
+        assertEquals(3, document.getFile().getPages());
+        assertEquals(12345L, document.getFile().getSize());
+    }
+
+    @Test
+    public void testSignatureEmptyDataAndNulls() throws IOException {
+        Signature signature = Signature.fromResponse(response(200, "{\"id\": \"sig\", \"data\": [], \"created_at\": null, \"documents\": null}"));
+
+        assertTrue(signature.getData().isEmpty());
+        assertNull(signature.getCreatedAt());
+        assertTrue(signature.getDocuments().isEmpty());
+    }
+
+    @Test
+    public void testSignatureList() throws IOException {
+        List<Signature> signatures = Signature.listFromResponse(response(200, "[{\"id\": \"a\"}, {\"id\": \"b\", \"documents\": [{\"id\": \"d\", \"file\": null}]}]"));
+
+        assertEquals(2, signatures.size());
+        assertEquals("a", signatures.get(0).getId());
+        assertNull(signatures.get(1).getDocuments().get(0).getFile());
+    }
+
+    @Test
+    public void testEmailAndSMS() throws IOException {
+        String body = "{\"id\": \"e\", \"certificates\": [{\"id\": \"c\", \"email\": \"a@example.com\", \"phone\": \"+34666\","
+                + " \"name\": \"A\", \"status\": \"delivered\", \"file\": {\"name\": \"f.pdf\", \"pages\": 1, \"size\": 10}}]}";
+
+        Email email = Email.fromResponse(response(200, body));
+        SMS sms = SMS.fromResponse(response(200, body));
+
+        assertEquals("e", email.getId());
+        assertEquals("delivered", email.getCertificates().get(0).getStatus());
+        assertEquals("a@example.com", email.getCertificates().get(0).getEmail());
+        assertEquals("+34666", sms.getCertificates().get(0).getPhone());
+        assertEquals("f.pdf", sms.getCertificates().get(0).getFile().getName());
+    }
+
+    @Test
+    public void testTeamUsersAndGroups() throws IOException {
+        Team team = Team.fromResponse(response(200,
+                "{\"id\": \"t\", \"name\": \"Team\", \"users\": [{\"id\": \"u\", \"email\": \"u@example.com\", \"role\": \"admin\"}],"
+                        + " \"groups\": [{\"id\": \"g\", \"name\": \"Sales\", \"managers\": [{\"id\": \"u\"}], \"members\": []}]}"
+        ));
+
+        assertEquals("Team", team.getName());
+        assertEquals("admin", team.getUsers().get(0).getRole());
+        assertEquals("Sales", team.getGroups().get(0).getName());
+        assertEquals("u", team.getGroups().get(0).getManagers().get(0).getId());
+        assertTrue(team.getGroups().get(0).getMembers().isEmpty());
+    }
+
+    @Test
+    public void testContactBrandingSubscription() throws IOException {
+        Contact contact = Contact.listFromResponse(response(200, "[{\"id\": \"c\", \"email\": \"c@example.com\", \"name\": \"C\"}]")).get(0);
+        Branding branding = Branding.fromResponse(response(200, "{\"id\": \"b\", \"layout_color\": \"#FFFFFF\", \"text_color\": \"#000000\", \"application_texts\": {\"sign_button\": \"Sign\"}}"));
+        Subscription subscription = Subscription.fromResponse(response(200, "{\"id\": \"s\", \"url\": \"https://example.com\", \"events\": [\"email_processed\", \"document_signed\"]}"));
+
+        assertEquals("c@example.com", contact.getEmail());
+        assertEquals("#FFFFFF", branding.getLayoutColor());
+        assertEquals("#000000", branding.getTextColor());
+        assertEquals("https://example.com", subscription.getUrl());
+        assertEquals(Arrays.asList("email_processed", "document_signed"), subscription.getEvents());
+    }
+
+    @Test
+    public void testUnsuccessfulResponse() {
+        try {
+            Signature.fromResponse(response(404, "{\"message\": \"Not found\"}"));
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("HTTP 404"));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMalformedResponse() throws IOException {
+        Signature.listFromResponse(response(200, "{\"id\": \"a\"}"));
+    }
+
+    private static Response response(int code, String body) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/v3/signatures.json").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create(null, body))
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class PagedIterableTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    private volatile int total = 250;
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        String limit = request.getRequestUrl().queryParameter("limit");
+                        String offset = request.getRequestUrl().queryParameter("offset");
+
+                        if ("failing".equals(request.getRequestUrl().queryParameter("status"))) {
+                            return new MockResponse().setResponseCode(500);
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(page(Integer.parseInt(offset), Integer.parseInt(limit)));
+                    }
+                }
+        );
+
+        client = new Client("token");
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testIteratesEveryPage() throws InterruptedException {
+        List<Object> ids = new ArrayList<Object>();
+
+        for (Map<String, Object> signature : client.getAllSignatures(null, new PageOptions().setPageSize(100))) {
+            ids.add(signature.get("id"));
+        }
+
+        assertEquals(250, ids.size());
+        assertEquals("id0", ids.get(0));
+        assertEquals("id249", ids.get(249));
+
+        assertEquals("/v3/signatures.json?limit=100&offset=0", server.takeRequest().getPath());
+        assertEquals("/v3/signatures.json?limit=100&offset=100", server.takeRequest().getPath());
+        assertEquals("/v3/signatures.json?limit=100&offset=200", server.takeRequest().getPath());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void testLastPageFull() {
+        total = 200;
+
+        int count = 0;
+
+        for (Map<String, Object> ignored : client.getAllEmails(null, new PageOptions().setPageSize(100).setPrefetch(0))) {
+            count++;
+        }
+
+        assertEquals(200, count);
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void testParameters() throws InterruptedException {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("crm_id", "CUSTOM_ID");
+
+        total = 3;
+
+        Iterator<Map<String, Object>> iterator = client.getAllSMS(parameters).iterator();
+
+        assertTrue(iterator.hasNext());
+        assertEquals("id0", iterator.next().get("id"));
+        assertEquals("/v3/sms.json?limit=100&offset=0&crm_id=CUSTOM_ID", server.takeRequest().getPath());
+    }
+
+    @Test
+    public void testPrefetch() throws InterruptedException {
+        total = 1000;
+
+        PagedIterable.PageIterator<Map<String, Object>> iterator = client.getAllSignatures(
+                null, new PageOptions().setPageSize(10).setPrefetch(2)
+        ).iterator();
+
+        iterator.next();
+
+        // the first page is being consumed, the next two are requested without waiting
+        assertEquals("/v3/signatures.json?limit=10&offset=0", server.takeRequest().getPath());
+
+        Set<String> prefetched = new HashSet<String>();
+        prefetched.add(server.takeRequest(5, TimeUnit.SECONDS).getPath());
+        prefetched.add(server.takeRequest(5, TimeUnit.SECONDS).getPath());
+
+        assertEquals(new HashSet<String>(Arrays.asList(
+                "/v3/signatures.json?limit=10&offset=10",
+                "/v3/signatures.json?limit=10&offset=20"
+        )), prefetched);
+
+        assertNull(server.takeRequest(200, TimeUnit.MILLISECONDS));
+
+        iterator.close();
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testStream() {
+        Stream<Map<String, Object>> stream = client.getAllSignatures(null, new PageOptions().setPageSize(7)).stream();
+
+        try {
+            assertEquals(250, stream.count());
+        } finally {
+            stream.close();
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("status", "failing");
+
+        try {
+            client.getAllSignatures(parameters).iterator().hasNext();
+            fail();
+        } catch (UncheckedIOException e) {
+            assertTrue(e.getCause().getMessage().contains("HTTP 500"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPageSize() {
+        new PageOptions().setPageSize(0);
+    }
+
+    private String page(int offset, int limit) {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = offset; i < Math.min(offset + limit, total); ++i) {
+            if (i > offset) {
+                builder.append(',');
+            }
+
+            builder.append("{\"id\": \"id").append(i).append("\", \"documents\": [{\"id\": \"doc\"}]}");
+        }
+
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,215 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PartitionedScanTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    private volatile int total = 1050;
+    private volatile long firstPartitionDelay = 0;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                        HttpUrl url = request.getRequestUrl();
+
+                        if ("failing".equals(url.queryParameter("status"))) {
+                            return new MockResponse().setResponseCode(500);
+                        }
+
+                        if (url.encodedPath().endsWith("count.json")) {
+                            return new MockResponse().setResponseCode(200).setBody("{\"count\": " + total + "}");
+                        }
+
+                        int offset = Integer.parseInt(url.queryParameter("offset"));
+                        int limit = Integer.parseInt(url.queryParameter("limit"));
+
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+                        try {
+                            Thread.sleep(offset == 0 ? firstPartitionDelay : 20);
+                        } finally {
+                            running.decrementAndGet();
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(page(offset, limit));
+                    }
+                }
+        );
+
+        client = new Client("token", false, new ClientOptions().setMaxRequestsPerHost(16));
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testOrdered() throws InterruptedException {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("crm_id", "CUSTOM_ID");
+
+        firstPartitionDelay = 200;
+
+        List<Object> ids = new ArrayList<Object>();
+
+        PartitionedScan.ScanIterator<Map<String, Object>> iterator = client.scanSignatures(
+                parameters, new ScanOptions().setPageSize(100).setParallelism(3)
+        ).iterator();
+
+        while (iterator.hasNext()) {
+            ids.add(iterator.next().get("id"));
+        }
+
+        assertEquals(1050, iterator.getCount());
+        assertEquals(1050, ids.size());
+
+        for (int i = 0; i < ids.size(); ++i) {
+            assertEquals("id" + i, ids.get(i));
+        }
+
+        assertEquals(12, server.getRequestCount());
+        assertEquals("/v3/signatures/count.json?crm_id=CUSTOM_ID", server.takeRequest().getPath());
+
+        // partitions are requested concurrently, so they may reach the server in any order
+        Set<String> paths = new HashSet<String>();
+
+        for (int i = 1; i < 12; ++i) {
+            paths.add(server.takeRequest().getPath());
+        }
+
+        for (int offset = 0; offset <= 1000; offset += 100) {
+            assertTrue(paths.contains("/v3/signatures.json?limit=100&offset=" + offset + "&crm_id=CUSTOM_ID"));
+        }
+
+        assertTrue(maxRunning.get() > 1);
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void testUnordered() {
+        firstPartitionDelay = 500;
+
+        Set<Object> ids = new HashSet<Object>();
+        Object first = null;
+
+        for (Map<String, Object> email : client.scanEmails(null, new ScanOptions().setPageSize(100).setParallelism(4).setOrdered(false))) {
+            if (first == null) {
+                first = email.get("id");
+            }
+
+            ids.add(email.get("id"));
+        }
+
+        assertEquals(1050, ids.size());
+        assertNotEquals("id0", first);
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    public void testEmpty() {
+        total = 0;
+
+        assertEquals(0, client.scanSignatures(null).stream().count());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testCountFailure() {
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("status", "failing");
+
+        try {
+            client.scanSignatures(parameters).iterator().hasNext();
+            fail();
+        } catch (UncheckedIOException e) {
+            assertTrue(e.getCause().getMessage().contains("HTTP 500"));
+        }
+    }
+
+    @Test
+    public void testCloseCancelsPartitions() throws InterruptedException {
+        firstPartitionDelay = 0;
+
+        PartitionedScan.ScanIterator<Map<String, Object>> iterator = client.scanSignatures(
+                null, new ScanOptions().setPageSize(10).setParallelism(2)
+        ).iterator();
+
+        iterator.next();
+        iterator.close();
+
+        assertFalse(iterator.hasNext());
+
+        Thread.sleep(100);
+
+        assertTrue(server.getRequestCount() <= 4);
+    }
+
+    @Test
+    public void testReadBareCount() throws IOException {
+        Response response = new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/count.json").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(null, "42"))
+                .build();
+
+        assertEquals(42, PartitionedScan.readCount(response));
+    }
+
+    private String page(int offset, int limit) {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = offset; i < Math.min(offset + limit, total); ++i) {
+            if (i > offset) {
+                builder.append(',');
+            }
+
+            builder.append("{\"id\": \"id").append(i).append("\"}");
+        }
+
+        return builder.append(']').toString();
+    }
+}
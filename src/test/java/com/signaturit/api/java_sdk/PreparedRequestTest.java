@@ -0,0 +1,202 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+
+public class PreparedRequestTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        client = new Client("token");
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testSendSignature() throws IOException, InterruptedException {
+        Map<String, Object> parameters = campaignParameters();
+        PreparedRequest prepared = client.prepareSignatureFromSources(documents(), parameters);
+
+        for (int i = 0; i < 3; ++i) {
+            server.enqueue(new MockResponse().setResponseCode(200));
+
+            Response response = prepared.send(recipients(i, 2));
+            response.close();
+
+            RecordedRequest recordedRequest = server.takeRequest();
+
+            Map<String, Object> expected = new LinkedHashMap<String, Object>(parameters);
+            expected.put("recipients", recipients(i, 2));
+
+            assertEquals(200, response.code());
+            assertEquals("POST", recordedRequest.getMethod());
+            assertEquals("/v3/signatures.json", recordedRequest.getPath());
+            assertEquals("Bearer token", recordedRequest.getHeader("Authorization"));
+            assertEquals(encoded(expected, documents(), recordedRequest), recordedRequest.getBody().readUtf8());
+        }
+    }
+
+    @Test
+    public void testSendParameters() throws IOException, InterruptedException {
+        Map<String, Object> parameters = campaignParameters();
+        PreparedRequest prepared = client.prepareSignatureFromSources(null, parameters);
+
+        HashMap<String, Object> data = new HashMap<String, Object>();
+        data.put("crm_id", "CUSTOM_ID");
+
+        Map<String, Object> extra = new HashMap<String, Object>();
+        extra.put("data", data);
+
+        server.enqueue(new MockResponse().setResponseCode(200));
+        prepared.send(recipients(0, 1), extra).close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        Map<String, Object> expected = new LinkedHashMap<String, Object>(parameters);
+        expected.put("recipients", recipients(0, 1));
+        expected.put("data", data);
+
+        assertEquals(encoded(expected, null, recordedRequest), recordedRequest.getBody().readUtf8());
+    }
+
+    @Test
+    public void testStreamReadOnce() throws IOException, InterruptedException {
+        List<UploadSource> documents = new ArrayList<UploadSource>();
+        documents.add(UploadSource.of("stream.pdf", new ByteArrayInputStream("%PDF-1.5 stream".getBytes("UTF-8"))));
+
+        PreparedRequest prepared = client.prepareSignatureFromSources(documents, null);
+
+        for (int i = 0; i < 2; ++i) {
+            server.enqueue(new MockResponse().setResponseCode(200));
+            prepared.send(recipients(i, 1)).close();
+
+            RecordedRequest recordedRequest = server.takeRequest();
+
+            assertNotNull(recordedRequest.getHeader("Content-Length"));
+            assertTrue(recordedRequest.getBody().readUtf8().contains("%PDF-1.5 stream"));
+        }
+    }
+
+    @Test
+    public void testSendAsync() throws IOException, InterruptedException, ExecutionException {
+        PreparedRequest prepared = client.prepareSMS(null, "Your code", null);
+
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        Response response = prepared.sendAsync(recipients(0, 1)).get();
+        response.close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+        String body = recordedRequest.getBody().readUtf8();
+
+        assertEquals(200, response.code());
+        assertEquals("/v3/sms.json", recordedRequest.getPath());
+        assertTrue(body.contains("name=\"body\""));
+        assertTrue(body.contains("name=\"recipients[0][phone]\""));
+    }
+
+    @Test
+    public void testPrepareEmail() throws IOException, InterruptedException {
+        PreparedRequest prepared = client.prepareEmail(null, "Subject", "Body", null);
+
+        server.enqueue(new MockResponse().setResponseCode(200));
+        prepared.send(recipients(0, 1)).close();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+        String body = recordedRequest.getBody().readUtf8();
+
+        assertEquals("/v3/emails.json", recordedRequest.getPath());
+        assertTrue(body.contains("name=\"subject\""));
+        assertTrue(body.contains("name=\"recipients[0][email]\""));
+        assertTrue(prepared.getPreparedSize() > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecipientsInParameters() throws IOException {
+        Map<String, Object> parameters = campaignParameters();
+        parameters.put("recipients", recipients(0, 1));
+
+        client.prepareSignature(null, parameters);
+    }
+
+    private static Map<String, Object> campaignParameters() {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("branding_id", "branding");
+        parameters.put("templates", new String[]{"template"});
+        parameters.put("callback_url", "https://example.com/callback");
+        parameters.put("delivery_type", "email");
+        parameters.put("subject", "Contract");
+        parameters.put("body", "Please sign");
+
+        return parameters;
+    }
+
+    private static List<UploadSource> documents() {
+        List<UploadSource> documents = new ArrayList<UploadSource>();
+        documents.add(UploadSource.of("contract.pdf", ByteBuffer.wrap("%PDF-1.4 contract".getBytes())));
+        documents.add(UploadSource.of("annex.pdf", ByteBuffer.wrap("%PDF-1.4 annex".getBytes())));
+
+        return documents;
+    }
+
+    private static ArrayList<HashMap<String, Object>> recipients(int from, int count) {
+        ArrayList<HashMap<String, Object>> recipients = new ArrayList<HashMap<String, Object>>();
+
+        for (int i = from; i < from + count; ++i) {
+            HashMap<String, Object> recipient = new HashMap<String, Object>();
+            recipient.put("name", "Recipient " + i);
+            recipient.put("email", "recipient" + i + "@example.com");
+            recipient.put("phone", "34" + (600000000 + i));
+
+            recipients.add(recipient);
+        }
+
+        return recipients;
+    }
+
+    /**
+     * Body a single request with the same parameters and boundary sends
+     */
+    private static String encoded(Map<String, Object> parameters, List<UploadSource> documents, RecordedRequest recordedRequest) throws IOException {
+        String contentType = recordedRequest.getHeader("Content-Type");
+        String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+        Buffer buffer = new Buffer();
+
+        FormEncoder.multipart(parameters, documents, boundary).writeTo(buffer);
+
+        return buffer.readUtf8();
+    }
+}
@@ -0,0 +1,280 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RateLimiterTest {
+
+    private MockWebServer server;
+
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final AtomicInteger quotaSpent = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("signatures") && throttled.getAndDecrement() > 0) {
+                            return new MockResponse().setResponseCode(429).setHeader("Retry-After", "1");
+                        }
+
+                        if (quotaSpent.getAndDecrement() > 0) {
+                            return new MockResponse().setResponseCode(200)
+                                    .setHeader("X-RateLimit-Remaining", "0")
+                                    .setHeader("X-RateLimit-Reset", "1");
+                        }
+
+                        if (request.getPath().contains("templates")) {
+                            return new MockResponse().setResponseCode(200)
+                                    .setHeader("Cache-Control", "max-age=60")
+                                    .setBody("[]");
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(request.getMethod());
+                    }
+                }
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testGlobalLimit() throws Exception {
+        Client client = client(new ClientOptions().setRateLimit(20, 1));
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 6; ++i) {
+            client.getSignature("id").close();
+        }
+
+        // the first request takes the only token, the next five wait 50 ms each
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertTrue(client.getRateLimiter().getWaitCount() >= 4);
+        assertEquals(0, client.getRateLimiter().getQueueDepth());
+
+        client.close();
+    }
+
+    @Test
+    public void testFamilyLimit() throws Exception {
+        Client client = client(new ClientOptions().setRateLimit(EndpointFamily.SMS, 10, 1));
+
+        for (int i = 0; i < 5; ++i) {
+            client.getSignature("id").close();
+        }
+
+        assertEquals(0, client.getRateLimiter().getWaitCount());
+
+        client.getSMS().close();
+        client.getSMS().close();
+
+        assertEquals(1, client.getRateLimiter().getWaitCount());
+        assertTrue(client.getRateLimiter().getMaxWaitMillis() >= 50);
+
+        client.close();
+    }
+
+    @Test
+    public void testCacheHitsTakeNoToken() throws Exception {
+        File directory = Files.createTempDirectory("http-cache").toFile();
+        Client client = client(new ClientOptions().setRateLimit(1, 1).setCache(directory, 1024 * 1024));
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 5; ++i) {
+            client.getTemplates().close();
+        }
+
+        // only the first request reaches the API, the cache answers the others without waiting
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(1, server.getRequestCount());
+        assertEquals(0, client.getRateLimiter().getWaitCount());
+
+        client.close();
+    }
+
+    @Test
+    public void testQueuesConcurrentCallers() throws Exception {
+        ClientOptions options = new ClientOptions().setRateLimit(50, 1).setMaxRequestsPerHost(10);
+        Client client = client(options);
+        AsyncClient async = client.async();
+        List<CompletableFuture<Response>> responses = new ArrayList<CompletableFuture<Response>>();
+
+        for (int i = 0; i < 10; ++i) {
+            responses.add(async.getSignature("id"));
+        }
+
+        for (CompletableFuture<Response> response : responses) {
+            assertEquals(200, response.get(5, TimeUnit.SECONDS).code());
+            response.get().close();
+        }
+
+        assertTrue(client.getRateLimiter().getMaxQueueDepth() > 1);
+        assertEquals(0, client.getRateLimiter().getQueueDepth());
+
+        client.close();
+    }
+
+    @Test
+    public void testRetryAfter() throws Exception {
+        Client client = client(new ClientOptions().setRateLimit(100, 10));
+        long start = System.nanoTime();
+
+        throttled.set(1);
+
+        Response response = client.getSignature("id");
+
+        assertEquals(200, response.code());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, client.getRateLimiter().getThrottledCount());
+
+        response.close();
+        client.close();
+    }
+
+    @Test
+    public void testThrottleHoldsBackItsFamily() throws Exception {
+        Client client = client(new ClientOptions().setRateLimit(100, 10));
+
+        throttled.set(1);
+
+        CompletableFuture<Response> signature = client.async().getSignature("id");
+
+        server.takeRequest();
+
+        long start = System.nanoTime();
+        Response email = client.getEmail("id");
+
+        assertEquals(200, email.code());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        assertFalse(signature.isDone());
+
+        assertEquals(200, signature.get(5, TimeUnit.SECONDS).code());
+
+        email.close();
+        signature.get().close();
+        client.close();
+    }
+
+    @Test
+    public void testSpentQuotaHoldsBackEveryFamily() throws Exception {
+        Client client = client(new ClientOptions().setRateLimit(100, 10));
+
+        quotaSpent.set(1);
+
+        client.getEmail("id").close();
+
+        long start = System.nanoTime();
+        Response response = client.getSignature("id");
+
+        assertEquals(200, response.code());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+
+        response.close();
+        client.close();
+    }
+
+    @Test
+    public void testGivesUpAfterThreeAttempts() throws Exception {
+        Client client = client(new ClientOptions().setRateLimit(100, 10));
+
+        throttled.set(5);
+
+        Response response = client.getSignature("id");
+
+        assertEquals(429, response.code());
+        assertEquals(3, server.getRequestCount());
+        assertEquals(3, client.getRateLimiter().getThrottledCount());
+
+        response.close();
+        client.close();
+    }
+
+    @Test
+    public void testBackoffMillis() {
+        assertEquals(0, RateLimiter.backoffMillis(response(200)));
+        assertEquals(1000, RateLimiter.backoffMillis(response(429)));
+        assertEquals(3000, RateLimiter.backoffMillis(response(429, "Retry-After", "3")));
+        assertEquals(0, RateLimiter.backoffMillis(response(429, "Retry-After", "Wed, 01 Jan 2020 00:00:00 GMT")));
+        assertEquals(0, RateLimiter.backoffMillis(response(200, "X-RateLimit-Remaining", "1", "X-RateLimit-Reset", "30")));
+        assertEquals(30000, RateLimiter.backoffMillis(response(200, "X-RateLimit-Remaining", "0", "X-RateLimit-Reset", "30")));
+
+        assertFalse(RateLimiter.isAccountWide(response(429, "Retry-After", "3")));
+        assertTrue(RateLimiter.isAccountWide(response(429, "X-RateLimit-Remaining", "0", "X-RateLimit-Reset", "30")));
+    }
+
+    @Test
+    public void testEndpointFamily() {
+        assertEquals(EndpointFamily.SIGNATURES, EndpointFamily.of("/v3/signatures.json"));
+        assertEquals(EndpointFamily.SIGNATURES, EndpointFamily.of("/v3/signatures/id/cancel.json"));
+        assertEquals(EndpointFamily.EMAILS, EndpointFamily.of("/v3/emails/count.json"));
+        assertEquals(EndpointFamily.SMS, EndpointFamily.of("/v3/sms.json"));
+        assertEquals(EndpointFamily.TEAM, EndpointFamily.of("/v3/team/groups/id/members/user.json"));
+        assertEquals(EndpointFamily.CONTACTS, EndpointFamily.of("/v3/contacts/id.json"));
+        assertEquals(EndpointFamily.SUBSCRIPTIONS, EndpointFamily.of("/v3/subscriptions.json"));
+        assertEquals(EndpointFamily.DOWNLOADS, EndpointFamily.of("/v3/signatures/id/documents/doc/download/signed"));
+        assertEquals(EndpointFamily.OTHER, EndpointFamily.of("/v3/brandings.json"));
+        assertEquals(EndpointFamily.OTHER, EndpointFamily.of("/health"));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Client client = new Client("token");
+
+        assertNull(client.getRateLimiter());
+
+        client.close();
+    }
+
+    private Client client(ClientOptions options) throws NoSuchFieldException, IllegalAccessException {
+        Client client = new Client("token", false, options);
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+
+        return client;
+    }
+
+    private static Response response(int code, String... headers) {
+        Response.Builder builder = new Response.Builder()
+                .request(new Request.Builder().url("https://api.sandbox.signaturit.com/v3/signatures.json").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("");
+
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+
+        return builder.build();
+    }
+}
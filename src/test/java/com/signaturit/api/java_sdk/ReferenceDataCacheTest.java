@@ -0,0 +1,180 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ReferenceDataCacheTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    private final AtomicInteger version = new AtomicInteger(1);
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        String path = request.getPath();
+
+                        if (!request.getMethod().equals("GET")) {
+                            version.incrementAndGet();
+
+                            return new MockResponse().setResponseCode(200).setBody("{}");
+                        }
+
+                        if (path.endsWith("brandings.json") || path.endsWith("users.json") || path.endsWith("groups.json") || path.endsWith("subscriptions.json")) {
+                            return new MockResponse().setResponseCode(200).setBody("[{\"id\": \"v" + version.get() + "\"}]");
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody("{\"id\": \"v" + version.get() + "\"}");
+                    }
+                }
+        );
+
+        client = newClient(new ClientOptions().setReferenceDataCache(2));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testServesFromCache() throws IOException {
+        assertEquals("v1", client.getCachedBrandings().get(0).getId());
+        assertEquals("v1", client.getCachedBrandings().get(0).getId());
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, client.getReferenceDataCache().getHitCount());
+        assertEquals(1, client.getReferenceDataCache().getMissCount());
+    }
+
+    @Test
+    public void testWriteInvalidates() throws IOException {
+        client.getCachedBrandings();
+        client.getCachedBranding("id");
+
+        client.updateBranding("id", new HashMap<String, Object>()).close();
+
+        assertEquals(2, client.getReferenceDataCache().getInvalidationCount());
+        assertEquals("v2", client.getCachedBrandings().get(0).getId());
+        assertEquals("v2", client.getCachedBranding("id").getId());
+    }
+
+    @Test
+    public void testAsyncWriteInvalidates() throws Exception {
+        client.getCachedGroups();
+
+        client.async().addMemberToGroup("group", "user").get().close();
+
+        assertEquals("v2", client.getCachedGroups().get(0).getId());
+    }
+
+    @Test
+    public void testUserWriteInvalidatesGroups() throws IOException {
+        client.getCachedGroups();
+        client.getCachedUsers();
+
+        client.removeUser("user").close();
+
+        assertEquals(0, client.getReferenceDataCache().size());
+    }
+
+    @Test
+    public void testUnrelatedWriteKeepsEntries() throws IOException {
+        client.getCachedBrandings();
+
+        client.deleteContact("contact").close();
+
+        assertEquals(1, client.getReferenceDataCache().size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws IOException {
+        client.getCachedBranding("a");
+        client.getCachedBranding("b");
+        client.getCachedBranding("a");
+        client.getCachedBranding("c");
+
+        assertEquals(2, client.getReferenceDataCache().size());
+        assertEquals(1, client.getReferenceDataCache().getEvictionCount());
+
+        client.getCachedBranding("a");
+
+        assertEquals(2, client.getReferenceDataCache().getHitCount());
+    }
+
+    @Test
+    public void testTtl() throws IOException, IllegalAccessException, NoSuchFieldException {
+        Client expiring = newClient(new ClientOptions().setReferenceDataCache(10).setReferenceDataTtl(ReferenceData.USERS, 0, TimeUnit.SECONDS));
+
+        expiring.getCachedUsers();
+        expiring.getCachedUsers();
+        expiring.getCachedSubscriptions();
+        expiring.getCachedSubscriptions();
+
+        assertEquals(3, server.getRequestCount());
+        assertEquals(1, expiring.getReferenceDataCache().getHitCount());
+
+        expiring.close();
+    }
+
+    @Test
+    public void testLoadRacingWithWriteIsNotStored() throws IOException {
+        final ReferenceDataCache cache = client.getReferenceDataCache();
+
+        String value = cache.get(ReferenceData.TEMPLATES, "templates.json", new ReferenceDataCache.Loader<String>() {
+            @Override
+            public String load() {
+                cache.invalidate(ReferenceData.TEMPLATES);
+
+                return "stale";
+            }
+        });
+
+        assertEquals("stale", value);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabledByDefault() throws IOException, IllegalAccessException, NoSuchFieldException {
+        Client uncached = newClient(new ClientOptions());
+
+        uncached.getCachedBrandings();
+        uncached.getCachedBrandings();
+
+        assertNull(uncached.getReferenceDataCache());
+        assertEquals(2, server.getRequestCount());
+
+        uncached.close();
+    }
+
+    private Client newClient(ClientOptions options) throws NoSuchFieldException, IllegalAccessException {
+        Client newClient = new Client("token", false, options);
+
+        Field field = newClient.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(newClient, server.url(Client.API_VERSION).toString());
+
+        return newClient;
+    }
+}
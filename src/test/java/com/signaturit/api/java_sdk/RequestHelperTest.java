@@ -1,6 +1,7 @@
 package com.signaturit.api.java_sdk;
 
 import okhttp3.MultipartBody;
+import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okhttp3.mockwebserver.Dispatcher;
@@ -14,10 +15,12 @@ import org.junit.Test;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Scanner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class RequestHelperTest {
 
@@ -55,7 +58,7 @@ public class RequestHelperTest {
 
         String route = RequestHelper.putGetParamsToUrl("/", parameters);
 
-        assertEquals("/&foo=bar&ids=one,two", route);
+        assertEquals("/?foo=bar&ids=one,two", route);
     }
 
     @Test
@@ -146,4 +149,31 @@ public class RequestHelperTest {
 
         assertEquals("PATCH", body.string());
     }
+
+    @Test
+    public void testDefaultClientIsShared() {
+        assertSame(RequestHelper.defaultClient(), RequestHelper.defaultClient());
+    }
+
+    @Test
+    public void testTlsMaterialsAreShared() {
+        assertSame(RequestHelper.socketFactory(TlsPolicy.MODERN), RequestHelper.socketFactory(TlsPolicy.MODERN));
+        assertSame(RequestHelper.trustManager(), RequestHelper.trustManager());
+        assertSame(
+                RequestHelper.newClient(new ClientOptions()).sslSocketFactory(),
+                RequestHelper.newClient(new ClientOptions()).sslSocketFactory()
+        );
+    }
+
+    @Test
+    public void testTlsPolicyProtocols() {
+        assertEquals(
+                Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1),
+                RequestHelper.newClient(new ClientOptions()).protocols()
+        );
+        assertEquals(
+                Arrays.asList(Protocol.HTTP_1_1),
+                RequestHelper.newClient(new ClientOptions().setTlsPolicy(TlsPolicy.COMPATIBILITY)).protocols()
+        );
+    }
 }
@@ -0,0 +1,249 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.internal.http2.ErrorCode;
+import okhttp3.internal.http2.StreamResetException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Field;
+import java.net.ConnectException;
+import java.net.ProtocolException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class RetryPolicyTest {
+
+    private MockWebServer server;
+
+    private Client client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+
+        server.shutdown();
+    }
+
+    @Test
+    public void testRetriesGet() throws Exception {
+        client(fastPolicy());
+
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(502));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("GET"));
+
+        Response response = client.getSignature("abc");
+
+        assertEquals(200, response.code());
+        assertEquals("GET", response.body().string());
+        assertEquals(3, server.getRequestCount());
+        assertEquals(2, client.getRetryStats().getRetryCount());
+        assertEquals(2, client.getRetryStats().getRetryCount("signatures/{id}.json"));
+        assertEquals(0, client.getRetryStats().getExhaustedCount());
+    }
+
+    @Test
+    public void testRetriesConnectionFailure() throws Exception {
+        client(fastPolicy());
+
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        Response response = client.deleteContact("abc");
+
+        assertEquals(200, response.code());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, client.getRetryStats().getRetryCount("contacts/{id}.json"));
+
+        response.close();
+    }
+
+    @Test
+    public void testWritesAreNotRetriedByDefault() throws Exception {
+        client(fastPolicy());
+
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        Response response = client.createContact("bob@example.com", "Bob");
+
+        assertEquals(503, response.code());
+        assertEquals(1, server.getRequestCount());
+        assertNull(server.takeRequest().getHeader(RetryPolicy.IDEMPOTENCY_KEY));
+
+        response.close();
+    }
+
+    @Test
+    public void testWritesRetriedWithIdempotencyKey() throws Exception {
+        client(fastPolicy().setRetryWrites(true));
+
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        Response response = client.createContact("bob@example.com", "Bob");
+
+        assertEquals(200, response.code());
+
+        String key = server.takeRequest().getHeader(RetryPolicy.IDEMPOTENCY_KEY);
+
+        assertNotNull(key);
+        assertEquals(key, server.takeRequest().getHeader(RetryPolicy.IDEMPOTENCY_KEY));
+        assertEquals(1, client.getRetryStats().getRetryCount("contacts.json"));
+
+        response.close();
+    }
+
+    @Test
+    public void testExhausted() throws Exception {
+        client(fastPolicy());
+
+        for (int i = 0; i < 5; ++i) {
+            server.enqueue(new MockResponse().setResponseCode(504));
+        }
+
+        Response response = client.getSignature("abc");
+
+        assertEquals(504, response.code());
+        assertEquals(3, server.getRequestCount());
+        assertEquals(1, client.getRetryStats().getExhaustedCount());
+
+        response.close();
+    }
+
+    @Test
+    public void testMaxElapsed() throws Exception {
+        RetryPolicy policy = new RetryPolicy() {
+            @Override
+            public long backoffMillis(int retry) {
+                return 500;
+            }
+        };
+
+        client(policy.setMaxAttempts(10).setMaxElapsed(100, TimeUnit.MILLISECONDS));
+
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        Response response = client.getSignature("abc");
+
+        assertEquals(503, response.code());
+        assertEquals(1, server.getRequestCount());
+        assertEquals(0, client.getRetryStats().getRetryCount());
+        assertEquals(1, client.getRetryStats().getExhaustedCount());
+
+        response.close();
+    }
+
+    @Test
+    public void testUnknownHostIsNotRetried() throws Exception {
+        client(fastPolicy());
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, "http://api.signaturit.invalid/v3/");
+
+        try {
+            client.getSignature("abc");
+            fail();
+        } catch (UnknownHostException e) {
+            assertEquals(0, client.getRetryStats().getRetryCount());
+        }
+    }
+
+    @Test
+    public void testRetryableFailures() {
+        RetryPolicy policy = new RetryPolicy();
+
+        assertTrue(policy.isRetryable(new ConnectException("Connection refused")));
+        assertTrue(policy.isRetryable(new SocketTimeoutException("timeout")));
+        assertTrue(policy.isRetryable(new SocketException("Connection reset")));
+        assertTrue(policy.isRetryable(new StreamResetException(ErrorCode.REFUSED_STREAM)));
+        assertTrue(policy.isRetryable(new IOException("unexpected end of stream", new EOFException())));
+
+        assertFalse(policy.isRetryable(new UnknownHostException("api.signaturit.invalid")));
+        assertFalse(policy.isRetryable(new SSLHandshakeException("handshake")));
+        assertFalse(policy.isRetryable(new SSLPeerUnverifiedException("peer")));
+        assertFalse(policy.isRetryable(new ProtocolException("protocol")));
+        assertFalse(policy.isRetryable(new InterruptedIOException("canceled")));
+        assertFalse(policy.isRetryable(new CircuitBreakerOpenException(EndpointFamily.SIGNATURES)));
+    }
+
+    @Test
+    public void testClientErrorsAreNotRetried() throws Exception {
+        client(fastPolicy());
+
+        server.enqueue(new MockResponse().setResponseCode(404));
+
+        Response response = client.getSignature("abc");
+
+        assertEquals(404, response.code());
+        assertEquals(1, server.getRequestCount());
+
+        response.close();
+    }
+
+    @Test
+    public void testBackoffIsBounded() {
+        RetryPolicy policy = new RetryPolicy().setBackoff(100, 1000, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 100; ++i) {
+            assertTrue(policy.backoffMillis(1) <= 100);
+            assertTrue(policy.backoffMillis(3) <= 400);
+            assertTrue(policy.backoffMillis(10) <= 1000);
+            assertTrue(policy.backoffMillis(100) >= 0);
+            assertTrue(policy.backoffMillis(100) <= 1000);
+        }
+
+        assertEquals(0, new RetryPolicy().setBackoff(0, 0, TimeUnit.MILLISECONDS).backoffMillis(5));
+    }
+
+    @Test
+    public void testRoutes() {
+        assertEquals("signatures.json", Routes.normalize("/v3/signatures.json"));
+        assertEquals("signatures/{id}.json", Routes.normalize("/v3/signatures/abc.json"));
+        assertEquals("signatures/{id}/cancel.json", Routes.normalize("/v3/signatures/abc/cancel.json"));
+        assertEquals(
+                "signatures/{id}/documents/{id}/download/signed",
+                Routes.normalize("/v3/signatures/abc/documents/def/download/signed")
+        );
+        assertEquals("team/groups/{id}/members/{id}.json", Routes.normalize("/v3/team/groups/abc/members/def.json"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxAttempts() {
+        new RetryPolicy().setMaxAttempts(0);
+    }
+
+    private static RetryPolicy fastPolicy() {
+        return new RetryPolicy().setBackoff(1, 10, TimeUnit.MILLISECONDS);
+    }
+
+    private void client(RetryPolicy policy) throws NoSuchFieldException, IllegalAccessException {
+        client = new Client("token", false, new ClientOptions().setRetryPolicy(policy));
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+}
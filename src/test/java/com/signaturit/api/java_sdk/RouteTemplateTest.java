@@ -0,0 +1,83 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.HttpUrl;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class RouteTemplateTest {
+
+    private static final String BASE = "https://api.sandbox.signaturit.com/v3/";
+
+    @Test
+    public void testExpandPath() {
+        RouteTemplate template = RouteTemplate.compile("signatures/{signatureId}/documents/{documentId}/download/signed");
+
+        assertEquals(
+                BASE + "signatures/abc/documents/def/download/signed",
+                template.expand(BASE, "abc", "def")
+        );
+    }
+
+    @Test
+    public void testExpandNumbers() {
+        assertEquals(
+                BASE + "signatures.json?limit=100&offset=200",
+                Routes.SIGNATURES_PAGE.expand(BASE, 100, 200)
+        );
+    }
+
+    @Test
+    public void testEncodePathSegment() {
+        assertEquals(BASE + "signatures/a%2Fb%20c%3F%23.json", Routes.SIGNATURE.expand(BASE, "a/b c?#"));
+        assertEquals(BASE + "contacts/%C3%B1%E2%82%AC%F0%9F%98%80.json", Routes.CONTACT.expand(BASE, "ñ€😀"));
+    }
+
+    @Test
+    public void testEncodeQuery() {
+        Map<String, Object> parameters = new LinkedHashMap<String, Object>();
+        parameters.put("crm_id", "a&b=c+d e");
+        parameters.put("since", "2020-01-01T00:00:00");
+
+        String url = Routes.SIGNATURES.expand(BASE, parameters);
+
+        assertEquals(BASE + "signatures.json?crm_id=a%26b%3Dc%2Bd%20e&since=2020-01-01T00:00:00", url);
+        assertEquals("a&b=c+d e", HttpUrl.get(url).queryParameter("crm_id"));
+    }
+
+    @Test
+    public void testAppendParametersToQuery() {
+        Map<String, Object> parameters = new LinkedHashMap<String, Object>();
+        parameters.put("status", "completed");
+        parameters.put("ids", new CharSequence[]{"a", "b,c"});
+
+        assertEquals(
+                BASE + "signatures.json?limit=2&offset=0&status=completed&ids=a,b%2Cc",
+                Routes.SIGNATURES_PAGE.expand(BASE, parameters, 2, 0)
+        );
+    }
+
+    @Test
+    public void testEmptyParameters() {
+        assertEquals(BASE + "signatures/count.json", Routes.SIGNATURES_COUNT.expand(BASE, new LinkedHashMap<String, Object>()));
+        assertEquals(BASE + "signatures/count.json", Routes.SIGNATURES_COUNT.expand(BASE, (Map<String, Object>) null));
+    }
+
+    @Test
+    public void testRelativeRoute() {
+        assertEquals("team/groups/g1/members/u1.json", Routes.GROUP_MEMBER.expand("", "g1", "u1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingValue() {
+        Routes.GROUP_MEMBER.expand(BASE, "g1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnclosedPlaceholder() {
+        RouteTemplate.compile("signatures/{signatureId.json");
+    }
+}
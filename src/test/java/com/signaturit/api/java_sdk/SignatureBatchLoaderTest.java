@@ -0,0 +1,165 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SignatureBatchLoaderTest {
+
+    private MockWebServer server;
+    private AsyncClient client;
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        String ids = request.getRequestUrl().queryParameter("ids");
+
+                        if (ids.contains("failing")) {
+                            return new MockResponse().setResponseCode(500);
+                        }
+
+                        StringBuilder body = new StringBuilder("[");
+
+                        for (String id : ids.split(",")) {
+                            if (id.equals("missing")) {
+                                continue;
+                            }
+
+                            if (body.length() > 1) {
+                                body.append(',');
+                            }
+
+                            body.append("{\"id\": \"").append(id).append("\"}");
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody(body.append(']').toString());
+                    }
+                }
+        );
+
+        client = new AsyncClient("token");
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testLookupsWithinWindowShareOneRequest() throws Exception {
+        SignatureBatchLoader loader = new SignatureBatchLoader(client, 200, TimeUnit.MILLISECONDS, 100);
+
+        CompletableFuture<Signature> first = loader.load("a");
+        CompletableFuture<Signature> second = loader.load("b");
+        CompletableFuture<Signature> again = loader.load("a");
+
+        assertEquals("a", first.get(5, TimeUnit.SECONDS).getId());
+        assertEquals("b", second.get(5, TimeUnit.SECONDS).getId());
+        assertEquals("a", again.get(5, TimeUnit.SECONDS).getId());
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals("/v3/signatures.json?limit=2&offset=0&ids=a,b", server.takeRequest().getPath());
+        assertEquals(3, loader.getLoadCount());
+        assertEquals(1, loader.getBatchCount());
+
+        loader.close();
+    }
+
+    @Test
+    public void testFullBatchIsSentRightAway() throws Exception {
+        SignatureBatchLoader loader = new SignatureBatchLoader(client, 1, TimeUnit.HOURS, 3);
+        List<CompletableFuture<Signature>> futures = new ArrayList<CompletableFuture<Signature>>();
+
+        for (int i = 0; i < 7; ++i) {
+            futures.add(loader.load("id" + i));
+        }
+
+        for (int i = 0; i < 6; ++i) {
+            assertEquals("id" + i, futures.get(i).get(5, TimeUnit.SECONDS).getId());
+        }
+
+        // the last lookup waits for the window or for the loader to be closed
+        assertFalse(futures.get(6).isDone());
+
+        loader.close();
+
+        assertEquals("id6", futures.get(6).get(5, TimeUnit.SECONDS).getId());
+        assertEquals(3, loader.getBatchCount());
+    }
+
+    @Test
+    public void testMissingSignatureFailsItsLookupOnly() throws Exception {
+        SignatureBatchLoader loader = new SignatureBatchLoader(client);
+
+        CompletableFuture<Signature> found = loader.load("a");
+        CompletableFuture<Signature> missing = loader.load("missing");
+
+        assertEquals("a", found.get(5, TimeUnit.SECONDS).getId());
+
+        try {
+            missing.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertEquals("Signature not found: missing", e.getCause().getMessage());
+        }
+
+        loader.close();
+    }
+
+    @Test
+    public void testFailedListingFailsTheBatch() throws Exception {
+        SignatureBatchLoader loader = new SignatureBatchLoader(client);
+
+        CompletableFuture<Signature> first = loader.load("a");
+        CompletableFuture<Signature> second = loader.load("failing");
+
+        for (CompletableFuture<Signature> future : new CompletableFuture[]{first, second}) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause().getMessage().contains("HTTP 500"));
+            }
+        }
+
+        loader.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        SignatureBatchLoader loader = new SignatureBatchLoader(client);
+
+        loader.close();
+        loader.load("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() {
+        new SignatureBatchLoader(client, 10, TimeUnit.MILLISECONDS, 0);
+    }
+}
@@ -0,0 +1,222 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 5;
+
+    private MockWebServer server;
+    private Client client;
+    private SingleFlight singleFlight;
+    private OkHttpClient transport;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server = new MockWebServer();
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                        release.await(5, TimeUnit.SECONDS);
+
+                        if (request.getPath().contains("failing")) {
+                            return new MockResponse().setResponseCode(200)
+                                    .setBody("{\"id\": \"truncated\"}")
+                                    .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY);
+                        }
+
+                        return new MockResponse().setResponseCode(200).setBody("{\"id\": \"" + request.getPath() + "\"}");
+                    }
+                }
+        );
+
+        client = new Client("token", false, new ClientOptions().setCoalesceGets(true));
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+
+        Field httpClient = client.getClass().getDeclaredField("httpClient");
+        httpClient.setAccessible(true);
+        transport = (OkHttpClient) httpClient.get(client);
+        singleFlight = SingleFlight.of(transport);
+
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        release.countDown();
+        executor.shutdownNow();
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testConcurrentGetsShareOneCall() throws Exception {
+        List<Future<String>> bodies = submit("id");
+
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> body : bodies) {
+            assertEquals("{\"id\": \"/v3/signatures/id.json\"}", body.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void testSequentialGetsAreNotShared() throws IOException {
+        release.countDown();
+
+        client.getSignature("id").close();
+        client.getSignature("id").close();
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void testDifferentUrlsAreNotShared() throws Exception {
+        List<Future<String>> first = submit("first");
+        List<Future<String>> second = submit("second");
+
+        awaitCoalesced(2 * (CALLERS - 1));
+        release.countDown();
+
+        assertEquals("{\"id\": \"/v3/signatures/first.json\"}", first.get(0).get(5, TimeUnit.SECONDS));
+        assertEquals("{\"id\": \"/v3/signatures/second.json\"}", second.get(0).get(5, TimeUnit.SECONDS));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testFailureIsShared() throws Exception {
+        List<Future<String>> bodies = submit("failing");
+
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> body : bodies) {
+            try {
+                body.get(5, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+        }
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testCancelledFollowerStopsWaiting() throws Exception {
+        List<Future<String>> bodies = submit("id");
+
+        awaitCoalesced(CALLERS - 1);
+
+        final Call follower = transport.newCall(
+                new Request.Builder()
+                        .url(server.url("/v3/signatures/id.json"))
+                        .header("Authorization", "Bearer token")
+                        .build()
+        );
+
+        FutureTask<Response> followerResponse = new FutureTask<Response>(
+                new Callable<Response>() {
+                    @Override
+                    public Response call() throws IOException {
+                        return follower.execute();
+                    }
+                }
+        );
+
+        new Thread(followerResponse).start();
+
+        awaitCoalesced(CALLERS);
+        follower.cancel();
+
+        try {
+            followerResponse.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+
+        release.countDown();
+
+        for (Future<String> body : bodies) {
+            assertEquals("{\"id\": \"/v3/signatures/id.json\"}", body.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertNull(SingleFlight.of(RequestHelper.newClient(new ClientOptions())));
+    }
+
+    private List<Future<String>> submit(final String id) {
+        List<Future<String>> bodies = new ArrayList<Future<String>>();
+
+        for (int i = 0; i < CALLERS; ++i) {
+            bodies.add(executor.submit(
+                    new Callable<String>() {
+                        @Override
+                        public String call() throws IOException {
+                            Response response = client.getSignature(id);
+
+                            try {
+                                return response.body().string();
+                            } finally {
+                                response.close();
+                            }
+                        }
+                    }
+            ));
+        }
+
+        return bodies;
+    }
+
+    private void awaitCoalesced(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (singleFlight.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -3,13 +3,18 @@ package com.signaturit.api.java_sdk;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.Test;
 
+import javax.net.ssl.SSLSocket;
 import java.io.IOException;
 import java.net.Socket;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
 
 public class TLSSocketFactoryTest {
 
@@ -36,4 +41,30 @@ public class TLSSocketFactoryTest {
 
         assertEquals(port, socket.getPort());
     }
+
+    @Test
+    public void testCreateSocketEnablesCipherList() throws IOException {
+        SSLSocket socket = (SSLSocket) factory.createSocket(hostname, port);
+
+        assertArrayEquals(new String[]{"TLSv1.2"}, socket.getEnabledProtocols());
+        assertArrayEquals(factory.getCipherList(), socket.getEnabledCipherSuites());
+    }
+
+    @Test
+    public void testModernPolicyEnablesTls13() throws IOException, NoSuchAlgorithmException, KeyManagementException {
+        TLSSocketFactory modern = new TLSSocketFactory(TlsPolicy.MODERN);
+        SSLSocket socket = (SSLSocket) modern.createSocket(hostname, port);
+
+        List<String> protocols = Arrays.asList(socket.getEnabledProtocols());
+
+        assertEquals(TlsPolicy.MODERN, modern.getPolicy());
+        assertTrue(protocols.contains("TLSv1.2"));
+        assertFalse(protocols.contains("TLSv1.1"));
+        assertArrayEquals(modern.getDefaultCipherSuites(), socket.getEnabledCipherSuites());
+    }
+
+    @Test
+    public void testCompatibilityPolicyIsDefault() {
+        assertEquals(TlsPolicy.COMPATIBILITY, factory.getPolicy());
+    }
 }
@@ -0,0 +1,113 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class UploadSourceTest {
+
+    private static final byte[] content = "%PDF-1.4 content".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testFile() throws IOException {
+        File file = new File("document.pdf");
+        UploadSource source = UploadSource.of(file);
+
+        assertEquals("document.pdf", source.getName());
+        assertEquals(file.length(), source.contentLength());
+        assertEquals(file.length(), write(source).size());
+    }
+
+    @Test
+    public void testPath() throws IOException {
+        Path path = Files.createTempFile("upload", ".pdf");
+        Files.write(path, content);
+
+        UploadSource source = UploadSource.of(path);
+
+        assertEquals(path.getFileName().toString(), source.getName());
+        assertEquals(content.length, source.contentLength());
+        assertEquals("%PDF-1.4 content", write(source).readUtf8());
+        assertFalse(source.toRequestBody().isOneShot());
+
+        Files.delete(path);
+    }
+
+    @Test
+    public void testInputStream() throws IOException {
+        UploadSource source = UploadSource.of("stream.pdf", new ByteArrayInputStream(content), content.length);
+
+        assertEquals(content.length, source.contentLength());
+        assertTrue(source.toRequestBody().isOneShot());
+        assertEquals("%PDF-1.4 content", write(source).readUtf8());
+    }
+
+    @Test
+    public void testInputStreamWithoutLength() throws IOException {
+        UploadSource source = UploadSource.of("stream.pdf", new ByteArrayInputStream(content));
+
+        assertEquals(-1, source.contentLength());
+        assertEquals(-1, source.toRequestBody().contentLength());
+        assertEquals("%PDF-1.4 content", write(source).readUtf8());
+    }
+
+    @Test
+    public void testDirectByteBuffer() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(content.length + 4);
+        buffer.put(new byte[]{0, 0, 0, 0});
+        buffer.put(content);
+        buffer.flip();
+        buffer.position(4);
+
+        UploadSource source = UploadSource.of("buffer.pdf", buffer);
+
+        assertEquals(content.length, source.contentLength());
+        assertEquals("%PDF-1.4 content", write(source).readUtf8());
+        assertEquals("%PDF-1.4 content", write(source).readUtf8());
+        assertEquals(4, buffer.position());
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        UploadSource source = UploadSource.of(
+                "channel.pdf",
+                Channels.newChannel(new ByteArrayInputStream(content)),
+                content.length
+        );
+
+        assertEquals(content.length, source.contentLength());
+        assertTrue(source.toRequestBody().isOneShot());
+        assertEquals("%PDF-1.4 content", write(source).readUtf8());
+    }
+
+    @Test
+    public void testFromFiles() {
+        List<File> files = new ArrayList<File>();
+        files.add(new File("document.pdf"));
+
+        assertNull(UploadSource.fromFiles(null));
+        assertEquals("document.pdf", UploadSource.fromFiles(files).get(0).getName());
+    }
+
+    private static Buffer write(UploadSource source) throws IOException {
+        RequestBody body = source.toRequestBody();
+        Buffer buffer = new Buffer();
+
+        body.writeTo(buffer);
+
+        return buffer;
+    }
+}
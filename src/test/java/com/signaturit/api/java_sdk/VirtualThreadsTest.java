@@ -0,0 +1,120 @@
+package com.signaturit.api.java_sdk;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class VirtualThreadsTest {
+
+    private static final MockWebServer server = new MockWebServer();
+    private static final Client client = new Client("token");
+
+    @BeforeClass
+    public static void executedBeforeAll() throws IOException, IllegalAccessException, NoSuchFieldException {
+        server.start();
+
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("fail")) {
+                            return new MockResponse().setResponseCode(500);
+                        }
+
+                        return new MockResponse().setResponseCode(200);
+                    }
+                }
+        );
+
+        Field field = client.getClass().getDeclaredField("url");
+        field.setAccessible(true);
+        field.set(client, server.url(Client.API_VERSION).toString());
+    }
+
+    @AfterClass
+    public static void executedAfterAll() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testInvokeAllOnPlatformThreads() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> futures = VirtualThreads.invokeAll(getOperations(50), 8);
+
+        assertResults(futures, 50);
+    }
+
+    @Test
+    public void testInvokeAllOnVirtualThreads() throws InterruptedException, ExecutionException {
+        if (!VirtualThreads.isSupported()) {
+            try {
+                VirtualThreads.invokeAll(getOperations(1));
+                fail();
+            } catch (UnsupportedOperationException e) {
+                return;
+            }
+        }
+
+        List<Future<Integer>> futures = VirtualThreads.invokeAll(getOperations(200));
+
+        assertResults(futures, 200);
+    }
+
+    @Test
+    public void testVirtualThreadsOption() {
+        if (VirtualThreads.isSupported()) {
+            assertTrue(new ClientOptions().setVirtualThreads(true).isVirtualThreads());
+        } else {
+            try {
+                new ClientOptions().setVirtualThreads(true);
+                fail();
+            } catch (UnsupportedOperationException e) {
+                assertFalse(new ClientOptions().isVirtualThreads());
+            }
+        }
+    }
+
+    private static List<Callable<Integer>> getOperations(int count) {
+        List<Callable<Integer>> operations = new ArrayList<Callable<Integer>>();
+
+        for (int i = 0; i < count; ++i) {
+            final String signatureId = i % 10 == 0 ? "fail" + i : "foo" + i;
+
+            operations.add(new Callable<Integer>() {
+                @Override
+                public Integer call() throws IOException {
+                    Response response = client.getSignature(signatureId);
+
+                    response.close();
+
+                    return response.code();
+                }
+            });
+        }
+
+        return operations;
+    }
+
+    private static void assertResults(List<Future<Integer>> futures, int count) throws InterruptedException, ExecutionException {
+        assertEquals(count, futures.size());
+
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i % 10 == 0 ? 500 : 200, (int) futures.get(i).get());
+        }
+    }
+}